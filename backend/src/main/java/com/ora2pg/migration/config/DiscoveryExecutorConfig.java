@@ -0,0 +1,33 @@
+package com.ora2pg.migration.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class DiscoveryExecutorConfig {
+    
+    /** Streamed discoveries running at once, each holding a source connection. */
+    private static final int MAX_RUNNING_DISCOVERIES = 4;
+    /** Discoveries waiting for a worker; beyond this, requests are rejected. */
+    private static final int MAX_QUEUED_DISCOVERIES = 16;
+    
+    /**
+     * Workers of the streaming table discovery endpoint.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService tableDiscoveryExecutor() {
+        AtomicInteger workerCount = new AtomicInteger();
+        return new ThreadPoolExecutor(MAX_RUNNING_DISCOVERIES, MAX_RUNNING_DISCOVERIES, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_DISCOVERIES), task -> {
+                Thread worker = new Thread(task, "table-discovery-" + workerCount.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            });
+    }
+}
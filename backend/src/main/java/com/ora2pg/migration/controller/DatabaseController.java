@@ -1,49 +1,167 @@
 package com.ora2pg.migration.controller;
 
+import com.ora2pg.migration.model.AppSettings;
+import com.ora2pg.migration.model.ColumnInfo;
 import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.DataTypeMappingRule;
+import com.ora2pg.migration.model.TableDiscoveryPage;
 import com.ora2pg.migration.model.TableInfo;
 import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.service.DataTypeMappingRuleService;
 import com.ora2pg.migration.service.DatabaseService;
+import com.ora2pg.migration.service.NumericProfilingService;
+import com.ora2pg.migration.service.SchemaMetadataCacheService;
 import com.ora2pg.migration.service.SettingsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/database")
 @CrossOrigin(origins = "*")
 public class DatabaseController {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    /** A streamed discovery still running after this long is abandoned. */
+    private static final long DISCOVERY_TIMEOUT_MS = 30 * 60 * 1000L;
+    
     @Autowired
     private DatabaseService databaseService;
     
     @Autowired
     private SettingsService settingsService;
     
+    @Autowired
+    private SchemaMetadataCacheService metadataCacheService;
+    
+    @Autowired
+    private NumericProfilingService numericProfilingService;
+    
+    @Autowired
+    private DataTypeMappingRuleService dataTypeMappingRuleService;
+    
+    @Autowired
+    private ExecutorService tableDiscoveryExecutor;
+    
     @PostMapping("/discover-tables")
     public ResponseEntity<List<TableInfo>> discoverTables(
             @RequestBody Map<String, Object> request) {
         try {
             ConnectionConfig config = convertToConnectionConfig((Map<String, Object>) request.get("connection"));
             String schema = (String) request.get("schema");
-            String tableNameFilter = (String) request.get("tableNameFilter");
+            String tableNameFilter = resolveTableNameFilter(request);
+            boolean includeRowCounts = !Boolean.FALSE.equals(request.get("includeRowCounts"));
             
-            // If no filter provided in request, get from settings
-            if (tableNameFilter == null || tableNameFilter.trim().isEmpty()) {
-                tableNameFilter = settingsService.getSettings().getTableNameFilter();
-            }
-            
-            List<TableInfo> tables = databaseService.discoverTables(config, schema, tableNameFilter);
+            List<TableInfo> tables = databaseService.discoverTables(config, schema, tableNameFilter, includeRowCounts);
             return ResponseEntity.ok(tables);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
     
+    /**
+     * Discover one page of tables, optionally restricted to a table name prefix
+     */
+    @PostMapping("/discover-tables/page")
+    public ResponseEntity<TableDiscoveryPage> discoverTablePage(
+            @RequestBody Map<String, Object> request) {
+        try {
+            @SuppressWarnings("unchecked")
+            ConnectionConfig config = convertToConnectionConfig((Map<String, Object>) request.get("connection"));
+            String schema = (String) request.get("schema");
+            String namePrefix = (String) request.get("namePrefix");
+            int offset = request.get("offset") != null ? ((Number) request.get("offset")).intValue() : 0;
+            int limit = request.get("limit") != null ? ((Number) request.get("limit")).intValue() : DEFAULT_PAGE_SIZE;
+            boolean includeRowCounts = !Boolean.FALSE.equals(request.get("includeRowCounts"));
+            
+            TableDiscoveryPage page = databaseService.discoverTablePage(config, schema, resolveTableNameFilter(request),
+                namePrefix, offset, limit, includeRowCounts);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Run discovery in the background and stream every table as a server-sent event as soon as
+     * it is complete. The work stops once the emitter completes, times out or the client is gone.
+     */
+    @PostMapping(value = "/discover-tables/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDiscoverTables(@RequestBody Map<String, Object> request) {
+        SseEmitter emitter = new SseEmitter(DISCOVERY_TIMEOUT_MS);
+        
+        @SuppressWarnings("unchecked")
+        ConnectionConfig config = convertToConnectionConfig((Map<String, Object>) request.get("connection"));
+        String schema = (String) request.get("schema");
+        String tableNameFilter = resolveTableNameFilter(request);
+        String namePrefix = (String) request.get("namePrefix");
+        boolean includeRowCounts = !Boolean.FALSE.equals(request.get("includeRowCounts"));
+        
+        AtomicBoolean finished = new AtomicBoolean();
+        Runnable discovery = () -> {
+            try {
+                List<TableInfo> tables = databaseService.discoverTables(config, schema, tableNameFilter, namePrefix,
+                    includeRowCounts, table -> {
+                        if (finished.get() || Thread.currentThread().isInterrupted()) {
+                            throw new CancellationException("Table discovery abandoned");
+                        }
+                        try {
+                            emitter.send(SseEmitter.event().name("table").data(table));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                emitter.send(SseEmitter.event().name("complete").data(Map.of("count", tables.size())));
+                emitter.complete();
+            } catch (Exception e) {
+                if (!finished.get()) {
+                    emitter.completeWithError(e);
+                }
+            }
+        };
+        
+        Future<?> task;
+        try {
+            task = tableDiscoveryExecutor.submit(discovery);
+        } catch (RejectedExecutionException e) {
+            emitter.completeWithError(new IllegalStateException("Too many table discoveries running, try again later"));
+            return emitter;
+        }
+        Runnable cancel = () -> {
+            finished.set(true);
+            task.cancel(true);
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+        
+        return emitter;
+    }
+    
+    private String resolveTableNameFilter(Map<String, Object> request) {
+        String tableNameFilter = (String) request.get("tableNameFilter");
+        
+        // If no filter provided in request, get from settings
+        if (tableNameFilter == null || tableNameFilter.trim().isEmpty()) {
+            tableNameFilter = settingsService.getSettings().getTableNameFilter();
+        }
+        return tableNameFilter;
+    }
+    
     @PostMapping("/auto-map")
     public ResponseEntity<List<TableMapping>> autoMapTables(
             @RequestBody Map<String, Object> request) {
@@ -57,18 +175,53 @@ public class DatabaseController {
                 .toList();
             
             // Get column naming strategy from settings
-            String columnNamingStrategy = settingsService.getSettings().getColumnNamingStrategy();
+            AppSettings settings = settingsService.getSettings();
+            String columnNamingStrategy = settings.getColumnNamingStrategy();
             if (columnNamingStrategy == null || columnNamingStrategy.isEmpty()) {
                 columnNamingStrategy = "lowercase"; // Default
             }
             
             List<TableMapping> mappings = databaseService.autoMapTables(sourceTables, targetSchema, columnNamingStrategy);
+            
+            // Profiling needs the source connection; without it NUMBER keeps mapping to NUMERIC
+            if (request.get("connection") != null && Boolean.TRUE.equals(settings.getNumericTypeInference())) {
+                @SuppressWarnings("unchecked")
+                ConnectionConfig source = convertToConnectionConfig((Map<String, Object>) request.get("connection"));
+                if ("oracle".equalsIgnoreCase(source.getType())) {
+                    List<DataTypeMappingRule> customRules = dataTypeMappingRuleService.getCustomRules();
+                    int sampleRows = settings.getNumericProfileSampleRows() != null
+                        ? settings.getNumericProfileSampleRows() : 100000;
+                    numericProfilingService.inferNumericTypes(source, mappings, customRules, sampleRows);
+                }
+            }
             return ResponseEntity.ok(mappings);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
     
+    /**
+     * Drop the cached dictionary metadata of a schema and reload its table structure
+     */
+    @PostMapping("/metadata-cache/refresh")
+    public ResponseEntity<Map<String, Object>> refreshMetadataCache(
+            @RequestBody Map<String, Object> request) {
+        try {
+            @SuppressWarnings("unchecked")
+            ConnectionConfig config = convertToConnectionConfig((Map<String, Object>) request.get("connection"));
+            String schema = (String) request.get("schema");
+            
+            long invalidated = metadataCacheService.invalidate(config, schema);
+            List<TableInfo> tables = databaseService.discoverTables(config, schema, null, false);
+            return ResponseEntity.ok(Map.of(
+                "invalidatedEntries", invalidated,
+                "tables", tables.size()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     private ConnectionConfig convertToConnectionConfig(Map<String, Object> map) {
         ConnectionConfig config = new ConnectionConfig();
         config.setType((String) map.get("type"));
@@ -89,7 +242,29 @@ public class DatabaseController {
         if (map.get("rowCount") != null) {
             table.setRowCount(((Number) map.get("rowCount")).longValue());
         }
+        List<ColumnInfo> columns = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> columnsData = (List<Map<String, Object>>) map.get("columns");
+        if (columnsData != null) {
+            for (Map<String, Object> columnData : columnsData) {
+                ColumnInfo column = new ColumnInfo();
+                column.setColumnName((String) columnData.get("columnName"));
+                column.setDataType((String) columnData.get("dataType"));
+                column.setDataLength(toInteger(columnData.get("dataLength")));
+                column.setDataPrecision(toInteger(columnData.get("dataPrecision")));
+                column.setDataScale(toInteger(columnData.get("dataScale")));
+                column.setNullable(!Boolean.FALSE.equals(columnData.get("nullable")));
+                column.setIsPrimaryKey(Boolean.TRUE.equals(columnData.get("isPrimaryKey")));
+                column.setIsForeignKey(Boolean.TRUE.equals(columnData.get("isForeignKey")));
+                columns.add(column);
+            }
+        }
+        table.setColumns(columns);
         return table;
     }
+    
+    private Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
 }
 
@@ -1,7 +1,10 @@
 package com.ora2pg.migration.controller;
 
+import com.ora2pg.migration.model.schema.SchemaApplyJob;
+import com.ora2pg.migration.model.schema.SchemaApplyRequest;
 import com.ora2pg.migration.model.schema.SchemaMigrationRequest;
 import com.ora2pg.migration.model.schema.SchemaObject;
+import com.ora2pg.migration.service.SchemaApplyService;
 import com.ora2pg.migration.service.SchemaMigrationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,9 @@ public class SchemaController {
     @Autowired
     private SchemaMigrationService schemaMigrationService;
     
+    @Autowired
+    private SchemaApplyService schemaApplyService;
+    
     /**
      * Generate DDL for schema objects
      */
@@ -77,5 +83,28 @@ public class SchemaController {
             return ResponseEntity.internalServerError().build();
         }
     }
+    
+    /**
+     * Apply generated DDL to the target database as a background job
+     */
+    @PostMapping("/apply")
+    public ResponseEntity<SchemaApplyJob> startApply(@RequestBody SchemaApplyRequest request) {
+        try {
+            return ResponseEntity.ok(schemaApplyService.startApply(request));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Get the status and per-step timings of a DDL apply job
+     */
+    @GetMapping("/apply/jobs/{jobId}")
+    public ResponseEntity<SchemaApplyJob> getApplyJob(@PathVariable String jobId) {
+        SchemaApplyJob job = schemaApplyService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
 }
-
@@ -1,16 +1,39 @@
 package com.ora2pg.migration.controller;
 
 import com.ora2pg.migration.model.*;
+import com.ora2pg.migration.model.validation.BucketValidationRequest;
+import com.ora2pg.migration.model.validation.BucketValidationResult;
 import com.ora2pg.migration.model.validation.ChecksumResult;
+import com.ora2pg.migration.model.validation.ColumnProfileResult;
 import com.ora2pg.migration.model.validation.DryRunResult;
+import com.ora2pg.migration.model.validation.FingerprintValidationResult;
+import com.ora2pg.migration.model.validation.RowDiffJob;
+import com.ora2pg.migration.model.validation.RowDiffRequest;
+import com.ora2pg.migration.model.validation.SampledValidationRequest;
+import com.ora2pg.migration.model.validation.SampledValidationResult;
 import com.ora2pg.migration.model.validation.ValidationRequest;
+import com.ora2pg.migration.model.validation.ValidationRunResult;
+import com.ora2pg.migration.service.BucketValidationService;
+import com.ora2pg.migration.service.ChunkFingerprintService;
 import com.ora2pg.migration.service.DataValidationService;
+import com.ora2pg.migration.service.RowDiffService;
+import com.ora2pg.migration.service.SampledValidationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/validation")
@@ -20,6 +43,18 @@ public class ValidationController {
     @Autowired
     private DataValidationService validationService;
     
+    @Autowired
+    private BucketValidationService bucketValidationService;
+    
+    @Autowired
+    private RowDiffService rowDiffService;
+    
+    @Autowired
+    private SampledValidationService sampledValidationService;
+    
+    @Autowired
+    private ChunkFingerprintService chunkFingerprintService;
+    
     /**
      * Compare row counts between source and target tables
      */
@@ -52,6 +87,7 @@ public class ValidationController {
         try {
             List<String> tableNames = null;
             String algorithm = "MD5";
+            String mode = DataValidationService.MODE_STREAM;
             List<String> columnsToInclude = null;
             
             if (request != null) {
@@ -68,16 +104,152 @@ public class ValidationController {
                     List<String> columns = (List<String>) request.get("columnsToInclude");
                     columnsToInclude = columns;
                 }
+                if (request.get("mode") != null) {
+                    mode = (String) request.get("mode");
+                }
+            }
+            
+            List<ChecksumResult> results = DataValidationService.MODE_AGGREGATE.equalsIgnoreCase(mode)
+                ? validationService.compareAggregateChecksums(projectId, tableNames, columnsToInclude)
+                : validationService.compareChecksums(projectId, tableNames, algorithm, columnsToInclude);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Hierarchical bucket validation that drills down to the key ranges that differ.
+     * Pass previously reported ranges to re-validate only those.
+     */
+    @PostMapping("/buckets/{projectId}")
+    public ResponseEntity<List<BucketValidationResult>> validateBuckets(
+            @PathVariable String projectId,
+            @RequestBody(required = false) BucketValidationRequest request) {
+        try {
+            List<BucketValidationResult> results = bucketValidationService.validateBuckets(projectId, request);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Column-profile validation: one aggregate query per table and side, compared column by column
+     */
+    @PostMapping("/profile/{projectId}")
+    public ResponseEntity<List<ColumnProfileResult>> compareColumnProfiles(
+            @PathVariable String projectId,
+            @RequestBody(required = false) Map<String, Object> request) {
+        try {
+            List<String> tableNames = null;
+            List<String> columnsToInclude = null;
+            
+            if (request != null) {
+                @SuppressWarnings("unchecked")
+                List<String> tables = (List<String>) request.get("tableNames");
+                tableNames = tables;
+                
+                @SuppressWarnings("unchecked")
+                List<String> columns = (List<String>) request.get("columnsToInclude");
+                columnsToInclude = columns;
+            }
+            
+            List<ColumnProfileResult> results = validationService.compareColumnProfiles(
+                projectId, tableNames, columnsToInclude);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Compare the per-chunk fingerprints recorded during migration with checksums computed in the target
+     */
+    @PostMapping("/fingerprints/{projectId}")
+    public ResponseEntity<List<FingerprintValidationResult>> validateFingerprints(
+            @PathVariable String projectId,
+            @RequestBody(required = false) Map<String, Object> request) {
+        try {
+            List<String> tableNames = null;
+            if (request != null && request.containsKey("tableNames")) {
+                @SuppressWarnings("unchecked")
+                List<String> tables = (List<String>) request.get("tableNames");
+                tableNames = tables;
             }
             
-            List<ChecksumResult> results = validationService.compareChecksums(
-                projectId, tableNames, algorithm, columnsToInclude);
+            List<FingerprintValidationResult> results = chunkFingerprintService.validateFingerprints(projectId, tableNames);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Sampled validation: compare a random sample of rows and estimate the table-wide error rate
+     */
+    @PostMapping("/sample/{projectId}")
+    public ResponseEntity<List<SampledValidationResult>> validateSample(
+            @PathVariable String projectId,
+            @RequestBody(required = false) SampledValidationRequest request) {
+        try {
+            List<SampledValidationResult> results = sampledValidationService.validateSample(projectId, request);
             return ResponseEntity.ok(results);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
     
+    /**
+     * Start a row-level diff job (streaming sorted merge of source and target by primary key)
+     */
+    @PostMapping("/diff/{projectId}")
+    public ResponseEntity<RowDiffJob> startRowDiff(
+            @PathVariable String projectId,
+            @RequestBody(required = false) RowDiffRequest request) {
+        try {
+            return ResponseEntity.ok(rowDiffService.startDiff(projectId, request));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Get the status and per-table results of a row diff job
+     */
+    @GetMapping("/diff/jobs/{jobId}")
+    public ResponseEntity<RowDiffJob> getRowDiffJob(@PathVariable String jobId) {
+        RowDiffJob job = rowDiffService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+    
+    /**
+     * Download the diff report (NDJSON) or repair script (SQL) of a table in a row diff job
+     */
+    @GetMapping("/diff/jobs/{jobId}/files")
+    public ResponseEntity<Resource> downloadRowDiffFile(
+            @PathVariable String jobId,
+            @RequestParam String table,
+            @RequestParam(defaultValue = "report") String type) {
+        Path file = rowDiffService.getJobFile(jobId, table, type);
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType("repair".equalsIgnoreCase(type)
+            ? MediaType.parseMediaType("application/sql; charset=UTF-8")
+            : MediaType.parseMediaType("application/x-ndjson; charset=UTF-8"));
+        headers.setContentDispositionFormData("attachment", file.getFileName().toString());
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(new FileSystemResource(file));
+    }
+    
     /**
      * Perform dry-run simulation
      */
@@ -108,33 +280,60 @@ public class ValidationController {
             @PathVariable String projectId,
             @RequestBody(required = false) ValidationRequest request) {
         try {
-            List<String> tableNames = null;
-            String algorithm = "MD5";
-            List<String> columnsToInclude = null;
-            
-            if (request != null) {
-                tableNames = request.getTableNames();
-                algorithm = request.getChecksumAlgorithm() != null ? request.getChecksumAlgorithm() : "MD5";
-                columnsToInclude = request.getColumnsToInclude();
-            }
-            
-            List<RowCountResult> rowCountResults = validationService.compareRowCounts(projectId, tableNames);
-            List<ChecksumResult> checksumResults = validationService.compareChecksums(
-                projectId, tableNames, algorithm, columnsToInclude);
-            
-            List<DryRunResult> dryRunResults = null;
-            if (request == null || request.getIncludeDryRun() == null || request.getIncludeDryRun()) {
-                dryRunResults = validationService.performDryRun(projectId, tableNames);
-            }
+            ValidationRunResult result = validationService.runValidations(
+                projectId, request, resolveValidationTypes(request), null);
             
             return ResponseEntity.ok(Map.of(
-                "rowCount", rowCountResults,
-                "checksum", checksumResults,
-                "dryRun", dryRunResults != null ? dryRunResults : List.of()
+                "rowCount", result.getRowCount(),
+                "checksum", result.getChecksum(),
+                "dryRun", result.getDryRun(),
+                "columnProfile", result.getColumnProfile()
             ));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
+    
+    /**
+     * Run all validations and stream each table result as a server-sent event as soon as it is ready
+     */
+    @PostMapping(value = "/all/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAllValidations(
+            @PathVariable String projectId,
+            @RequestBody(required = false) ValidationRequest request) {
+        SseEmitter emitter = new SseEmitter(0L);
+        
+        Thread validationThread = new Thread(() -> {
+            try {
+                validationService.runValidations(projectId, request, resolveValidationTypes(request),
+                    (type, result) -> {
+                        try {
+                            emitter.send(SseEmitter.event().name(type.name().toLowerCase()).data(result));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                emitter.send(SseEmitter.event().name("complete").data(Map.of("projectId", projectId)));
+                emitter.complete();
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        });
+        validationThread.setName("validation-" + projectId);
+        validationThread.start();
+        
+        return emitter;
+    }
+    
+    private Set<DataValidationService.ValidationType> resolveValidationTypes(ValidationRequest request) {
+        Set<DataValidationService.ValidationType> types = EnumSet.of(
+            DataValidationService.ValidationType.ROW_COUNT, DataValidationService.ValidationType.CHECKSUM);
+        if (request == null || request.getIncludeDryRun() == null || request.getIncludeDryRun()) {
+            types.add(DataValidationService.ValidationType.DRY_RUN);
+        }
+        if (request != null && Boolean.TRUE.equals(request.getIncludeColumnProfile())) {
+            types.add(DataValidationService.ValidationType.COLUMN_PROFILE);
+        }
+        return types;
+    }
 }
-
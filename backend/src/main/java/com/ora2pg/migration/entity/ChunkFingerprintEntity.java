@@ -0,0 +1,52 @@
+package com.ora2pg.migration.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chunk ledger entry: order-independent fingerprint of the source rows copied for one
+ * partition-key range (or the whole table when the copy was not chunked).
+ */
+@Entity
+@Table(name = "chunk_fingerprints", indexes = {
+    @Index(name = "idx_chunk_fingerprints_table", columnList = "project_id, table_mapping_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkFingerprintEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+    
+    @Column(name = "project_id", nullable = false)
+    private String projectId;
+    
+    @Column(name = "table_mapping_id", nullable = false)
+    private String tableMappingId;
+    
+    @Column(name = "source_table", nullable = false)
+    private String sourceTable;
+    
+    @Column(name = "start_key")
+    private Long startKey; // inclusive, null when the table was copied in one pass
+    
+    @Column(name = "end_key")
+    private Long endKey; // inclusive
+    
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+    
+    @Column(name = "hash_sum", nullable = false, length = 16)
+    private String hashSum; // sum of 64-bit row hashes modulo 2^64, hex
+    
+    @Column(name = "column_list", nullable = false, columnDefinition = "TEXT")
+    private String columnList; // comma-separated source columns included in the fingerprint
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -57,6 +57,9 @@ public class ColumnMappingEntity {
     @Column(nullable = false)
     private Boolean isForeignKey = false;
     
+    @Column(columnDefinition = "TEXT")
+    private String typeEvidence;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "table_mapping_id", nullable = false)
     private TableMappingEntity tableMapping;
@@ -0,0 +1,40 @@
+package com.ora2pg.migration.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted dictionary metadata (tables, columns, indexes, constraints, sequences) of one schema,
+ * valid as long as the DDL watermark of the schema has not moved.
+ */
+@Entity
+@Table(name = "schema_metadata_cache", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_schema_metadata_cache_section", columnNames = {"cache_key", "section"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaMetadataCacheEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+    
+    @Column(name = "cache_key", nullable = false, length = 500)
+    private String cacheKey; // connection identity and schema
+    
+    @Column(nullable = false)
+    private String section; // "tables:<filter>", "indexes", "constraints", "sequences", "columns:<table>"
+    
+    @Column(name = "ddl_watermark", nullable = false)
+    private String ddlWatermark; // last DDL time and object count of the schema when the entry was loaded
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
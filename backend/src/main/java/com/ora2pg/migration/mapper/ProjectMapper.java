@@ -183,6 +183,7 @@ public class ProjectMapper {
         mapping.setNullable(entity.getNullable());
         mapping.setIsPrimaryKey(entity.getIsPrimaryKey());
         mapping.setIsForeignKey(entity.getIsForeignKey());
+        mapping.setTypeEvidence(entity.getTypeEvidence());
         return mapping;
     }
     
@@ -205,6 +206,7 @@ public class ProjectMapper {
         entity.setNullable(model.getNullable() != null ? model.getNullable() : true);
         entity.setIsPrimaryKey(model.getIsPrimaryKey() != null ? model.getIsPrimaryKey() : false);
         entity.setIsForeignKey(model.getIsForeignKey() != null ? model.getIsForeignKey() : false);
+        entity.setTypeEvidence(model.getTypeEvidence());
         entity.setTableMapping(tableMapping);
         return entity;
     }
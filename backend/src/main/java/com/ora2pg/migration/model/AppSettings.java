@@ -12,6 +12,14 @@ public class AppSettings {
     private Integer parallelJobs;
     private Integer batchSize;
     private Integer commitInterval;
+    private String countStrategy; // "exact", "statistics", "sampled" - used for discovery and progress totals
+    private Double countSamplePercent; // percent of blocks read by the "sampled" strategy
+    private Integer indexBuildWorkers; // parallel index/constraint builds when applying schema DDL
+    private String maintenanceWorkMem; // per-session maintenance_work_mem for index builds, e.g. "1GB"
+    private Integer lobStreamThresholdKb; // LOBs larger than this are streamed and close their batch
+    private Integer lobBatchMemoryMb; // LOB bytes bound to one insert batch before it is flushed
+    private Boolean oracleNativeAccessors; // Decode NUMBER and DATE from their Oracle byte form instead of getObject()
+    private Boolean columnarBatches; // Read whole insert batches into reused column vectors before binding them
     
     // SMTP Configuration
     private Boolean smtpEnabled;
@@ -37,8 +45,21 @@ public class AppSettings {
     private Integer maxErrors;
     private Boolean autoCommit; // Control auto-commit mode for target database
     private String columnNamingStrategy; // "lowercase", "uppercase", "original", "camelCase", "snake_case", "pascalCase"
+    private Boolean inlineFingerprints; // Record per-chunk source fingerprints while copying
+    private Boolean fastLoad; // Drop target indexes and keys during the load and rebuild them afterwards
+    private Boolean unloggedLoad; // Load into UNLOGGED target tables and switch them to LOGGED afterwards
+    private Boolean partitionedTargets; // Recreate Oracle partitioning as PostgreSQL declarative partitioning
+    private Boolean stagedChunkLoad; // Load each chunk into its own staging table and attach it as a range partition
+    private Boolean lobSecondPass; // Load non-LOB columns first and fill LOB columns in a second pass by primary key
+    private Integer lobPassWorkers; // Parallel slices per table in the LOB pass
+    private Integer lobPrefetchSize; // Oracle LOB prefetch size in bytes for the LOB pass
+    private Boolean postLoadAnalyze; // ANALYZE the loaded tables once the migration completes
+    private Boolean postLoadVacuumFreeze; // VACUUM (FREEZE) the loaded tables, implies ANALYZE
+    private Boolean syncSequences; // Reset sequences to max(column) + 1 of the columns they feed
     
     // Table Discovery
     private String tableNameFilter; // SQL LIKE pattern for filtering tables (e.g., "TRADE_%")
+    private Boolean numericTypeInference; // Right-size unconstrained NUMBER columns from sampled data during auto-map
+    private Integer numericProfileSampleRows; // Rows sampled per table by numeric type inference
 }
 
@@ -23,5 +23,6 @@ public class ColumnMapping {
     private Boolean nullable;
     private Boolean isPrimaryKey;
     private Boolean isForeignKey;
+    private String typeEvidence; // Sampled data behind an inferred target type
 }
 
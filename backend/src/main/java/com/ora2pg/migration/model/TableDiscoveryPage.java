@@ -0,0 +1,18 @@
+package com.ora2pg.migration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableDiscoveryPage {
+    private List<TableInfo> tables;
+    private Integer offset;
+    private Integer limit;
+    private Integer total; // tables matching the filter and prefix
+    private Boolean hasMore;
+}
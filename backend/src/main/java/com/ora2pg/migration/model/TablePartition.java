@@ -0,0 +1,14 @@
+package com.ora2pg.migration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TablePartition {
+    private String partitionName;
+    private Integer position;
+    private String highValue; // Oracle HIGH_VALUE text: exclusive range bound, list values, or empty for hash
+}
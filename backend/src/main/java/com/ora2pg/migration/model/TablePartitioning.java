@@ -0,0 +1,20 @@
+package com.ora2pg.migration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TablePartitioning {
+    private String tableName;
+    private String partitioningType; // "RANGE", "LIST" or "HASH"
+    private String subpartitioningType; // "NONE" unless composite; subpartitions are loaded with their partition
+    private Boolean interval; // Oracle interval partitioning, new partitions appear on insert
+    private List<String> keyColumns = new ArrayList<>(); // Source partition key columns in order
+    private List<TablePartition> partitions = new ArrayList<>(); // In partition_position order
+}
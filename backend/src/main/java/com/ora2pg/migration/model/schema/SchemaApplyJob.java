@@ -0,0 +1,23 @@
+package com.ora2pg.migration.model.schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaApplyJob {
+    private String jobId;
+    private String projectId;
+    private String status; // "running", "completed", "error"
+    private String currentStage;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<SchemaApplyStep> steps = new CopyOnWriteArrayList<>();
+    private String errorMessage;
+}
@@ -0,0 +1,25 @@
+package com.ora2pg.migration.model.schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaApplyRequest {
+    private String projectId;
+    private String targetSchema;
+    private List<String> tableNames; // Optional: specific tables only
+    private Boolean includeSequences;
+    private Boolean createTables; // Create the mapped target tables
+    private Boolean loadData; // Run the data migration between tables and indexes
+    private Boolean includeIndexes;
+    private Boolean includeConstraints;
+    private Boolean includeViews;
+    private Integer indexWorkers; // Overrides the indexBuildWorkers setting
+    private String maintenanceWorkMem; // Overrides the maintenanceWorkMem setting
+    private Boolean stopOnError; // Stop at the first failed statement instead of finishing the stage
+}
@@ -0,0 +1,21 @@
+package com.ora2pg.migration.model.schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaApplyStep {
+    private String stage; // "sequences", "tables", "data", "indexes", "constraints", "views"
+    private String name; // Object name, or the stage name for tables/data
+    private String type; // SchemaObject type
+    private String tableName;
+    private String status; // "pending", "running", "completed", "error", "skipped"
+    private LocalDateTime startTime;
+    private Long durationMs;
+    private String errorMessage;
+}
@@ -19,6 +19,8 @@ public class SchemaObject {
     private List<String> issues;
     private String sourceDdl; // Original Oracle DDL
     private String targetSchema; // Target PostgreSQL schema
+    private String tableName; // Target table an index or constraint belongs to
+    private String constraintType; // "PRIMARY KEY", "FOREIGN KEY", "UNIQUE", "CHECK" for constraints
     
     public SchemaObject(String name, String schema, String type) {
         this.name = name;
@@ -0,0 +1,15 @@
+package com.ora2pg.migration.model.schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SequenceColumn {
+    private String sequenceName;
+    private String tableName;
+    private String columnName;
+    private String source; // "identity" or "trigger"
+}
@@ -0,0 +1,21 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateChecksum {
+    private Long rowCount;
+    private BigInteger hashSum; // sum of 64-bit row hashes modulo 2^64
+    
+    @Override
+    public String toString() {
+        String hex = hashSum != null ? hashSum.toString(16) : "0";
+        return rowCount + ":" + "0".repeat(Math.max(0, 16 - hex.length())) + hex;
+    }
+}
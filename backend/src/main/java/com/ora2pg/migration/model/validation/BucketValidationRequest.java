@@ -0,0 +1,20 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketValidationRequest {
+    private List<String> tableNames; // null or empty means all tables
+    private List<String> columnsToInclude; // null or empty means all mapped columns
+    private Integer bucketCount; // buckets per subdivision level, default 16
+    private Long leafSize; // stop subdividing once a bucket holds at most this many rows, default 10000
+    private Integer maxDepth; // safety limit on subdivision levels, default 12
+    private Integer parallelism; // concurrent bucket queries per table, default 4
+    private List<KeyRange> ranges; // optional: only re-validate these key ranges
+}
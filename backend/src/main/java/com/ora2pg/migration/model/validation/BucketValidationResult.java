@@ -0,0 +1,27 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketValidationResult {
+    private String table;
+    private String sourceSchema;
+    private String targetSchema;
+    private String keyColumn;
+    private Long sourceRows;
+    private Long targetRows;
+    private Integer bucketsCompared;
+    private Integer levels;
+    private List<MismatchedRange> mismatchedRanges = new ArrayList<>();
+    private Boolean match;
+    private String status; // "valid", "invalid", "error"
+    private String errorMessage;
+    private Long durationMs;
+}
@@ -14,7 +14,8 @@ public class ChecksumResult {
     private String sourceChecksum;
     private String targetChecksum;
     private Boolean match;
-    private String algorithm; // "MD5", "SHA256", "SHA512"
+    private String algorithm; // "MD5", "SHA256", "SHA512", "MD5-SUM64"
+    private String mode; // "stream", "aggregate"
     private String status; // "valid", "invalid", "error"
     private String errorMessage;
     private Long rowCount;
@@ -0,0 +1,17 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnProfile {
+    private Long nonNullCount;
+    private String min; // normalized text, numbers/dates/text only
+    private String max;
+    private String sum; // numeric columns only
+    private Long totalLength; // characters for text/CLOB, bytes for RAW/BLOB
+    private Long distinctEstimate;
+}
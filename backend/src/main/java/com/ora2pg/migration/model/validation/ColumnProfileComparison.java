@@ -0,0 +1,21 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnProfileComparison {
+    private String sourceColumn;
+    private String targetColumn;
+    private String kind; // normalization applied, e.g. "NUMBER", "TEXT"
+    private ColumnProfile source;
+    private ColumnProfile target;
+    private List<String> mismatches = new ArrayList<>(); // "nonNullCount", "min", "max", "sum", "totalLength", "distinctEstimate"
+    private Boolean match;
+}
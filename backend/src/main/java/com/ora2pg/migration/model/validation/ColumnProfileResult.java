@@ -0,0 +1,24 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnProfileResult {
+    private String table;
+    private String sourceSchema;
+    private String targetSchema;
+    private Long sourceRows;
+    private Long targetRows;
+    private List<ColumnProfileComparison> columns = new ArrayList<>();
+    private Boolean distinctAvailable; // false when a side had no distinct estimator and distinct counts were not compared
+    private Boolean match;
+    private String status; // "valid", "invalid", "error"
+    private String errorMessage;
+}
@@ -0,0 +1,25 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FingerprintValidationResult {
+    private String table;
+    private String sourceSchema;
+    private String targetSchema;
+    private String partitionColumn; // null when the table was copied in one pass
+    private Integer chunksCompared;
+    private Long sourceRows; // from the chunk ledger
+    private Long targetRows;
+    private List<MismatchedRange> mismatchedChunks = new ArrayList<>(); // chunks to reload
+    private Boolean match;
+    private String status; // "valid", "invalid", "unavailable", "error"
+    private String errorMessage;
+}
@@ -0,0 +1,14 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeyRange {
+    private String table; // source table the range belongs to (used when re-validating)
+    private Long startKey; // inclusive
+    private Long endKey; // inclusive
+}
@@ -0,0 +1,18 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MismatchedRange {
+    private Long startKey; // inclusive
+    private Long endKey; // inclusive
+    private Long sourceRows;
+    private Long targetRows;
+    private String sourceChecksum;
+    private String targetChecksum;
+    private Integer depth; // subdivision level the range was isolated at
+}
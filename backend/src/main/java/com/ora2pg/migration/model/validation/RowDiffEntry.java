@@ -0,0 +1,17 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowDiffEntry {
+    private String type; // "missing" (source only), "extra" (target only), "changed"
+    private Map<String, String> key; // source key column -> normalized key value
+    private List<String> columns; // differing source columns, for "changed" rows
+}
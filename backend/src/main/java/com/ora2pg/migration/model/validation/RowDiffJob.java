@@ -0,0 +1,22 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowDiffJob {
+    private String jobId;
+    private String projectId;
+    private String status; // "running", "completed", "error"
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<RowDiffResult> tables = new ArrayList<>();
+    private String errorMessage;
+}
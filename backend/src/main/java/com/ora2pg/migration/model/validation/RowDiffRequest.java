@@ -0,0 +1,18 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowDiffRequest {
+    private List<String> tableNames; // null or empty means all tables
+    private List<String> columnsToInclude; // null or empty means all mapped columns
+    private Integer fetchSize; // rows fetched per round trip on each side, default 10000
+    private Integer sampleSize; // diff entries kept in the job result, default 50
+    private List<KeyRange> ranges; // optional: restrict to key ranges (single numeric key only)
+}
@@ -0,0 +1,29 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowDiffResult {
+    private String table;
+    private String sourceSchema;
+    private String targetSchema;
+    private List<String> keyColumns;
+    private Long sourceRows;
+    private Long targetRows;
+    private Long missingRows; // present in source only
+    private Long extraRows; // present in target only
+    private Long changedRows;
+    private String reportFile; // NDJSON, one RowDiffEntry per line
+    private String repairScriptFile; // SQL to apply on the target
+    private List<RowDiffEntry> sample = new CopyOnWriteArrayList<>(); // appended by the worker while the job is polled
+    private String status; // "pending", "running", "valid", "invalid", "error"
+    private String errorMessage;
+    private Long durationMs;
+}
@@ -0,0 +1,20 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SampledValidationRequest {
+    private List<String> tableNames; // null or empty means all tables
+    private List<String> columnsToInclude; // null or empty means all mapped columns
+    private Integer sampleSize; // rows sampled per table, default 1000
+    private Integer batchSize; // keys per lookup query, default 500
+    private String method; // "block" (SAMPLE BLOCK / TABLESAMPLE) or "keyrange" (random keys, single numeric key)
+    private Double confidenceLevel; // for the error rate upper bound, default 0.95
+    private Integer seed; // optional: makes the sample repeatable
+}
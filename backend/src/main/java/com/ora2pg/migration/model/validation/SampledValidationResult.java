@@ -0,0 +1,35 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SampledValidationResult {
+    private String table;
+    private String sourceSchema;
+    private String targetSchema;
+    private List<String> keyColumns = new ArrayList<>();
+    private String method;
+    private Long estimatedRows; // source row estimate used to size the sample
+    private Integer requestedSamples;
+    private Integer sampledRows;
+    private Integer mismatchedRows; // sampled rows missing on target or with differing values
+    private Integer missingRows; // sampled rows not found on target
+    private Map<String, Integer> mismatchesByColumn = new LinkedHashMap<>();
+    private List<RowDiffEntry> sample = new ArrayList<>();
+    private Double errorRate; // mismatchedRows / sampledRows
+    private Double errorRateUpperBound; // Wilson score upper bound at confidenceLevel
+    private Double confidenceLevel;
+    private Long estimatedMismatchedRows; // errorRateUpperBound * estimatedRows
+    private String status; // "valid", "invalid", "error"
+    private String errorMessage;
+    private Long durationMs;
+}
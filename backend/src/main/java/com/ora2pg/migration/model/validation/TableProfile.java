@@ -0,0 +1,18 @@
+package com.ora2pg.migration.model.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableProfile {
+    private Long rowCount;
+    private List<ColumnProfile> columns = new ArrayList<>();
+    private Boolean distinctApproximate; // true when the distinct counts are estimates
+    private Boolean distinctAvailable; // false when there is no cheap distinct estimator; the counts are then null
+}
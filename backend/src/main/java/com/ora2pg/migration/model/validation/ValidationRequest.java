@@ -13,7 +13,11 @@ public class ValidationRequest {
     private String projectId;
     private List<String> tableNames; // null or empty means all tables
     private String checksumAlgorithm; // "MD5", "SHA256", "SHA512"
+    private String checksumMode; // "stream" (default) or "aggregate" (in-database, order-independent)
     private List<String> columnsToInclude; // null or empty means all columns
     private Boolean includeDryRun;
+    private Boolean includeColumnProfile; // per-column profile comparison, default false
+    private Integer sourceConcurrency; // concurrent queries against the source database, default 4
+    private Integer targetConcurrency; // concurrent queries against the target database, default 4
 }
 
@@ -0,0 +1,19 @@
+package com.ora2pg.migration.model.validation;
+
+import com.ora2pg.migration.model.RowCountResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidationRunResult {
+    private List<RowCountResult> rowCount = new ArrayList<>();
+    private List<ChecksumResult> checksum = new ArrayList<>();
+    private List<DryRunResult> dryRun = new ArrayList<>();
+    private List<ColumnProfileResult> columnProfile = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.ora2pg.migration.repository;
+
+import com.ora2pg.migration.entity.ChunkFingerprintEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChunkFingerprintRepository extends JpaRepository<ChunkFingerprintEntity, String> {
+    List<ChunkFingerprintEntity> findByProjectIdAndTableMappingIdOrderByStartKeyAsc(String projectId, String tableMappingId);
+    void deleteByProjectIdAndTableMappingId(String projectId, String tableMappingId);
+}
@@ -0,0 +1,13 @@
+package com.ora2pg.migration.repository;
+
+import com.ora2pg.migration.entity.SchemaMetadataCacheEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SchemaMetadataCacheRepository extends JpaRepository<SchemaMetadataCacheEntity, String> {
+    Optional<SchemaMetadataCacheEntity> findByCacheKeyAndSection(String cacheKey, String section);
+    long deleteByCacheKey(String cacheKey);
+}
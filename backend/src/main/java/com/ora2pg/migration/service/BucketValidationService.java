@@ -0,0 +1,331 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.Project;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.validation.AggregateChecksum;
+import com.ora2pg.migration.model.validation.BucketValidationRequest;
+import com.ora2pg.migration.model.validation.BucketValidationResult;
+import com.ora2pg.migration.model.validation.KeyRange;
+import com.ora2pg.migration.model.validation.MismatchedRange;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Hierarchical (Merkle-style) validation. The key space of a table is split into buckets whose
+ * aggregate checksums are computed in both databases; only mismatching buckets are subdivided
+ * further until they are small enough to report as a suspect key range.
+ */
+@Slf4j
+@Service
+public class BucketValidationService {
+    
+    private static final int DEFAULT_BUCKET_COUNT = 16;
+    private static final long DEFAULT_LEAF_SIZE = 10_000L;
+    private static final int DEFAULT_MAX_DEPTH = 12;
+    private static final int DEFAULT_PARALLELISM = 4;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private ProjectService projectService;
+    
+    @Autowired
+    private DataValidationService dataValidationService;
+    
+    @Autowired
+    private ValidationSqlBuilder sqlBuilder;
+    
+    private static class PendingRange {
+        private final long startKey;
+        private final long endKey;
+        private final int depth;
+        
+        private PendingRange(long startKey, long endKey, int depth) {
+            this.startKey = startKey;
+            this.endKey = endKey;
+            this.depth = depth;
+        }
+    }
+    
+    /**
+     * Validate tables bucket by bucket and return the key ranges that differ.
+     */
+    public List<BucketValidationResult> validateBuckets(String projectId, BucketValidationRequest request) {
+        BucketValidationRequest options = request != null ? request : new BucketValidationRequest();
+        List<BucketValidationResult> results = new ArrayList<>();
+        
+        Project project = projectService.getProjectById(projectId);
+        if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
+            throw new RuntimeException("Source or target connection not configured");
+        }
+        
+        List<TableMapping> tableMappings = dataValidationService.resolveTableMappings(project, options.getTableNames());
+        int parallelism = positiveOrDefault(options.getParallelism(), DEFAULT_PARALLELISM);
+        // One thread per side so source and target bucket queries run together
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism * 2);
+        try {
+            for (TableMapping mapping : tableMappings) {
+                results.add(validateTable(project, mapping, options, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+    
+    BucketValidationResult validateTable(Project project, TableMapping mapping, BucketValidationRequest options,
+                                         ExecutorService executor) {
+        long started = System.currentTimeMillis();
+        BucketValidationResult result = new BucketValidationResult();
+        result.setTable(mapping.getSourceTable());
+        result.setSourceSchema(mapping.getSourceSchema());
+        result.setTargetSchema(mapping.getTargetSchema());
+        
+        try {
+            ColumnMapping keyColumn = resolveKeyColumn(mapping);
+            result.setKeyColumn(keyColumn.getSourceColumn());
+            
+            List<ColumnMapping> columns = dataValidationService.resolveChecksumColumns(
+                mapping, options.getColumnsToInclude(), null);
+            ConnectionConfig source = project.getSourceConnection();
+            ConnectionConfig target = project.getTargetConnection();
+            String sourceRow = dataValidationService.buildRowString(source.getType(), columns, true);
+            String targetRow = dataValidationService.buildRowString(target.getType(), columns, false);
+            
+            int bucketCount = Math.max(2, positiveOrDefault(options.getBucketCount(), DEFAULT_BUCKET_COUNT));
+            long leafSize = options.getLeafSize() != null && options.getLeafSize() > 0
+                ? options.getLeafSize() : DEFAULT_LEAF_SIZE;
+            int maxDepth = positiveOrDefault(options.getMaxDepth(), DEFAULT_MAX_DEPTH);
+            
+            List<PendingRange> pending = resolveInitialRanges(project, mapping, keyColumn, options, executor);
+            boolean fullTable = options.getRanges() == null || options.getRanges().isEmpty();
+            long sourceRows = 0L;
+            long targetRows = 0L;
+            int bucketsCompared = 0;
+            int levels = 0;
+            
+            while (!pending.isEmpty()) {
+                levels++;
+                List<Future<Map<Long, AggregateChecksum>>> sourceFutures = new ArrayList<>();
+                List<Future<Map<Long, AggregateChecksum>>> targetFutures = new ArrayList<>();
+                for (PendingRange range : pending) {
+                    long width = bucketWidth(range, bucketCount);
+                    String sourceSql = sqlBuilder.bucketChecksumSql(source.getType(), mapping.getSourceSchema(),
+                        mapping.getSourceTable(), keyColumn.getSourceColumn(), sourceRow,
+                        range.startKey, range.endKey, width, null);
+                    String targetSql = sqlBuilder.bucketChecksumSql(target.getType(), mapping.getTargetSchema(),
+                        mapping.getTargetTable(), keyColumn.getTargetColumn(), targetRow,
+                        range.startKey, range.endKey, width, null);
+                    sourceFutures.add(executor.submit(() -> queryBuckets(source, sourceSql)));
+                    targetFutures.add(executor.submit(() -> queryBuckets(target, targetSql)));
+                }
+                
+                List<PendingRange> next = new ArrayList<>();
+                for (int r = 0; r < pending.size(); r++) {
+                    PendingRange range = pending.get(r);
+                    Map<Long, AggregateChecksum> sourceBuckets = getResult(sourceFutures.get(r));
+                    Map<Long, AggregateChecksum> targetBuckets = getResult(targetFutures.get(r));
+                    long width = bucketWidth(range, bucketCount);
+                    
+                    if (fullTable && range.depth == 0) {
+                        sourceRows += sourceBuckets.values().stream().mapToLong(AggregateChecksum::getRowCount).sum();
+                        targetRows += targetBuckets.values().stream().mapToLong(AggregateChecksum::getRowCount).sum();
+                    }
+                    
+                    Set<Long> bucketIds = new TreeSet<>(sourceBuckets.keySet());
+                    bucketIds.addAll(targetBuckets.keySet());
+                    bucketsCompared += bucketIds.size();
+                    
+                    for (Long bucketId : bucketIds) {
+                        AggregateChecksum sourceBucket = sourceBuckets.get(bucketId);
+                        AggregateChecksum targetBucket = targetBuckets.get(bucketId);
+                        if (Objects.equals(sourceBucket, targetBucket)) {
+                            continue;
+                        }
+                        long bucketStart = range.startKey + bucketId * width;
+                        long bucketEnd = Math.min(bucketStart + width - 1, range.endKey);
+                        long rows = Math.max(rowCount(sourceBucket), rowCount(targetBucket));
+                        int depth = range.depth + 1;
+                        
+                        if (rows <= leafSize || bucketStart == bucketEnd || depth >= maxDepth) {
+                            result.getMismatchedRanges().add(new MismatchedRange(bucketStart, bucketEnd,
+                                rowCount(sourceBucket), rowCount(targetBucket),
+                                sourceBucket != null ? sourceBucket.toString() : null,
+                                targetBucket != null ? targetBucket.toString() : null,
+                                depth));
+                        } else {
+                            next.add(new PendingRange(bucketStart, bucketEnd, depth));
+                        }
+                    }
+                }
+                pending = next;
+            }
+            
+            result.getMismatchedRanges().sort(Comparator.comparing(MismatchedRange::getStartKey));
+            if (fullTable) {
+                result.setSourceRows(sourceRows);
+                result.setTargetRows(targetRows);
+            }
+            result.setBucketsCompared(bucketsCompared);
+            result.setLevels(levels);
+            boolean match = result.getMismatchedRanges().isEmpty();
+            result.setMatch(match);
+            result.setStatus(match ? "valid" : "invalid");
+        } catch (Exception e) {
+            log.error("Error in bucket validation for table {}: {}", mapping.getSourceTable(), e.getMessage());
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+            result.setMatch(false);
+        }
+        
+        result.setDurationMs(System.currentTimeMillis() - started);
+        return result;
+    }
+    
+    /**
+     * Key column used to split the table: the configured partition column, otherwise the single-column
+     * primary key. Only numeric keys can be range-bucketed.
+     */
+    ColumnMapping resolveKeyColumn(TableMapping mapping) {
+        List<ColumnMapping> columns = mapping.getColumnMappings() != null ? mapping.getColumnMappings() : List.of();
+        ColumnMapping key = null;
+        
+        String partitionColumn = mapping.getPartitionColumn();
+        if (partitionColumn != null && !partitionColumn.trim().isEmpty()) {
+            key = columns.stream()
+                .filter(cm -> cm.getSourceColumn() != null && cm.getSourceColumn().equalsIgnoreCase(partitionColumn.trim()))
+                .findFirst()
+                .orElse(null);
+        }
+        if (key == null) {
+            List<ColumnMapping> primaryKeys = columns.stream()
+                .filter(cm -> Boolean.TRUE.equals(cm.getIsPrimaryKey()))
+                .collect(Collectors.toList());
+            if (primaryKeys.size() == 1) {
+                key = primaryKeys.get(0);
+            }
+        }
+        if (key == null) {
+            throw new RuntimeException("Bucket validation requires a partition column or a single-column primary key");
+        }
+        if (sqlBuilder.resolveKind(key) != ValidationSqlBuilder.ValueKind.NUMBER) {
+            throw new RuntimeException("Key column " + key.getSourceColumn() + " is not numeric");
+        }
+        return key;
+    }
+    
+    private List<PendingRange> resolveInitialRanges(Project project, TableMapping mapping, ColumnMapping keyColumn,
+                                                    BucketValidationRequest options, ExecutorService executor)
+            throws Exception {
+        List<PendingRange> ranges = new ArrayList<>();
+        if (options.getRanges() != null && !options.getRanges().isEmpty()) {
+            for (KeyRange range : options.getRanges()) {
+                if (range.getStartKey() == null || range.getEndKey() == null) {
+                    continue;
+                }
+                if (range.getTable() == null || range.getTable().equalsIgnoreCase(mapping.getSourceTable())) {
+                    ranges.add(new PendingRange(Math.min(range.getStartKey(), range.getEndKey()),
+                        Math.max(range.getStartKey(), range.getEndKey()), 0));
+                }
+            }
+            return ranges;
+        }
+        
+        ConnectionConfig source = project.getSourceConnection();
+        ConnectionConfig target = project.getTargetConnection();
+        Future<Long[]> sourceBounds = executor.submit(() -> queryBounds(source,
+            sqlBuilder.keyBoundsSql(source.getType(), mapping.getSourceSchema(), mapping.getSourceTable(),
+                keyColumn.getSourceColumn())));
+        Future<Long[]> targetBounds = executor.submit(() -> queryBounds(target,
+            sqlBuilder.keyBoundsSql(target.getType(), mapping.getTargetSchema(), mapping.getTargetTable(),
+                keyColumn.getTargetColumn())));
+        
+        Long[] sourceMinMax = getResult(sourceBounds);
+        Long[] targetMinMax = getResult(targetBounds);
+        Long min = minOf(sourceMinMax[0], targetMinMax[0]);
+        Long max = maxOf(sourceMinMax[1], targetMinMax[1]);
+        if (min != null && max != null) {
+            ranges.add(new PendingRange(min, max, 0));
+        }
+        return ranges;
+    }
+    
+    private Map<Long, AggregateChecksum> queryBuckets(ConnectionConfig config, String sql) throws SQLException {
+        Map<Long, AggregateChecksum> buckets = new HashMap<>();
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                BigDecimal sum = rs.getBigDecimal(3);
+                buckets.put(rs.getLong(1),
+                    new AggregateChecksum(rs.getLong(2), sum != null ? sum.toBigInteger() : BigInteger.ZERO));
+            }
+        }
+        return buckets;
+    }
+    
+    private Long[] queryBounds(ConnectionConfig config, String sql) throws SQLException {
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                BigDecimal min = rs.getBigDecimal(1);
+                BigDecimal max = rs.getBigDecimal(2);
+                return new Long[]{
+                    min != null ? min.setScale(0, RoundingMode.FLOOR).longValueExact() : null,
+                    max != null ? max.setScale(0, RoundingMode.CEILING).longValueExact() : null
+                };
+            }
+        }
+        return new Long[]{null, null};
+    }
+    
+    private <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : new RuntimeException(e.getCause());
+        }
+    }
+    
+    private long bucketWidth(PendingRange range, int bucketCount) {
+        long span = range.endKey - range.startKey + 1;
+        return Math.max(1L, (span + bucketCount - 1) / bucketCount);
+    }
+    
+    private long rowCount(AggregateChecksum checksum) {
+        return checksum != null && checksum.getRowCount() != null ? checksum.getRowCount() : 0L;
+    }
+    
+    private int positiveOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+    
+    private Long minOf(Long a, Long b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.min(a, b);
+    }
+    
+    private Long maxOf(Long a, Long b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.max(a, b);
+    }
+}
@@ -0,0 +1,196 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.entity.ChunkFingerprintEntity;
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.Project;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.validation.AggregateChecksum;
+import com.ora2pg.migration.model.validation.FingerprintValidationResult;
+import com.ora2pg.migration.model.validation.MismatchedRange;
+import com.ora2pg.migration.repository.ChunkFingerprintRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Chunk ledger for inline validation. The migration records a fingerprint of the source rows of
+ * every chunk it copies; validation then only has to compute the matching aggregate checksum in
+ * the target database, chunk by chunk, without reading the source again.
+ */
+@Slf4j
+@Service
+public class ChunkFingerprintService {
+    
+    private static final int VALIDATION_PARALLELISM = 4;
+    
+    @Autowired
+    private ChunkFingerprintRepository chunkFingerprintRepository;
+    
+    @Autowired
+    private ProjectService projectService;
+    
+    @Autowired
+    private DataValidationService dataValidationService;
+    
+    @Autowired
+    private ValidationSqlBuilder sqlBuilder;
+    
+    /**
+     * Columns a fingerprint covers, in mapping order. LONG columns are left out, as in the
+     * in-database checksum.
+     */
+    List<ColumnMapping> fingerprintColumns(TableMapping tableMapping) {
+        return tableMapping.getColumnMappings().stream()
+            .filter(c -> sqlBuilder.resolveKind(c) != ValidationSqlBuilder.ValueKind.UNSUPPORTED)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Forget the ledger entries of a table before it is copied again.
+     */
+    @Transactional
+    public void clearTable(String projectId, String tableMappingId) {
+        chunkFingerprintRepository.deleteByProjectIdAndTableMappingId(projectId, tableMappingId);
+    }
+    
+    void record(String projectId, TableMapping tableMapping, Long startKey, Long endKey, RowFingerprint fingerprint) {
+        AggregateChecksum checksum = fingerprint.toChecksum();
+        String checksumText = checksum.toString();
+        
+        ChunkFingerprintEntity entity = new ChunkFingerprintEntity();
+        entity.setProjectId(projectId);
+        entity.setTableMappingId(tableMapping.getId());
+        entity.setSourceTable(tableMapping.getSourceTable());
+        entity.setStartKey(startKey);
+        entity.setEndKey(endKey);
+        entity.setRowCount(checksum.getRowCount());
+        entity.setHashSum(checksumText.substring(checksumText.indexOf(':') + 1));
+        entity.setColumnList(fingerprintColumns(tableMapping).stream()
+            .map(ColumnMapping::getSourceColumn)
+            .collect(Collectors.joining(",")));
+        entity.setCreatedAt(LocalDateTime.now());
+        chunkFingerprintRepository.save(entity);
+    }
+    
+    /**
+     * Compare the recorded source fingerprints with aggregate checksums computed in the target.
+     */
+    public List<FingerprintValidationResult> validateFingerprints(String projectId, List<String> tableNames) {
+        Project project = projectService.getProjectById(projectId);
+        if (project.getTargetConnection() == null) {
+            throw new RuntimeException("Target connection not configured");
+        }
+        
+        List<FingerprintValidationResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(VALIDATION_PARALLELISM);
+        try {
+            for (TableMapping mapping : dataValidationService.resolveTableMappings(project, tableNames)) {
+                results.add(validateTable(project, mapping, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+    
+    private FingerprintValidationResult validateTable(Project project, TableMapping mapping, ExecutorService executor) {
+        FingerprintValidationResult result = new FingerprintValidationResult();
+        result.setTable(mapping.getSourceTable());
+        result.setSourceSchema(mapping.getSourceSchema());
+        result.setTargetSchema(mapping.getTargetSchema());
+        
+        try {
+            List<ChunkFingerprintEntity> chunks = chunkFingerprintRepository
+                .findByProjectIdAndTableMappingIdOrderByStartKeyAsc(project.getId(), mapping.getId());
+            if (chunks.isEmpty()) {
+                result.setStatus("unavailable");
+                result.setErrorMessage("No inline fingerprints recorded for this table");
+                result.setMatch(false);
+                return result;
+            }
+            
+            ConnectionConfig target = project.getTargetConnection();
+            boolean chunked = chunks.stream().anyMatch(c -> c.getStartKey() != null);
+            String keyColumn = chunked ? resolveTargetPartitionColumn(mapping, target.getType()) : null;
+            result.setPartitionColumn(chunked ? mapping.getPartitionColumn() : null);
+            
+            List<Future<AggregateChecksum>> futures = new ArrayList<>();
+            for (ChunkFingerprintEntity chunk : chunks) {
+                List<ColumnMapping> columns = resolveColumns(mapping, chunk.getColumnList());
+                String where = chunk.getStartKey() != null
+                    ? keyColumn + " >= " + chunk.getStartKey() + " AND " + keyColumn + " <= " + chunk.getEndKey()
+                    : null;
+                futures.add(executor.submit(() -> dataValidationService.calculateAggregateChecksum(target,
+                    mapping.getTargetSchema(), mapping.getTargetTable(), columns, false, where)));
+            }
+            
+            long sourceRows = 0L;
+            long targetRows = 0L;
+            for (int i = 0; i < chunks.size(); i++) {
+                ChunkFingerprintEntity chunk = chunks.get(i);
+                AggregateChecksum targetChecksum = getResult(futures.get(i));
+                String sourceChecksum = chunk.getRowCount() + ":" + chunk.getHashSum();
+                sourceRows += chunk.getRowCount();
+                targetRows += targetChecksum.getRowCount();
+                if (!sourceChecksum.equals(targetChecksum.toString())) {
+                    result.getMismatchedChunks().add(new MismatchedRange(chunk.getStartKey(), chunk.getEndKey(),
+                        chunk.getRowCount(), targetChecksum.getRowCount(), sourceChecksum, targetChecksum.toString(), 0));
+                }
+            }
+            
+            result.setChunksCompared(chunks.size());
+            result.setSourceRows(sourceRows);
+            result.setTargetRows(targetRows);
+            result.setMatch(result.getMismatchedChunks().isEmpty());
+            result.setStatus(result.getMatch() ? "valid" : "invalid");
+        } catch (Exception e) {
+            log.error("Error validating fingerprints for table {}: {}", mapping.getSourceTable(), e.getMessage());
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+            result.setMatch(false);
+        }
+        return result;
+    }
+    
+    private String resolveTargetPartitionColumn(TableMapping mapping, String dbType) {
+        String partitionColumn = mapping.getPartitionColumn() != null ? mapping.getPartitionColumn().trim() : null;
+        ColumnMapping column = mapping.getColumnMappings().stream()
+            .filter(c -> c.getSourceColumn() != null && c.getSourceColumn().equalsIgnoreCase(partitionColumn))
+            .findFirst()
+            .orElseThrow(() -> new RuntimeException("Partition column " + partitionColumn + " is not mapped"));
+        return sqlBuilder.quoteIdentifier(dbType, column.getTargetColumn());
+    }
+    
+    /**
+     * Columns recorded with a fingerprint, so a changed mapping cannot silently alter the comparison.
+     */
+    private List<ColumnMapping> resolveColumns(TableMapping mapping, String columnList) {
+        List<ColumnMapping> columns = new ArrayList<>();
+        for (String name : columnList.split(",")) {
+            columns.add(mapping.getColumnMappings().stream()
+                .filter(c -> name.equals(c.getSourceColumn()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Fingerprinted column " + name + " is no longer mapped")));
+        }
+        return columns;
+    }
+    
+    private <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : new RuntimeException(e.getCause());
+        }
+    }
+}
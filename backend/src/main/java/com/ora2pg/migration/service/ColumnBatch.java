@@ -0,0 +1,163 @@
+package com.ora2pg.migration.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A batch of rows held column by column: integer and floating point columns in primitive vectors,
+ * other values by reference, and a null bitmap per column. A batch is filled a row at a time,
+ * read back a column value at a time when it is bound, and cleared for reuse; the vectors are
+ * allocated once per batch, not per value.
+ */
+final class ColumnBatch {
+    
+    enum ColumnType {
+        LONG,     // long vector
+        DOUBLE,   // double vector
+        DECIMAL,  // BigDecimal
+        DATETIME, // LocalDateTime or Timestamp
+        TEXT,     // String
+        BYTES     // byte[]
+    }
+    
+    private final ColumnType[] types;
+    private final int capacity;
+    private final long[][] longs;
+    private final double[][] doubles;
+    /** Reference values, and for LONG and DOUBLE columns the values that did not fit the vector. */
+    private final Object[][] objects;
+    private final long[][] nulls;
+    private int size;
+    
+    ColumnBatch(ColumnType[] types, int capacity) {
+        this.types = types.clone();
+        this.capacity = capacity;
+        int columns = types.length;
+        this.longs = new long[columns][];
+        this.doubles = new double[columns][];
+        this.objects = new Object[columns][];
+        this.nulls = new long[columns][(capacity + 63) >>> 6];
+        for (int c = 0; c < columns; c++) {
+            if (types[c] == ColumnType.LONG) {
+                longs[c] = new long[capacity];
+            } else if (types[c] == ColumnType.DOUBLE) {
+                doubles[c] = new double[capacity];
+            }
+            objects[c] = new Object[capacity];
+        }
+    }
+    
+    int columnCount() {
+        return types.length;
+    }
+    
+    ColumnType type(int column) {
+        return types[column];
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isFull() {
+        return size == capacity;
+    }
+    
+    // Writers fill the row at index size(); endRow() moves to the next one
+    
+    void putNull(int column) {
+        nulls[column][size >>> 6] |= 1L << size;
+    }
+    
+    void putLong(int column, long value) {
+        longs[column][size] = value;
+    }
+    
+    void putDouble(int column, double value) {
+        doubles[column][size] = value;
+    }
+    
+    void putObject(int column, Object value) {
+        if (value == null) {
+            putNull(column);
+        } else {
+            objects[column][size] = value;
+        }
+    }
+    
+    void endRow() {
+        size++;
+    }
+    
+    boolean isNull(int column, int row) {
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+    
+    long getLong(int column, int row) {
+        return longs[column][row];
+    }
+    
+    double getDouble(int column, int row) {
+        return doubles[column][row];
+    }
+    
+    /**
+     * Reference value of a row, or {@code null} when a LONG or DOUBLE column holds it in its vector.
+     */
+    Object getObject(int column, int row) {
+        return objects[column][row];
+    }
+    
+    void clear() {
+        int words = (size + 63) >>> 6;
+        for (int c = 0; c < types.length; c++) {
+            Arrays.fill(nulls[c], 0, words, 0L);
+            Arrays.fill(objects[c], 0, size, null);
+        }
+        size = 0;
+    }
+    
+    /**
+     * Pool key of a batch shape.
+     */
+    static String shape(ColumnType[] types, int capacity) {
+        return Arrays.toString(types) + "x" + capacity;
+    }
+    
+    /**
+     * Idle batches of one shape, reused by the ranges and chunks of a load.
+     */
+    static final class Pool {
+        
+        private final ColumnType[] types;
+        private final int capacity;
+        private final int maxIdle;
+        private final ConcurrentLinkedQueue<ColumnBatch> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        
+        Pool(ColumnType[] types, int capacity, int maxIdle) {
+            this.types = types.clone();
+            this.capacity = capacity;
+            this.maxIdle = maxIdle;
+        }
+        
+        ColumnBatch acquire() {
+            ColumnBatch batch = idle.poll();
+            if (batch != null) {
+                idleCount.decrementAndGet();
+                return batch;
+            }
+            return new ColumnBatch(types, capacity);
+        }
+        
+        void release(ColumnBatch batch) {
+            batch.clear();
+            if (idleCount.incrementAndGet() <= maxIdle) {
+                idle.offer(batch);
+            } else {
+                idleCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,102 +1,134 @@
 package com.ora2pg.migration.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.ora2pg.migration.model.*;
+import com.ora2pg.migration.model.validation.AggregateChecksum;
 import com.ora2pg.migration.model.validation.ChecksumResult;
+import com.ora2pg.migration.model.validation.ColumnProfile;
+import com.ora2pg.migration.model.validation.ColumnProfileComparison;
+import com.ora2pg.migration.model.validation.ColumnProfileResult;
 import com.ora2pg.migration.model.validation.DryRunResult;
+import com.ora2pg.migration.model.validation.TableProfile;
+import com.ora2pg.migration.model.validation.ValidationRequest;
+import com.ora2pg.migration.model.validation.ValidationRunResult;
 import com.ora2pg.migration.util.DatabaseConnectionManager;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class DataValidationService {
     
+    public static final String MODE_STREAM = "stream";
+    public static final String MODE_AGGREGATE = "aggregate";
+    private static final String AGGREGATE_ALGORITHM = "MD5-SUM64";
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    // APPROX_COUNT_DISTINCT and HLL are estimates, allow this relative difference
+    private static final double DISTINCT_TOLERANCE = 0.02;
+    private static final int CHECKSUM_FETCH_SIZE = 5000;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COLUMN_SEPARATOR = {'|'};
+    private static final byte[] ROW_SEPARATOR = {'\n'};
+    
     @Autowired
     private DatabaseConnectionManager connectionManager;
     
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private ValidationSqlBuilder sqlBuilder;
+    
+    @Autowired
+    private SchemaMetadataCacheService metadataCache;
+    
+    @Autowired
+    private SettingsService settingsService;
+    
+    @Autowired
+    private PartitioningService partitioningService;
+    
+    public enum ValidationType {
+        ROW_COUNT, CHECKSUM, DRY_RUN, COLUMN_PROFILE
+    }
+    
     /**
-     * Compare row counts between source and target tables
+     * State shared by the tasks of one validation job: per-side pools and the row count cache.
      */
-    public List<RowCountResult> compareRowCounts(String projectId, List<String> tableNames) {
-        List<RowCountResult> results = new ArrayList<>();
+    private static class ValidationRun implements AutoCloseable {
+        private final Project project;
+        private final ValidationRequest options;
+        private final ExecutorService sourceExecutor;
+        private final ExecutorService targetExecutor;
+        private final Map<String, CompletableFuture<Long>> rowCounts = new ConcurrentHashMap<>();
+        private final BiConsumer<ValidationType, Object> listener;
         
-        try {
-            Project project = projectService.getProjectById(projectId);
-            if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
-                throw new RuntimeException("Source or target connection not configured");
-            }
-            
-            // Get table mappings
-            List<TableMapping> tableMappings = project.getTableMappings();
-            if (tableMappings == null || tableMappings.isEmpty()) {
-                throw new RuntimeException("No table mappings configured");
-            }
-            
-            // Filter by table names if provided
-            if (tableNames != null && !tableNames.isEmpty()) {
-                tableMappings = tableMappings.stream()
-                    .filter(tm -> tableNames.contains(tm.getSourceTable()))
-                    .collect(Collectors.toList());
+        private ValidationRun(Project project, ValidationRequest options, BiConsumer<ValidationType, Object> listener) {
+            this.project = project;
+            this.options = options;
+            this.listener = listener;
+            this.sourceExecutor = Executors.newFixedThreadPool(resolveConcurrency(options.getSourceConcurrency()));
+            this.targetExecutor = Executors.newFixedThreadPool(resolveConcurrency(options.getTargetConcurrency()));
+        }
+        
+        private static int resolveConcurrency(Integer requested) {
+            return requested != null && requested > 0 ? requested : DEFAULT_CONCURRENCY;
+        }
+        
+        private void publish(ValidationType type, Object result) {
+            if (listener == null) {
+                return;
             }
-            
-            // Compare row counts for each table
-            for (TableMapping mapping : tableMappings) {
-                RowCountResult result = new RowCountResult();
-                result.setTable(mapping.getSourceTable());
-                result.setSourceSchema(mapping.getSourceSchema());
-                result.setTargetSchema(mapping.getTargetSchema());
-                
-                try {
-                    // Get source count
-                    Long sourceCount = getRowCount(
-                        project.getSourceConnection(),
-                        mapping.getSourceSchema(),
-                        mapping.getSourceTable()
-                    );
-                    result.setSourceCount(sourceCount);
-                    
-                    // Get target count
-                    Long targetCount = getRowCount(
-                        project.getTargetConnection(),
-                        mapping.getTargetSchema(),
-                        mapping.getTargetTable()
-                    );
-                    result.setTargetCount(targetCount);
-                    
-                    // Calculate difference
-                    Long difference = sourceCount - targetCount;
-                    result.setDifference(difference);
-                    result.setMatch(difference == 0);
-                    result.setStatus(result.getMatch() ? "match" : "mismatch");
-                    
-                } catch (Exception e) {
-                    log.error("Error comparing row counts for table {}: {}", mapping.getSourceTable(), e.getMessage());
-                    result.setStatus("error");
-                    result.setErrorMessage(e.getMessage());
-                    result.setMatch(false);
+            try {
+                synchronized (listener) {
+                    listener.accept(type, result);
                 }
-                
-                results.add(result);
+            } catch (Exception e) {
+                log.warn("Failed to publish {} validation result: {}", type, e.getMessage());
             }
-            
-        } catch (Exception e) {
-            log.error("Error in compareRowCounts: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to compare row counts: " + e.getMessage(), e);
         }
         
-        return results;
+        @Override
+        public void close() {
+            sourceExecutor.shutdownNow();
+            targetExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Compare row counts between source and target tables
+     */
+    public List<RowCountResult> compareRowCounts(String projectId, List<String> tableNames) {
+        ValidationRequest request = new ValidationRequest();
+        request.setTableNames(tableNames);
+        return runValidations(projectId, request, EnumSet.of(ValidationType.ROW_COUNT), null).getRowCount();
     }
     
     /**
@@ -104,181 +136,426 @@ public class DataValidationService {
      */
     public List<ChecksumResult> compareChecksums(String projectId, List<String> tableNames,
                                                  String algorithm, List<String> columnsToInclude) {
-        List<ChecksumResult> results = new ArrayList<>();
+        ValidationRequest request = new ValidationRequest();
+        request.setTableNames(tableNames);
+        request.setChecksumAlgorithm(algorithm);
+        request.setChecksumMode(MODE_STREAM);
+        request.setColumnsToInclude(columnsToInclude);
+        return runValidations(projectId, request, EnumSet.of(ValidationType.CHECKSUM), null).getChecksum();
+    }
+    
+    /**
+     * Compare order-independent checksums computed inside each database.
+     * Only the row count and a 64-bit hash sum per table cross the network.
+     */
+    public List<ChecksumResult> compareAggregateChecksums(String projectId, List<String> tableNames,
+                                                          List<String> columnsToInclude) {
+        ValidationRequest request = new ValidationRequest();
+        request.setTableNames(tableNames);
+        request.setChecksumMode(MODE_AGGREGATE);
+        request.setColumnsToInclude(columnsToInclude);
+        return runValidations(projectId, request, EnumSet.of(ValidationType.CHECKSUM), null).getChecksum();
+    }
+    
+    /**
+     * Perform dry-run simulation for migration
+     */
+    public List<DryRunResult> performDryRun(String projectId, List<String> tableNames) {
+        ValidationRequest request = new ValidationRequest();
+        request.setTableNames(tableNames);
+        return runValidations(projectId, request, EnumSet.of(ValidationType.DRY_RUN), null).getDryRun();
+    }
+    
+    /**
+     * Compare per-column profiles (non-null count, min, max, sum, total length, distinct estimate)
+     * computed by one aggregate query per table on each side.
+     */
+    public List<ColumnProfileResult> compareColumnProfiles(String projectId, List<String> tableNames,
+                                                           List<String> columnsToInclude) {
+        ValidationRequest request = new ValidationRequest();
+        request.setTableNames(tableNames);
+        request.setColumnsToInclude(columnsToInclude);
+        return runValidations(projectId, request, EnumSet.of(ValidationType.COLUMN_PROFILE), null).getColumnProfile();
+    }
+    
+    /**
+     * Run the requested validation types for all selected tables as one parallel job.
+     * <p>
+     * Source and target queries go to separate bounded pools, so both sides of a table run
+     * together and several tables are validated concurrently. Row counts are computed once per
+     * table and shared between validation types. Each result is handed to {@code listener}
+     * (if given) as soon as its table finishes; the returned lists keep table mapping order.
+     */
+    public ValidationRunResult runValidations(String projectId, ValidationRequest request,
+                                              Set<ValidationType> types, BiConsumer<ValidationType, Object> listener) {
+        ValidationRequest options = request != null ? request : new ValidationRequest();
+        ValidationRunResult runResult = new ValidationRunResult();
         
+        Project project;
+        List<TableMapping> tableMappings;
         try {
-            Project project = projectService.getProjectById(projectId);
+            project = projectService.getProjectById(projectId);
             if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
                 throw new RuntimeException("Source or target connection not configured");
             }
+            tableMappings = resolveTableMappings(project, options.getTableNames());
+        } catch (Exception e) {
+            log.error("Error in runValidations: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to run validations: " + e.getMessage(), e);
+        }
+        
+        try (ValidationRun run = new ValidationRun(project, options, listener)) {
+            List<CompletableFuture<RowCountResult>> rowCounts = new ArrayList<>();
+            List<CompletableFuture<ChecksumResult>> checksums = new ArrayList<>();
+            List<CompletableFuture<DryRunResult>> dryRuns = new ArrayList<>();
+            List<CompletableFuture<ColumnProfileResult>> profiles = new ArrayList<>();
             
-            // Default to MD5 if not specified
-            if (algorithm == null || algorithm.isEmpty()) {
-                algorithm = "MD5";
-            }
-            
-            // Get table mappings
-            List<TableMapping> tableMappings = project.getTableMappings();
-            if (tableMappings == null || tableMappings.isEmpty()) {
-                throw new RuntimeException("No table mappings configured");
-            }
-            
-            // Filter by table names if provided
-            if (tableNames != null && !tableNames.isEmpty()) {
-                tableMappings = tableMappings.stream()
-                    .filter(tm -> tableNames.contains(tm.getSourceTable()))
-                    .collect(Collectors.toList());
-            }
-            
-            // Compare checksums for each table
             for (TableMapping mapping : tableMappings) {
-                ChecksumResult result = new ChecksumResult();
-                result.setTable(mapping.getSourceTable());
-                result.setSourceSchema(mapping.getSourceSchema());
-                result.setTargetSchema(mapping.getTargetSchema());
-                result.setAlgorithm(algorithm);
-                
-                try {
-                    // Get source checksum
-                    String sourceChecksum = calculateTableChecksum(
-                        project.getSourceConnection(),
-                        mapping.getSourceSchema(),
-                        mapping.getSourceTable(),
-                        algorithm,
-                        columnsToInclude
-                    );
-                    result.setSourceChecksum(sourceChecksum);
-                    
-                    // Get target checksum
-                    String targetChecksum = calculateTableChecksum(
-                        project.getTargetConnection(),
-                        mapping.getTargetSchema(),
-                        mapping.getTargetTable(),
-                        algorithm,
-                        columnsToInclude
-                    );
-                    result.setTargetChecksum(targetChecksum);
-                    
-                    // Get row count for reference
-                    Long rowCount = getRowCount(
-                        project.getSourceConnection(),
-                        mapping.getSourceSchema(),
-                        mapping.getSourceTable()
-                    );
-                    result.setRowCount(rowCount);
-                    
-                    // Compare checksums
-                    boolean match = sourceChecksum != null && sourceChecksum.equals(targetChecksum);
-                    result.setMatch(match);
-                    result.setStatus(match ? "valid" : "invalid");
-                    
-                } catch (Exception e) {
-                    log.error("Error comparing checksums for table {}: {}", mapping.getSourceTable(), e.getMessage());
-                    result.setStatus("error");
-                    result.setErrorMessage(e.getMessage());
-                    result.setMatch(false);
+                if (types.contains(ValidationType.ROW_COUNT)) {
+                    rowCounts.add(rowCountTask(run, mapping));
+                }
+                if (types.contains(ValidationType.CHECKSUM)) {
+                    checksums.add(MODE_AGGREGATE.equalsIgnoreCase(options.getChecksumMode())
+                        ? aggregateChecksumTask(run, mapping)
+                        : checksumTask(run, mapping));
+                }
+                if (types.contains(ValidationType.DRY_RUN)) {
+                    dryRuns.add(dryRunTask(run, mapping));
+                }
+                if (types.contains(ValidationType.COLUMN_PROFILE)) {
+                    profiles.add(columnProfileTask(run, mapping));
                 }
-                
-                results.add(result);
             }
             
-        } catch (Exception e) {
-            log.error("Error in compareChecksums: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to compare checksums: " + e.getMessage(), e);
+            runResult.setRowCount(rowCounts.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+            runResult.setChecksum(checksums.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+            runResult.setDryRun(dryRuns.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+            runResult.setColumnProfile(profiles.stream().map(CompletableFuture::join).collect(Collectors.toList()));
         }
         
-        return results;
+        return runResult;
     }
     
-    /**
-     * Perform dry-run simulation for migration
-     */
-    public List<DryRunResult> performDryRun(String projectId, List<String> tableNames) {
-        List<DryRunResult> results = new ArrayList<>();
+    private CompletableFuture<RowCountResult> rowCountTask(ValidationRun run, TableMapping mapping) {
+        CompletableFuture<Long> sourceCount = sourceRowCount(run, mapping);
+        CompletableFuture<Long> targetCount = targetRowCount(run, mapping);
         
-        try {
-            Project project = projectService.getProjectById(projectId);
-            if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
-                throw new RuntimeException("Source or target connection not configured");
-            }
+        return CompletableFuture.allOf(sourceCount, targetCount).handle((ignored, error) -> {
+            RowCountResult result = new RowCountResult();
+            result.setTable(mapping.getSourceTable());
+            result.setSourceSchema(mapping.getSourceSchema());
+            result.setTargetSchema(mapping.getTargetSchema());
             
-            // Get table mappings
-            List<TableMapping> tableMappings = project.getTableMappings();
-            if (tableMappings == null || tableMappings.isEmpty()) {
-                throw new RuntimeException("No table mappings configured");
+            if (error != null) {
+                log.error("Error comparing row counts for table {}: {}", mapping.getSourceTable(), rootMessage(error));
+                result.setStatus("error");
+                result.setErrorMessage(rootMessage(error));
+                result.setMatch(false);
+            } else {
+                result.setSourceCount(sourceCount.join());
+                result.setTargetCount(targetCount.join());
+                
+                // Calculate difference
+                Long difference = result.getSourceCount() - result.getTargetCount();
+                result.setDifference(difference);
+                result.setMatch(difference == 0);
+                result.setStatus(result.getMatch() ? "match" : "mismatch");
             }
+            run.publish(ValidationType.ROW_COUNT, result);
+            return result;
+        });
+    }
+    
+    private CompletableFuture<ChecksumResult> checksumTask(ValidationRun run, TableMapping mapping) {
+        // Default to MD5 if not specified
+        String algorithm = run.options.getChecksumAlgorithm() == null || run.options.getChecksumAlgorithm().isEmpty()
+            ? "MD5" : run.options.getChecksumAlgorithm();
+        List<String> columnsToInclude = run.options.getColumnsToInclude();
+        
+        CompletableFuture<String> sourceChecksum = supplyAsync(run.sourceExecutor, () -> calculateTableChecksum(
+            run.project.getSourceConnection(), mapping.getSourceSchema(), mapping.getSourceTable(),
+            algorithm, columnsToInclude));
+        CompletableFuture<String> targetChecksum = supplyAsync(run.targetExecutor, () -> calculateTableChecksum(
+            run.project.getTargetConnection(), mapping.getTargetSchema(), mapping.getTargetTable(),
+            algorithm, columnsToInclude));
+        // Row count for reference, shared with the other validation types
+        CompletableFuture<Long> rowCount = sourceRowCount(run, mapping);
+        
+        return CompletableFuture.allOf(sourceChecksum, targetChecksum, rowCount).handle((ignored, error) -> {
+            ChecksumResult result = newChecksumResult(mapping, algorithm, MODE_STREAM);
             
-            // Filter by table names if provided
-            if (tableNames != null && !tableNames.isEmpty()) {
-                tableMappings = tableMappings.stream()
-                    .filter(tm -> tableNames.contains(tm.getSourceTable()))
-                    .collect(Collectors.toList());
+            if (error != null) {
+                log.error("Error comparing checksums for table {}: {}", mapping.getSourceTable(), rootMessage(error));
+                result.setStatus("error");
+                result.setErrorMessage(rootMessage(error));
+                result.setMatch(false);
+            } else {
+                result.setSourceChecksum(sourceChecksum.join());
+                result.setTargetChecksum(targetChecksum.join());
+                result.setRowCount(rowCount.join());
+                
+                // Compare checksums
+                boolean match = result.getSourceChecksum() != null &&
+                    result.getSourceChecksum().equals(result.getTargetChecksum());
+                result.setMatch(match);
+                result.setStatus(match ? "valid" : "invalid");
             }
+            run.publish(ValidationType.CHECKSUM, result);
+            return result;
+        });
+    }
+    
+    private CompletableFuture<ChecksumResult> aggregateChecksumTask(ValidationRun run, TableMapping mapping) {
+        ChecksumResult result = newChecksumResult(mapping, AGGREGATE_ALGORITHM, MODE_AGGREGATE);
+        List<ColumnMapping> columns;
+        try {
+            columns = resolveChecksumColumns(mapping, run.options.getColumnsToInclude(), result);
+        } catch (Exception e) {
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+            result.setMatch(false);
+            run.publish(ValidationType.CHECKSUM, result);
+            return CompletableFuture.completedFuture(result);
+        }
+        
+        CompletableFuture<AggregateChecksum> source = supplyAsync(run.sourceExecutor, () -> calculateAggregateChecksum(
+            run.project.getSourceConnection(), mapping.getSourceSchema(), mapping.getSourceTable(),
+            columns, true, null));
+        CompletableFuture<AggregateChecksum> target = supplyAsync(run.targetExecutor, () -> calculateAggregateChecksum(
+            run.project.getTargetConnection(), mapping.getTargetSchema(), mapping.getTargetTable(),
+            columns, false, null));
+        
+        return CompletableFuture.allOf(source, target).handle((ignored, error) -> {
+            if (error != null) {
+                log.error("Error comparing aggregate checksums for table {}: {}", mapping.getSourceTable(), rootMessage(error));
+                result.setStatus("error");
+                result.setErrorMessage(rootMessage(error));
+                result.setMatch(false);
+            } else {
+                AggregateChecksum sourceChecksum = source.join();
+                AggregateChecksum targetChecksum = target.join();
+                result.setSourceChecksum(sourceChecksum.toString());
+                result.setTargetChecksum(targetChecksum.toString());
+                result.setRowCount(sourceChecksum.getRowCount());
+                
+                boolean match = sourceChecksum.equals(targetChecksum);
+                result.setMatch(match);
+                result.setStatus(match ? "valid" : "invalid");
+            }
+            run.publish(ValidationType.CHECKSUM, result);
+            return result;
+        });
+    }
+    
+    private CompletableFuture<DryRunResult> dryRunTask(ValidationRun run, TableMapping mapping) {
+        return sourceRowCount(run, mapping).handle((rowCount, error) -> {
+            DryRunResult result = new DryRunResult(
+                mapping.getSourceTable(),
+                mapping.getSourceSchema(),
+                mapping.getTargetSchema()
+            );
             
-            // Simulate migration for each table
-            for (TableMapping mapping : tableMappings) {
-                DryRunResult result = new DryRunResult(
-                    mapping.getSourceTable(),
+            try {
+                if (error != null) {
+                    throw error;
+                }
+                result.setRowCount(rowCount);
+                
+                // Estimate size (rough estimate: assume average row size)
+                long estimatedSizeBytes = estimateTableSize(
+                    run.project.getSourceConnection(),
                     mapping.getSourceSchema(),
-                    mapping.getTargetSchema()
+                    mapping.getSourceTable(),
+                    rowCount
                 );
+                result.setEstimatedSize(formatSize(estimatedSizeBytes));
                 
-                try {
-                    // Get row count
-                    Long rowCount = getRowCount(
-                        project.getSourceConnection(),
-                        mapping.getSourceSchema(),
-                        mapping.getSourceTable()
-                    );
-                    result.setRowCount(rowCount);
-                    
-                    // Estimate size (rough estimate: assume average row size)
-                    long estimatedSizeBytes = estimateTableSize(
-                        project.getSourceConnection(),
-                        mapping.getSourceSchema(),
-                        mapping.getSourceTable(),
-                        rowCount
-                    );
-                    result.setEstimatedSize(formatSize(estimatedSizeBytes));
-                    
-                    // Estimate time (rough estimate based on row count and size)
-                    long estimatedTimeSeconds = estimateMigrationTime(rowCount, estimatedSizeBytes);
-                    result.setEstimatedTime(formatTime(estimatedTimeSeconds));
-                    
-                    // Generate DDL preview
-                    String ddl = generateDdlPreview(mapping);
-                    result.setDdlPreview(ddl);
-                    
-                    // Check for potential issues
-                    List<String> issues = checkForIssues(mapping, rowCount, estimatedSizeBytes);
-                    result.setIssues(issues);
-                    
-                    if (!issues.isEmpty()) {
-                        result.setStatus("warning");
-                    } else {
-                        result.setStatus("ready");
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("Error in dry-run for table {}: {}", mapping.getSourceTable(), e.getMessage());
-                    result.setStatus("error");
-                    result.setErrorMessage(e.getMessage());
-                }
+                // Estimate time (rough estimate based on row count and size)
+                long estimatedTimeSeconds = estimateMigrationTime(rowCount, estimatedSizeBytes);
+                result.setEstimatedTime(formatTime(estimatedTimeSeconds));
                 
-                results.add(result);
-            }
+                // Generate DDL preview
+                String ddl = generateDdlPreview(run.project, mapping);
+                result.setDdlPreview(ddl);
+                
+                // Check for potential issues
+                List<String> issues = checkForIssues(mapping, rowCount, estimatedSizeBytes);
+                result.setIssues(issues);
+                
+                if (!issues.isEmpty()) {
+                    result.setStatus("warning");
+                } else {
+                    result.setStatus("ready");
+                }
             
+            } catch (Throwable e) {
+                log.error("Error in dry-run for table {}: {}", mapping.getSourceTable(), rootMessage(e));
+                result.setStatus("error");
+                result.setErrorMessage(rootMessage(e));
+            }
+            run.publish(ValidationType.DRY_RUN, result);
+            return result;
+        });
+    }
+    
+    private CompletableFuture<ColumnProfileResult> columnProfileTask(ValidationRun run, TableMapping mapping) {
+        ColumnProfileResult result = new ColumnProfileResult();
+        result.setTable(mapping.getSourceTable());
+        result.setSourceSchema(mapping.getSourceSchema());
+        result.setTargetSchema(mapping.getTargetSchema());
+        List<ColumnMapping> columns;
+        try {
+            columns = resolveChecksumColumns(mapping, run.options.getColumnsToInclude(), null);
         } catch (Exception e) {
-            log.error("Error in performDryRun: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to perform dry-run: " + e.getMessage(), e);
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+            result.setMatch(false);
+            run.publish(ValidationType.COLUMN_PROFILE, result);
+            return CompletableFuture.completedFuture(result);
         }
         
-        return results;
+        CompletableFuture<TableProfile> source = supplyAsync(run.sourceExecutor, () -> calculateTableProfile(
+            run.project.getSourceConnection(), mapping.getSourceSchema(), mapping.getSourceTable(), columns, true));
+        CompletableFuture<TableProfile> target = supplyAsync(run.targetExecutor, () -> calculateTableProfile(
+            run.project.getTargetConnection(), mapping.getTargetSchema(), mapping.getTargetTable(), columns, false));
+        
+        return CompletableFuture.allOf(source, target).handle((ignored, error) -> {
+            if (error != null) {
+                log.error("Error comparing column profiles for table {}: {}", mapping.getSourceTable(), rootMessage(error));
+                result.setStatus("error");
+                result.setErrorMessage(rootMessage(error));
+                result.setMatch(false);
+            } else {
+                TableProfile sourceProfile = source.join();
+                TableProfile targetProfile = target.join();
+                result.setSourceRows(sourceProfile.getRowCount());
+                result.setTargetRows(targetProfile.getRowCount());
+                boolean approximate = Boolean.TRUE.equals(sourceProfile.getDistinctApproximate()) ||
+                    Boolean.TRUE.equals(targetProfile.getDistinctApproximate());
+                boolean distinctAvailable = !Boolean.FALSE.equals(sourceProfile.getDistinctAvailable())
+                    && !Boolean.FALSE.equals(targetProfile.getDistinctAvailable());
+                result.setDistinctAvailable(distinctAvailable);
+                
+                boolean match = Objects.equals(sourceProfile.getRowCount(), targetProfile.getRowCount());
+                for (int i = 0; i < columns.size(); i++) {
+                    ColumnProfileComparison comparison = compareProfiles(columns.get(i),
+                        sourceProfile.getColumns().get(i), targetProfile.getColumns().get(i), approximate,
+                        distinctAvailable);
+                    result.getColumns().add(comparison);
+                    match &= comparison.getMatch();
+                }
+                result.setMatch(match);
+                result.setStatus(match ? "valid" : "invalid");
+            }
+            run.publish(ValidationType.COLUMN_PROFILE, result);
+            return result;
+        });
+    }
+    
+    private ColumnProfileComparison compareProfiles(ColumnMapping column, ColumnProfile source, ColumnProfile target,
+                                                    boolean approximateDistinct, boolean distinctAvailable) {
+        ColumnProfileComparison comparison = new ColumnProfileComparison();
+        comparison.setSourceColumn(column.getSourceColumn());
+        comparison.setTargetColumn(column.getTargetColumn());
+        comparison.setKind(sqlBuilder.resolveKind(column).name());
+        comparison.setSource(source);
+        comparison.setTarget(target);
+        
+        List<String> mismatches = comparison.getMismatches();
+        if (!Objects.equals(source.getNonNullCount(), target.getNonNullCount())) {
+            mismatches.add("nonNullCount");
+        }
+        if (!Objects.equals(source.getMin(), target.getMin())) {
+            mismatches.add("min");
+        }
+        if (!Objects.equals(source.getMax(), target.getMax())) {
+            mismatches.add("max");
+        }
+        if (!numericEquals(source.getSum(), target.getSum())) {
+            mismatches.add("sum");
+        }
+        if (!Objects.equals(source.getTotalLength(), target.getTotalLength())) {
+            mismatches.add("totalLength");
+        }
+        if (distinctAvailable
+                && !distinctEquals(source.getDistinctEstimate(), target.getDistinctEstimate(), approximateDistinct)) {
+            mismatches.add("distinctEstimate");
+        }
+        comparison.setMatch(mismatches.isEmpty());
+        return comparison;
+    }
+    
+    private boolean numericEquals(String source, String target) {
+        if (Objects.equals(source, target)) {
+            return true;
+        }
+        if (source == null || target == null) {
+            return false;
+        }
+        try {
+            return new BigDecimal(source).compareTo(new BigDecimal(target)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    private boolean distinctEquals(Long source, Long target, boolean approximate) {
+        if (Objects.equals(source, target)) {
+            return true;
+        }
+        if (source == null || target == null || !approximate) {
+            return false;
+        }
+        long larger = Math.max(Math.abs(source), Math.abs(target));
+        return Math.abs(source - target) <= Math.ceil(larger * DISTINCT_TOLERANCE);
+    }
+    
+    private CompletableFuture<Long> sourceRowCount(ValidationRun run, TableMapping mapping) {
+        return run.rowCounts.computeIfAbsent("source:" + mapping.getSourceSchema() + "." + mapping.getSourceTable(),
+            key -> supplyAsync(run.sourceExecutor, () -> getRowCount(
+                run.project.getSourceConnection(), mapping.getSourceSchema(), mapping.getSourceTable())));
+    }
+    
+    private CompletableFuture<Long> targetRowCount(ValidationRun run, TableMapping mapping) {
+        return run.rowCounts.computeIfAbsent("target:" + mapping.getTargetSchema() + "." + mapping.getTargetTable(),
+            key -> supplyAsync(run.targetExecutor, () -> getRowCount(
+                run.project.getTargetConnection(), mapping.getTargetSchema(), mapping.getTargetTable())));
+    }
+    
+    private ChecksumResult newChecksumResult(TableMapping mapping, String algorithm, String mode) {
+        ChecksumResult result = new ChecksumResult();
+        result.setTable(mapping.getSourceTable());
+        result.setSourceSchema(mapping.getSourceSchema());
+        result.setTargetSchema(mapping.getTargetSchema());
+        result.setAlgorithm(algorithm);
+        result.setMode(mode);
+        return result;
+    }
+    
+    private <T> CompletableFuture<T> supplyAsync(ExecutorService executor, Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+    
+    private String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
     }
     
     // Helper methods
     
-    private Long getRowCount(ConnectionConfig config, String schema, String tableName) throws SQLException {
+    /**
+     * Exact COUNT(*); validation never uses the estimated counts of {@link RowCountService}.
+     */
+    Long getRowCount(ConnectionConfig config, String schema, String tableName) throws SQLException {
         try (Connection conn = connectionManager.getConnection(config)) {
             // Quote identifiers appropriately
             String quotedSchema = quoteIdentifier(config.getType(), schema);
@@ -299,7 +576,9 @@ public class DataValidationService {
                                            String algorithm, List<String> columnsToInclude) throws SQLException {
         try (Connection conn = connectionManager.getConnection(config)) {
             // Get columns with their data types
-            Map<String, String> columnTypes = getTableColumnsWithTypes(conn, config.getType(), schema, tableName);
+            Map<String, String> columnTypes = metadataCache.get(conn, config, schema, "columns:" + tableName,
+                new TypeReference<LinkedHashMap<String, String>>() {},
+                () -> getTableColumnsWithTypes(conn, config.getType(), schema, tableName));
             
             // Build column list
             List<String> columnNames;
@@ -382,94 +661,198 @@ public class DataValidationService {
                 sql = String.format("SELECT %s FROM %s.%s ORDER BY ctid", columnList, quotedSchema, quotedTable);
             }
             
-            // Fetch all rows and calculate checksum
-            StringBuilder allData = new StringBuilder();
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(sql)) {
-                
-                ResultSetMetaData metaData = rs.getMetaData();
-                int columnCount = metaData.getColumnCount();
+            // Stream rows straight into the digest so memory stays constant regardless of table size
+            MessageDigest digest = createDigest(algorithm);
+            boolean originalAutoCommit = conn.getAutoCommit();
+            if ("postgresql".equalsIgnoreCase(config.getType())) {
+                // PostgreSQL JDBC only honours fetch size inside a transaction (cursor-based fetch)
+                conn.setAutoCommit(false);
+            }
+            
+            try (Statement stmt = conn.createStatement()) {
+                stmt.setFetchSize(CHECKSUM_FETCH_SIZE);
                 
-                while (rs.next()) {
-                    for (int i = 1; i <= columnCount; i++) {
-                        String columnName = columnNames.get(i - 1);
-                        
-                        // Check if this column needs binary handling (LONG RAW, BLOB)
-                        if (binaryColumnIndices.containsKey(i)) {
-                            // Handle binary columns that were selected directly (LONG RAW, BLOB)
-                            try {
-                                byte[] bytes = rs.getBytes(i);
-                                if (bytes != null) {
-                                    // Convert bytes to hex string
-                                    allData.append(bytesToHex(bytes));
-                                } else {
-                                    allData.append("NULL");
-                                }
-                            } catch (SQLException e) {
-                                // For very large LONG RAW, try getBinaryStream
-                                try {
-                                    java.io.InputStream is = rs.getBinaryStream(i);
-                                    if (is != null) {
-                                        byte[] buffer = new byte[8192];
-                                        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                                        int bytesRead;
-                                        while ((bytesRead = is.read(buffer)) != -1) {
-                                            baos.write(buffer, 0, bytesRead);
-                                        }
-                                        byte[] bytes = baos.toByteArray();
-                                        allData.append(bytesToHex(bytes));
-                                        is.close();
-                                    } else {
-                                        allData.append("NULL");
-                                    }
-                                } catch (Exception streamE) {
-                                    // Final fallback: try as object
-                                    try {
-                                        Object value = rs.getObject(i);
-                                        if (value instanceof byte[]) {
-                                            allData.append(bytesToHex((byte[]) value));
-                                        } else if (value != null) {
-                                            allData.append(value.toString());
-                                        } else {
-                                            allData.append("NULL");
-                                        }
-                                    } catch (Exception objE) {
-                                        log.warn("Failed to read binary column {}: {}", columnName, objE.getMessage());
-                                        allData.append("NULL");
-                                    }
-                                }
+                try (ResultSet rs = stmt.executeQuery(sql)) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    int columnCount = metaData.getColumnCount();
+                    byte[] readBuffer = new byte[STREAM_BUFFER_SIZE];
+                    byte[] hexBuffer = new byte[STREAM_BUFFER_SIZE * 2];
+                    
+                    while (rs.next()) {
+                        for (int i = 1; i <= columnCount; i++) {
+                            String columnName = columnNames.get(i - 1);
+                            
+                            // Check if this column needs binary handling (LONG RAW, BLOB)
+                            if (binaryColumnIndices.containsKey(i)) {
+                                updateDigestWithBinaryColumn(digest, rs, i, columnName, readBuffer, hexBuffer);
+                            } else {
+                                // For other types (including hex-encoded binary from SQL), get as string
+                                String value = rs.getString(i);
+                                updateDigest(digest, value != null ? value : "NULL");
+                            }
+                            
+                            if (i < columnCount) {
+                                digest.update(COLUMN_SEPARATOR);
                             }
-                        } else {
-                            // For other types (including hex-encoded binary from SQL), get as string
-                            String value = rs.getString(i);
-                            allData.append(value != null ? value : "NULL");
-                        }
-                        
-                        if (i < columnCount) {
-                            allData.append("|");
                         }
+                        digest.update(ROW_SEPARATOR);
                     }
-                    allData.append("\n");
+                }
+            } finally {
+                if (conn.getAutoCommit() != originalAutoCommit) {
+                    conn.rollback();
+                    conn.setAutoCommit(originalAutoCommit);
                 }
             }
             
-            // Calculate hash
-            String hash;
-            switch (algorithm.toUpperCase()) {
-                case "SHA256":
-                    hash = DigestUtils.sha256Hex(allData.toString());
-                    break;
-                case "SHA512":
-                    hash = DigestUtils.sha512Hex(allData.toString());
-                    break;
-                case "MD5":
-                default:
-                    hash = DigestUtils.md5Hex(allData.toString());
-                    break;
+            return bytesToHex(digest.digest());
+        }
+    }
+    
+    List<TableMapping> resolveTableMappings(Project project, List<String> tableNames) {
+        List<TableMapping> tableMappings = project.getTableMappings();
+        if (tableMappings == null || tableMappings.isEmpty()) {
+            throw new RuntimeException("No table mappings configured");
+        }
+        if (tableNames != null && !tableNames.isEmpty()) {
+            tableMappings = tableMappings.stream()
+                .filter(tm -> tableNames.contains(tm.getSourceTable()))
+                .collect(Collectors.toList());
+        }
+        return tableMappings;
+    }
+    
+    /**
+     * Pick the mapped column pairs to hash. Columns that cannot be referenced in SQL
+     * (LONG, LONG RAW) are skipped and reported on the result.
+     */
+    List<ColumnMapping> resolveChecksumColumns(TableMapping mapping, List<String> columnsToInclude,
+                                                       ChecksumResult result) {
+        if (mapping.getColumnMappings() == null || mapping.getColumnMappings().isEmpty()) {
+            throw new RuntimeException("No column mappings configured");
+        }
+        List<ColumnMapping> columns = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (ColumnMapping column : mapping.getColumnMappings()) {
+            if (columnsToInclude != null && !columnsToInclude.isEmpty() &&
+                columnsToInclude.stream().noneMatch(c -> c.equalsIgnoreCase(column.getSourceColumn()))) {
+                continue;
+            }
+            if (sqlBuilder.resolveKind(column) == ValidationSqlBuilder.ValueKind.UNSUPPORTED) {
+                skipped.add(column.getSourceColumn());
+                continue;
+            }
+            columns.add(column);
+        }
+        if (!skipped.isEmpty() && result != null) {
+            result.setErrorMessage("Columns excluded from in-database checksum: " + String.join(", ", skipped));
+        }
+        if (columns.isEmpty()) {
+            throw new RuntimeException("No columns eligible for in-database checksum");
+        }
+        return columns;
+    }
+    
+    /**
+     * Run the aggregate checksum query for one side of a mapping.
+     *
+     * @param sourceSide true to hash the source columns, false for the target columns
+     * @param whereClause optional predicate restricting the rows that are hashed
+     */
+    AggregateChecksum calculateAggregateChecksum(ConnectionConfig config, String schema, String tableName,
+                                                 List<ColumnMapping> columns, boolean sourceSide,
+                                                 String whereClause) throws SQLException {
+        String sql = sqlBuilder.aggregateChecksumSql(config.getType(), schema, tableName,
+            buildRowString(config.getType(), columns, sourceSide), whereClause);
+        
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                BigDecimal sum = rs.getBigDecimal(2);
+                return new AggregateChecksum(rs.getLong(1), sum != null ? sum.toBigInteger() : BigInteger.ZERO);
             }
+        }
+        return new AggregateChecksum(0L, BigInteger.ZERO);
+    }
+    
+    /**
+     * Run the single-pass column profile query for one side of a mapping.
+     */
+    TableProfile calculateTableProfile(ConnectionConfig config, String schema, String tableName,
+                                       List<ColumnMapping> columns, boolean sourceSide) throws SQLException {
+        String dbType = config.getType();
+        List<String> names = new ArrayList<>();
+        List<ValidationSqlBuilder.ValueKind> kinds = new ArrayList<>();
+        for (ColumnMapping column : columns) {
+            names.add(sourceSide ? column.getSourceColumn() : column.getTargetColumn());
+            kinds.add(sqlBuilder.resolveKind(column));
+        }
+        
+        try (Connection conn = connectionManager.getConnection(config)) {
+            String distinctFunction = null;
+            boolean approximate = "oracle".equalsIgnoreCase(dbType);
+            if ("postgresql".equalsIgnoreCase(dbType) && hasHllExtension(conn)) {
+                distinctFunction = ValidationSqlBuilder.DISTINCT_HLL;
+                approximate = true;
+            }
+            // Without an estimator, distinct counts are skipped rather than counted exactly
+            boolean distinctAvailable = approximate;
+            String sql = sqlBuilder.columnProfileSql(dbType, schema, tableName, names, kinds, distinctAvailable,
+                distinctFunction);
             
-            return hash;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                TableProfile profile = new TableProfile();
+                profile.setDistinctApproximate(approximate);
+                profile.setDistinctAvailable(distinctAvailable);
+                if (!rs.next()) {
+                    profile.setRowCount(0L);
+                    return profile;
+                }
+                profile.setRowCount(rs.getLong(1));
+                for (int i = 0; i < columns.size(); i++) {
+                    int base = 2 + i * ValidationSqlBuilder.PROFILE_METRICS;
+                    ColumnProfile column = new ColumnProfile();
+                    column.setNonNullCount(getNullableLong(rs, base));
+                    column.setMin(nullIfMarker(rs.getString(base + 1)));
+                    column.setMax(nullIfMarker(rs.getString(base + 2)));
+                    column.setSum(nullIfMarker(rs.getString(base + 3)));
+                    column.setTotalLength(getNullableLong(rs, base + 4));
+                    column.setDistinctEstimate(getNullableLong(rs, base + 5));
+                    profile.getColumns().add(column);
+                }
+                return profile;
+            }
+        }
+    }
+    
+    private boolean hasHllExtension(Connection conn) {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'hll'")) {
+            return rs.next();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    private Long getNullableLong(ResultSet rs, int index) throws SQLException {
+        BigDecimal value = rs.getBigDecimal(index);
+        return value != null ? value.longValue() : null;
+    }
+    
+    private String nullIfMarker(String value) {
+        return ValidationSqlBuilder.NULL_MARKER.equals(value) ? null : value;
+    }
+    
+    String buildRowString(String dbType, List<ColumnMapping> columns, boolean sourceSide) {
+        List<String> names = new ArrayList<>();
+        List<ValidationSqlBuilder.ValueKind> kinds = new ArrayList<>();
+        for (ColumnMapping column : columns) {
+            names.add(sourceSide ? column.getSourceColumn() : column.getTargetColumn());
+            kinds.add(sqlBuilder.resolveKind(column));
         }
+        return sqlBuilder.rowStringExpression(dbType, names, kinds);
     }
     
     /**
@@ -484,23 +867,88 @@ public class DataValidationService {
                upper.contains("BINARY");
     }
     
+    /**
+     * Create the message digest for the requested checksum algorithm
+     */
+    private MessageDigest createDigest(String algorithm) {
+        switch (algorithm.toUpperCase()) {
+            case "SHA256":
+                return DigestUtils.getSha256Digest();
+            case "SHA512":
+                return DigestUtils.getSha512Digest();
+            case "MD5":
+            default:
+                return DigestUtils.getMd5Digest();
+        }
+    }
+    
+    private void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Feed a LONG RAW / BLOB column into the digest as lowercase hex, streaming the value
+     * in fixed-size blocks instead of materializing it on the heap.
+     */
+    private void updateDigestWithBinaryColumn(MessageDigest digest, ResultSet rs, int index, String columnName,
+                                              byte[] readBuffer, byte[] hexBuffer) {
+        try (InputStream is = rs.getBinaryStream(index)) {
+            if (is == null) {
+                updateDigest(digest, "NULL");
+                return;
+            }
+            int bytesRead;
+            while ((bytesRead = is.read(readBuffer)) != -1) {
+                int hexLength = encodeHex(readBuffer, bytesRead, hexBuffer);
+                digest.update(hexBuffer, 0, hexLength);
+            }
+        } catch (Exception streamE) {
+            // Fallback: try as object
+            try {
+                Object value = rs.getObject(index);
+                if (value instanceof byte[]) {
+                    updateDigest(digest, bytesToHex((byte[]) value));
+                } else if (value != null) {
+                    updateDigest(digest, value.toString());
+                } else {
+                    updateDigest(digest, "NULL");
+                }
+            } catch (Exception objE) {
+                log.warn("Failed to read binary column {}: {}", columnName, objE.getMessage());
+                updateDigest(digest, "NULL");
+            }
+        }
+    }
+    
+    /**
+     * Encode the first {@code length} bytes of {@code bytes} as lowercase ASCII hex into {@code out}.
+     * Returns the number of bytes written.
+     */
+    private static int encodeHex(byte[] bytes, int length, byte[] out) {
+        int j = 0;
+        for (int i = 0; i < length; i++) {
+            int v = bytes[i] & 0xFF;
+            out[j++] = HEX_DIGITS[v >>> 4];
+            out[j++] = HEX_DIGITS[v & 0x0F];
+        }
+        return j;
+    }
+    
     /**
      * Convert byte array to hex string
      */
-    private String bytesToHex(byte[] bytes) {
+    private static String bytesToHex(byte[] bytes) {
         if (bytes == null) return "NULL";
-        StringBuilder hex = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            hex.append(String.format("%02x", b));
-        }
-        return hex.toString();
+        byte[] hex = new byte[bytes.length * 2];
+        encodeHex(bytes, bytes.length, hex);
+        return new String(hex, StandardCharsets.US_ASCII);
     }
     
     /**
      * Get table columns with their data types
      */
-    private Map<String, String> getTableColumnsWithTypes(Connection conn, String dbType, String schema, String tableName) throws SQLException {
-        Map<String, String> columns = new LinkedHashMap<>();
+    private LinkedHashMap<String, String> getTableColumnsWithTypes(Connection conn, String dbType, String schema, String tableName) throws SQLException {
+        LinkedHashMap<String, String> columns = new LinkedHashMap<>();
         
         if ("oracle".equalsIgnoreCase(dbType)) {
             String sql = """
@@ -600,7 +1048,7 @@ public class DataValidationService {
         }
     }
     
-    private String generateDdlPreview(TableMapping mapping) {
+    private String generateDdlPreview(Project project, TableMapping mapping) {
         // Simple DDL preview - in production, you'd generate actual CREATE TABLE statement
         StringBuilder ddl = new StringBuilder();
         ddl.append("CREATE TABLE ").append(mapping.getTargetSchema())
@@ -623,7 +1071,18 @@ public class DataValidationService {
             ddl.append("  -- Column mappings not configured\n");
         }
         
-        ddl.append(");");
+        ddl.append(")");
+        TablePartitioning partitioning = Boolean.TRUE.equals(settingsService.getSettings().getPartitionedTargets())
+            ? partitioningService.findPartitioning(project.getSourceConnection(), mapping)
+            : null;
+        if (partitioning != null) {
+            ddl.append(partitioningService.partitionByClause(partitioning, mapping)).append(";");
+            for (String partitionSql : partitioningService.partitionStatements(partitioning, mapping)) {
+                ddl.append("\n").append(partitionSql).append(";");
+            }
+        } else {
+            ddl.append(";");
+        }
         return ddl.toString();
     }
     
@@ -1,5 +1,6 @@
 package com.ora2pg.migration.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.ora2pg.migration.model.*;
 import com.ora2pg.migration.util.ColumnNameTransformer;
 import com.ora2pg.migration.util.DatabaseConnectionManager;
@@ -9,16 +10,37 @@ import org.springframework.stereotype.Service;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class DatabaseService {
     
+    private static final int DICTIONARY_FETCH_SIZE = 1000;
+    
     @Autowired
     private DatabaseConnectionManager connectionManager;
     
+    @Autowired
+    private SettingsService settingsService;
+    
+    @Autowired
+    private RowCountService rowCountService;
+    
+    @Autowired
+    private SchemaMetadataCacheService metadataCache;
+    
     public ConnectionTestResult testConnection(ConnectionConfig config) {
         long startTime = System.currentTimeMillis();
         try {
@@ -41,151 +63,241 @@ public class DatabaseService {
     }
     
     public List<TableInfo> discoverTables(ConnectionConfig config, String schema, String tableNameFilter) throws SQLException {
-        List<TableInfo> tables = new ArrayList<>();
+        return discoverTables(config, schema, tableNameFilter, true);
+    }
+    
+    public List<TableInfo> discoverTables(ConnectionConfig config, String schema, String tableNameFilter,
+                                          boolean includeRowCounts) throws SQLException {
+        return discoverTables(config, schema, tableNameFilter, null, includeRowCounts, table -> {});
+    }
+    
+    /**
+     * Discover all tables of a schema with a handful of set-based dictionary queries (tables,
+     * columns, column defaults, key constraints) and assemble the result in memory. The structure
+     * is served from the metadata cache while the schema has seen no DDL.
+     *
+     * @param namePrefix       only tables whose name starts with this prefix, or null
+     * @param includeRowCounts false to skip row counts entirely; otherwise the configured count
+     *                         strategy is used and any per-table counts run in parallel
+     * @param listener         receives every table as soon as it is complete, so callers can
+     *                         stream results while slow row counts are still running
+     */
+    public List<TableInfo> discoverTables(ConnectionConfig config, String schema, String tableNameFilter,
+                                          String namePrefix, boolean includeRowCounts,
+                                          Consumer<TableInfo> listener) throws SQLException {
+        long started = System.currentTimeMillis();
+        List<TableInfo> tables = discoverStructure(config, schema, tableNameFilter, namePrefix);
+        completeTables(config, schema, dictionaryFilter(tableNameFilter, namePrefix), tables, includeRowCounts, listener);
+        log.info("Discovered {} tables in schema {} in {} ms", tables.size(), schema,
+            System.currentTimeMillis() - started);
+        return tables;
+    }
+    
+    /**
+     * Discover one page of tables, ordered by name. Row counts are only resolved for the tables
+     * of the page.
+     */
+    public TableDiscoveryPage discoverTablePage(ConnectionConfig config, String schema, String tableNameFilter,
+                                                String namePrefix, int offset, int limit,
+                                                boolean includeRowCounts) throws SQLException {
+        List<TableInfo> matching = discoverStructure(config, schema, tableNameFilter, namePrefix);
+        int from = Math.min(Math.max(offset, 0), matching.size());
+        int to = Math.min(from + Math.max(limit, 1), matching.size());
+        
+        List<TableInfo> page = new ArrayList<>(matching.subList(from, to));
+        completeTables(config, schema, dictionaryFilter(tableNameFilter, namePrefix), page, includeRowCounts, table -> {});
+        return new TableDiscoveryPage(page, from, limit, matching.size(), to < matching.size());
+    }
+    
+    /**
+     * LIKE pattern for the dictionary queries. A prefix alone narrows the queries too; since
+     * '_' is a LIKE wildcard the prefix is re-checked exactly afterwards.
+     */
+    private String dictionaryFilter(String tableNameFilter, String namePrefix) {
+        if (tableNameFilter != null && !tableNameFilter.trim().isEmpty()) {
+            return tableNameFilter.trim();
+        }
+        if (namePrefix != null && !namePrefix.isEmpty()) {
+            return namePrefix + "%";
+        }
+        return null;
+    }
+    
+    /**
+     * Tables, columns and keys without row counts, ordered by table name.
+     */
+    private List<TableInfo> discoverStructure(ConnectionConfig config, String schema, String tableNameFilter,
+                                              String namePrefix) throws SQLException {
+        boolean oracle = "oracle".equalsIgnoreCase(config.getType());
+        if (!oracle && !"postgresql".equalsIgnoreCase(config.getType())) {
+            return new ArrayList<>();
+        }
+        String filter = dictionaryFilter(tableNameFilter, namePrefix);
+        String section = "tables:" + (filter == null ? "" : filter);
         
+        List<TableInfo> tables;
         try (Connection conn = connectionManager.getConnection(config)) {
-            if ("oracle".equalsIgnoreCase(config.getType())) {
-                tables = discoverOracleTables(conn, schema, tableNameFilter);
-            } else if ("postgresql".equalsIgnoreCase(config.getType())) {
-                tables = discoverPostgresTables(conn, schema, tableNameFilter);
-            }
+            tables = metadataCache.get(conn, config, schema, section,
+                new TypeReference<List<TableInfo>>() {},
+                () -> new ArrayList<>((oracle
+                    ? loadOracleMetadata(conn, schema, filter)
+                    : loadPostgresMetadata(conn, schema, filter)).values()));
         }
         
+        if (namePrefix != null && !namePrefix.isEmpty()) {
+            String prefix = oracle ? namePrefix.toUpperCase() : namePrefix;
+            tables.removeIf(t -> !t.getTableName().startsWith(prefix));
+        }
         return tables;
     }
     
-    private List<TableInfo> discoverOracleTables(Connection conn, String schema, String tableNameFilter) throws SQLException {
-        List<TableInfo> tables = new ArrayList<>();
+    private void completeTables(ConnectionConfig config, String schema, String filter, List<TableInfo> tables,
+                                boolean includeRowCounts, Consumer<TableInfo> listener) throws SQLException {
+        if (!includeRowCounts) {
+            tables.forEach(listener);
+            return;
+        }
         
-        // Build SQL with optional table name filter
+        AppSettings settings = settingsService.getSettings();
+        Map<String, Long> statistics = new HashMap<>();
+        // Statistics change without DDL, so they are never cached
+        if (rowCountService.resolveStrategy(settings) == RowCountService.CountStrategy.STATISTICS) {
+            try (Connection conn = connectionManager.getConnection(config)) {
+                statistics = loadTableStatistics(conn, "oracle".equalsIgnoreCase(config.getType()), schema, filter);
+            }
+        }
+        fillRowCounts(config, schema, tables, statistics, settings, listener);
+    }
+    
+    private Map<String, Long> loadTableStatistics(Connection conn, boolean oracle, String schema,
+                                                  String tableNameFilter) throws SQLException {
+        boolean filtered = tableNameFilter != null && !tableNameFilter.trim().isEmpty();
         String sql;
-        if (tableNameFilter != null && !tableNameFilter.trim().isEmpty()) {
-            sql = """
-                SELECT table_name 
-                FROM all_tables 
-                WHERE owner = UPPER(?) AND table_name LIKE UPPER(?)
-                ORDER BY table_name
-                """;
+        String filterValue = null;
+        if (oracle) {
+            sql = "SELECT table_name, num_rows FROM all_tables WHERE owner = UPPER(?)"
+                + (filtered ? " AND table_name LIKE UPPER(?)" : "");
+            filterValue = filtered ? tableNameFilter.toUpperCase() : null;
         } else {
             sql = """
-                SELECT table_name 
-                FROM all_tables 
-                WHERE owner = UPPER(?)
-                ORDER BY table_name
-                """;
+                SELECT c.relname AS table_name,
+                       CASE WHEN c.reltuples < 0 THEN NULL ELSE c.reltuples::bigint END AS num_rows
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relkind IN ('r', 'p')""" + (filtered ? " AND c.relname LIKE ?" : "");
+            filterValue = filtered ? tableNameFilter : null;
         }
         
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, schema);
-            if (tableNameFilter != null && !tableNameFilter.trim().isEmpty()) {
-                stmt.setString(2, tableNameFilter.toUpperCase());
-            }
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String tableName = rs.getString("table_name");
-                    TableInfo table = new TableInfo(tableName, schema);
-                    Long rowCount = getRowCount(conn, schema, tableName);
-                    table.setRowCount(rowCount);
-                    List<ColumnInfo> columns = discoverOracleColumns(conn, schema, tableName);
-                    table.setColumns(columns);
-                    tables.add(table);
-                    log.info("Scanned table {} with total rows {} and total columns {}", tableName, rowCount, columns.size());
+        Map<String, Long> statistics = new HashMap<>();
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, sql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                long numRows = rs.getLong("num_rows");
+                if (!rs.wasNull()) {
+                    statistics.put(rs.getString("table_name"), numRows);
                 }
             }
         }
-        
-        return tables;
+        return statistics;
     }
     
-    private List<TableInfo> discoverPostgresTables(Connection conn, String schema, String tableNameFilter) throws SQLException {
-        List<TableInfo> tables = new ArrayList<>();
+    private Map<String, TableInfo> loadOracleMetadata(Connection conn, String schema,
+                                                      String tableNameFilter) throws SQLException {
+        boolean filtered = tableNameFilter != null && !tableNameFilter.trim().isEmpty();
+        String tableFilter = filtered ? " AND table_name LIKE UPPER(?)" : "";
+        String filterValue = filtered ? tableNameFilter.toUpperCase() : null;
+        Map<String, TableInfo> tables = new LinkedHashMap<>();
         
-        // Build SQL with optional table name filter
-        String sql;
-        if (tableNameFilter != null && !tableNameFilter.trim().isEmpty()) {
-            sql = """
-                SELECT table_name 
-                FROM information_schema.tables 
-                WHERE table_schema = ?
-                AND table_type = 'BASE TABLE'
-                AND table_name LIKE ?
-                ORDER BY table_name
-                """;
-        } else {
-            sql = """
-                SELECT table_name 
-                FROM information_schema.tables 
-                WHERE table_schema = ?
-                AND table_type = 'BASE TABLE'
-                ORDER BY table_name
-                """;
+        String tablesSql = "SELECT table_name FROM all_tables WHERE owner = UPPER(?)" + tableFilter
+            + " ORDER BY table_name";
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, tablesSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String tableName = rs.getString("table_name");
+                tables.put(tableName, new TableInfo(tableName, schema));
+            }
         }
         
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, schema);
-            if (tableNameFilter != null && !tableNameFilter.trim().isEmpty()) {
-                stmt.setString(2, tableNameFilter);
-            }
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String tableName = rs.getString("table_name");
-                    TableInfo table = new TableInfo(tableName, schema);
-                    table.setRowCount(getRowCount(conn, schema, tableName));
-                    table.setColumns(discoverPostgresColumns(conn, schema, tableName));
-                    tables.add(table);
+        // DATA_DEFAULT is a LONG, which disables array fetching, so it is read separately below
+        String columnsSql = """
+            SELECT table_name, column_name, data_type, data_length, data_precision, data_scale, nullable
+            FROM all_tab_columns
+            WHERE owner = UPPER(?)""" + tableFilter + " ORDER BY table_name, column_id";
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, columnsSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                TableInfo table = tables.get(rs.getString("table_name"));
+                if (table == null) {
+                    continue; // views and clusters are listed in all_tab_columns too
                 }
+                ColumnInfo col = new ColumnInfo();
+                col.setColumnName(rs.getString("column_name"));
+                col.setDataType(rs.getString("data_type"));
+                col.setDataLength(rs.getInt("data_length"));
+                col.setDataPrecision(rs.getInt("data_precision"));
+                col.setDataScale(rs.getInt("data_scale"));
+                col.setNullable("Y".equalsIgnoreCase(rs.getString("nullable")));
+                col.setIsPrimaryKey(false);
+                col.setIsForeignKey(false);
+                table.getColumns().add(col);
             }
         }
         
-        return tables;
-    }
-    
-    private List<ColumnInfo> discoverOracleColumns(Connection conn, String schema, String tableName) throws SQLException {
-        List<ColumnInfo> columns = new ArrayList<>();
-        String sql = """
-            SELECT 
-                column_name,
-                data_type,
-                data_length,
-                data_precision,
-                data_scale,
-                nullable,
-                data_default
+        String defaultsSql = """
+            SELECT table_name, column_name, data_default
             FROM all_tab_columns
-            WHERE owner = UPPER(?) AND table_name = UPPER(?)
-            ORDER BY column_id
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, schema);
-            stmt.setString(2, tableName);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    ColumnInfo col = new ColumnInfo();
-                    col.setColumnName(rs.getString("column_name"));
-                    col.setDataType(rs.getString("data_type"));
-                    col.setDataLength(rs.getInt("data_length"));
-                    col.setDataPrecision(rs.getInt("data_precision"));
-                    col.setDataScale(rs.getInt("data_scale"));
-                    col.setNullable("Y".equalsIgnoreCase(rs.getString("nullable")));
-                    col.setDefaultValue(rs.getString("data_default"));
-                    columns.add(col);
-                }
+            WHERE owner = UPPER(?) AND default_length IS NOT NULL""" + tableFilter;
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, defaultsSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String tableName = rs.getString("table_name");
+                String columnName = rs.getString("column_name");
+                String defaultValue = rs.getString("data_default");
+                findColumn(tables.get(tableName), columnName).ifPresent(c -> c.setDefaultValue(defaultValue));
             }
         }
         
-        // Get primary keys
-        setPrimaryKeys(conn, schema, tableName, columns);
-        // Get foreign keys
-        setForeignKeys(conn, schema, tableName, columns);
+        String keysSql = """
+            SELECT cc.table_name, cc.column_name, c.constraint_type
+            FROM all_constraints c
+            JOIN all_cons_columns cc
+                ON cc.owner = c.owner AND cc.constraint_name = c.constraint_name AND cc.table_name = c.table_name
+            WHERE c.owner = UPPER(?) AND c.constraint_type IN ('P', 'R')""" + tableFilter.replace("table_name", "c.table_name");
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, keysSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                boolean primary = "P".equals(rs.getString("constraint_type"));
+                findColumn(tables.get(rs.getString("table_name")), rs.getString("column_name"))
+                    .ifPresent(c -> markKey(c, primary));
+            }
+        }
         
-        return columns;
+        return tables;
     }
     
-    private List<ColumnInfo> discoverPostgresColumns(Connection conn, String schema, String tableName) throws SQLException {
-        List<ColumnInfo> columns = new ArrayList<>();
-        String sql = """
-            SELECT 
+    private Map<String, TableInfo> loadPostgresMetadata(Connection conn, String schema,
+                                                        String tableNameFilter) throws SQLException {
+        boolean filtered = tableNameFilter != null && !tableNameFilter.trim().isEmpty();
+        String filterValue = filtered ? tableNameFilter : null;
+        Map<String, TableInfo> tables = new LinkedHashMap<>();
+        
+        String tablesSql = """
+            SELECT c.relname AS table_name
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = ? AND c.relkind IN ('r', 'p') AND NOT c.relispartition""" +
+            (filtered ? " AND c.relname LIKE ?" : "") + " ORDER BY c.relname";
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, tablesSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String tableName = rs.getString("table_name");
+                tables.put(tableName, new TableInfo(tableName, schema));
+            }
+        }
+        
+        String columnsSql = """
+            SELECT
+                table_name,
                 column_name,
                 data_type,
                 character_maximum_length as data_length,
@@ -194,80 +306,155 @@ public class DatabaseService {
                 is_nullable,
                 column_default
             FROM information_schema.columns
-            WHERE table_schema = ? AND table_name = ?
-            ORDER BY ordinal_position
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, schema);
-            stmt.setString(2, tableName);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    ColumnInfo col = new ColumnInfo();
-                    col.setColumnName(rs.getString("column_name"));
-                    col.setDataType(rs.getString("data_type"));
-                    col.setDataLength(rs.getInt("data_length"));
-                    col.setDataPrecision(rs.getInt("data_precision"));
-                    col.setDataScale(rs.getInt("data_scale"));
-                    col.setNullable("YES".equalsIgnoreCase(rs.getString("is_nullable")));
-                    col.setDefaultValue(rs.getString("column_default"));
-                    columns.add(col);
+            WHERE table_schema = ?""" + (filtered ? " AND table_name LIKE ?" : "") +
+            " ORDER BY table_name, ordinal_position";
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, columnsSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                TableInfo table = tables.get(rs.getString("table_name"));
+                if (table == null) {
+                    continue; // views, foreign tables and partitions
                 }
+                ColumnInfo col = new ColumnInfo();
+                col.setColumnName(rs.getString("column_name"));
+                col.setDataType(rs.getString("data_type"));
+                col.setDataLength(rs.getInt("data_length"));
+                col.setDataPrecision(rs.getInt("data_precision"));
+                col.setDataScale(rs.getInt("data_scale"));
+                col.setNullable("YES".equalsIgnoreCase(rs.getString("is_nullable")));
+                col.setDefaultValue(rs.getString("column_default"));
+                col.setIsPrimaryKey(false);
+                col.setIsForeignKey(false);
+                table.getColumns().add(col);
             }
         }
         
-        // Get primary keys
-        setPrimaryKeys(conn, schema, tableName, columns);
-        // Get foreign keys
-        setForeignKeys(conn, schema, tableName, columns);
+        String keysSql = """
+            SELECT kcu.table_name, kcu.column_name, tc.constraint_type
+            FROM information_schema.table_constraints tc
+            JOIN information_schema.key_column_usage kcu
+                ON kcu.constraint_schema = tc.constraint_schema
+                AND kcu.constraint_name = tc.constraint_name
+                AND kcu.table_name = tc.table_name
+            WHERE tc.table_schema = ? AND tc.constraint_type IN ('PRIMARY KEY', 'FOREIGN KEY')""" +
+            (filtered ? " AND tc.table_name LIKE ?" : "");
+        try (PreparedStatement stmt = prepareDictionaryQuery(conn, keysSql, schema, filterValue);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                boolean primary = "PRIMARY KEY".equals(rs.getString("constraint_type"));
+                findColumn(tables.get(rs.getString("table_name")), rs.getString("column_name"))
+                    .ifPresent(c -> markKey(c, primary));
+            }
+        }
         
-        return columns;
+        return tables;
     }
     
-    private void setPrimaryKeys(Connection conn, String schema, String tableName, List<ColumnInfo> columns) throws SQLException {
-        String sql = """
-            SELECT column_name
-            FROM information_schema.table_constraints tc
-            JOIN information_schema.constraint_column_usage ccu 
-                ON tc.constraint_name = ccu.constraint_name
-            WHERE tc.table_schema = ? 
-                AND tc.table_name = ?
-                AND tc.constraint_type = 'PRIMARY KEY'
-            """;
-        
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, schema);
-            stmt.setString(2, tableName);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String colName = rs.getString("column_name");
-                    columns.stream()
-                        .filter(c -> c.getColumnName().equalsIgnoreCase(colName))
-                        .forEach(c -> c.setIsPrimaryKey(true));
-                }
-            }
-        } catch (SQLException e) {
-            // Oracle uses different system tables, handle separately if needed
+    private PreparedStatement prepareDictionaryQuery(Connection conn, String sql, String schema,
+                                                     String filterValue) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        stmt.setFetchSize(DICTIONARY_FETCH_SIZE);
+        stmt.setString(1, schema);
+        if (filterValue != null) {
+            stmt.setString(2, filterValue);
         }
+        return stmt;
     }
     
-    private void setForeignKeys(Connection conn, String schema, String tableName, List<ColumnInfo> columns) throws SQLException {
-        // Simplified - would need database-specific queries
-        // For now, mark as false
-        columns.forEach(c -> c.setIsForeignKey(false));
+    private Optional<ColumnInfo> findColumn(TableInfo table, String columnName) {
+        if (table == null || columnName == null) {
+            return Optional.empty();
+        }
+        return table.getColumns().stream()
+            .filter(c -> c.getColumnName().equalsIgnoreCase(columnName))
+            .findFirst();
     }
     
-    private Long getRowCount(Connection conn, String schema, String tableName) {
+    private void markKey(ColumnInfo column, boolean primary) {
+        if (primary) {
+            column.setIsPrimaryKey(true);
+        } else {
+            column.setIsForeignKey(true);
+        }
+    }
+    
+    /**
+     * Fill row counts from the dictionary statistics where possible; only tables the
+     * configured strategy cannot answer from statistics are counted, in parallel.
+     */
+    private void fillRowCounts(ConnectionConfig config, String schema, List<TableInfo> tables,
+                               Map<String, Long> statistics, AppSettings settings,
+                               Consumer<TableInfo> listener) {
+        RowCountService.CountStrategy strategy = rowCountService.resolveStrategy(settings);
+        double samplePercent = rowCountService.resolveSamplePercent(settings);
+        
+        List<TableInfo> toCount = new ArrayList<>();
+        for (TableInfo table : tables) {
+            Long estimate = statistics.get(table.getTableName());
+            if (strategy == RowCountService.CountStrategy.STATISTICS && estimate != null) {
+                table.setRowCount(estimate);
+                listener.accept(table);
+            } else {
+                toCount.add(table);
+            }
+        }
+        if (toCount.isEmpty()) {
+            return;
+        }
+        
+        int threads = Math.max(1, Math.min(toCount.size(),
+            settings.getParallelJobs() != null ? settings.getParallelJobs() : 4));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        // One connection per worker, reused for all the tables that worker counts
+        ThreadLocal<Connection> workerConnection = new ThreadLocal<>();
+        List<Connection> opened = Collections.synchronizedList(new ArrayList<>());
         try {
-            String sql = String.format("SELECT COUNT(*) FROM %s.%s", schema, tableName);
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(sql)) {
-                if (rs.next()) {
-                    return rs.getLong(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (TableInfo table : toCount) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        Connection conn = workerConnection.get();
+                        if (conn == null) {
+                            conn = connectionManager.getConnection(config);
+                            workerConnection.set(conn);
+                            opened.add(conn);
+                        }
+                        table.setRowCount(getRowCount(conn, schema, table.getTableName(), strategy, samplePercent));
+                    } catch (SQLException e) {
+                        table.setRowCount(0L);
+                    }
+                    synchronized (listener) {
+                        listener.accept(table);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Row counting during discovery failed: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+            for (Connection conn : opened) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    log.warn("Failed to close connection", e);
                 }
             }
+        }
+    }
+    
+    private Long getRowCount(Connection conn, String schema, String tableName,
+                             RowCountService.CountStrategy strategy, double samplePercent) {
+        try {
+            // Discovery only needs an indication of size, so honour the configured count strategy
+            return rowCountService.countRows(conn, schema, tableName, schema + "." + tableName, null,
+                strategy, samplePercent);
         } catch (SQLException e) {
-            // Return null if count fails
+            log.warn("Failed to count rows of {}.{}: {}", schema, tableName, e.getMessage());
         }
         return 0L;
     }
@@ -0,0 +1,356 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fast-load profile for the target: indexes, primary/unique keys and foreign keys of the loaded
+ * tables are dropped before the copy and rebuilt afterwards, so rows are not paying for index
+ * maintenance while they are inserted. Check and NOT NULL constraints stay in place. Tables can
+ * also be switched to UNLOGGED for the load and back to LOGGED at the end.
+ */
+@Slf4j
+@Service
+public class FastLoadService {
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    /**
+     * An index or constraint as it was defined before the load.
+     *
+     * @param table      qualified, quoted table name
+     * @param name       index or constraint name as in the catalog
+     * @param definition {@code CREATE INDEX} statement, or the constraint definition
+     */
+    record DeferredObject(String table, String name, String definition) {
+    }
+    
+    /**
+     * Definitions dropped for the load, in the order they have to be rebuilt.
+     */
+    static class Snapshot {
+        private final List<DeferredObject> keys = new ArrayList<>();
+        private final List<DeferredObject> indexes = new ArrayList<>();
+        private final List<DeferredObject> foreignKeys = new ArrayList<>();
+        
+        int foreignKeyCount() {
+            return foreignKeys.size();
+        }
+        
+        int size() {
+            return keys.size() + indexes.size() + foreignKeys.size();
+        }
+        
+        boolean isEmpty() {
+            return size() == 0;
+        }
+        
+        /**
+         * SQL that recreates everything in the snapshot, for the migration log.
+         */
+        String restoreScript() {
+            List<String> statements = new ArrayList<>();
+            keys.forEach(k -> statements.add(addConstraintSql(k) + ";"));
+            indexes.forEach(i -> statements.add(i.definition() + ";"));
+            foreignKeys.forEach(f -> statements.add(addConstraintSql(f) + ";"));
+            return String.join("\n", statements);
+        }
+    }
+    
+    /**
+     * Record the definitions of all indexes and keys of the given target tables, including foreign
+     * keys of other tables that reference them, and drop them in one transaction.
+     */
+    Snapshot snapshotAndDrop(ConnectionConfig target, List<TableMapping> tableMappings) throws SQLException {
+        Snapshot snapshot = new Snapshot();
+        Map<String, DeferredObject> foreignKeys = new LinkedHashMap<>();
+        
+        try (Connection conn = connectionManager.getConnection(target)) {
+            conn.setAutoCommit(false);
+            try {
+                for (TableMapping mapping : tableMappings) {
+                    String table = qualifiedName(mapping);
+                    readConstraints(conn, table, snapshot.keys, foreignKeys);
+                    readIndexes(conn, table, snapshot.indexes);
+                }
+                snapshot.foreignKeys.addAll(foreignKeys.values());
+                
+                // Foreign keys first: they depend on the keys of the referenced tables
+                try (Statement stmt = conn.createStatement()) {
+                    for (DeferredObject fk : snapshot.foreignKeys) {
+                        stmt.execute(dropConstraintSql(fk));
+                    }
+                    for (DeferredObject key : snapshot.keys) {
+                        stmt.execute(dropConstraintSql(key));
+                    }
+                    for (DeferredObject index : snapshot.indexes) {
+                        stmt.execute("DROP INDEX " + index.name());
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Rebuild the keys and indexes of a snapshot, in parallel across tables.
+     *
+     * @return the statements that failed, with their error
+     */
+    List<String> rebuildKeysAndIndexes(ConnectionConfig target, Snapshot snapshot, int workers,
+                                       String maintenanceWorkMem) {
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        
+        // One session per table: its keys first, then its other indexes
+        Map<String, List<String>> buildsByTable = new LinkedHashMap<>();
+        for (DeferredObject key : snapshot.keys) {
+            buildsByTable.computeIfAbsent(key.table(), t -> new ArrayList<>()).add(addConstraintSql(key));
+        }
+        for (DeferredObject index : snapshot.indexes) {
+            buildsByTable.computeIfAbsent(index.table(), t -> new ArrayList<>()).add(index.definition());
+        }
+        runPerTable(target, buildsByTable, workers, maintenanceWorkMem, failures);
+        return failures;
+    }
+    
+    /**
+     * Re-add the foreign keys of a snapshot {@code NOT VALID} and validate them concurrently.
+     *
+     * @return the statements that failed, with their error
+     */
+    List<String> rebuildForeignKeys(ConnectionConfig target, Snapshot snapshot, int workers) {
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        
+        // Adding NOT VALID only takes a brief lock; the scan happens in VALIDATE, which does not
+        // block writes and can run for several tables at once
+        Map<String, List<String>> validationsByTable = new LinkedHashMap<>();
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            for (DeferredObject fk : snapshot.foreignKeys) {
+                boolean alreadyNotValid = fk.definition().toUpperCase().endsWith("NOT VALID");
+                String sql = addConstraintSql(fk) + (alreadyNotValid ? "" : " NOT VALID");
+                try {
+                    stmt.execute(sql);
+                    if (!alreadyNotValid) {
+                        validationsByTable.computeIfAbsent(fk.table(), t -> new ArrayList<>())
+                            .add("ALTER TABLE " + fk.table() + " VALIDATE CONSTRAINT " + quote(fk.name()));
+                    }
+                } catch (SQLException e) {
+                    failures.add(sql + ": " + e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            failures.add("Failed to restore foreign keys: " + e.getMessage());
+        }
+        runPerTable(target, validationsByTable, workers, null, failures);
+        return failures;
+    }
+    
+    /**
+     * Switch the permanent target tables among the given ones to UNLOGGED, so the load is not
+     * written to WAL. Tables that cannot be switched (for example because a foreign key links
+     * them to a logged table) stay logged.
+     *
+     * @return qualified names of the tables that were switched
+     */
+    List<String> setUnlogged(ConnectionConfig target, List<TableMapping> tableMappings) throws SQLException {
+        List<String> switched = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement persistence = conn.prepareStatement(
+                 "SELECT relpersistence, relkind FROM pg_class WHERE oid = to_regclass(?)");
+             Statement stmt = conn.createStatement()) {
+            for (TableMapping mapping : tableMappings) {
+                String table = qualifiedName(mapping);
+                persistence.setString(1, table);
+                try (ResultSet rs = persistence.executeQuery()) {
+                    if (!rs.next() || !"p".equals(rs.getString(1))) {
+                        continue; // missing, or already unlogged before this run
+                    }
+                    if (!"r".equals(rs.getString(2))) {
+                        continue; // partitioned parents have no storage of their own
+                    }
+                }
+                try {
+                    stmt.execute("ALTER TABLE " + table + " SET UNLOGGED");
+                    switched.add(table);
+                } catch (SQLException e) {
+                    log.warn("Table {} stays logged during the load: {}", table, e.getMessage());
+                }
+            }
+        }
+        return switched;
+    }
+    
+    /**
+     * Switch tables back to LOGGED one at a time, so the WAL written by each rewrite does not
+     * overlap with the next. A table that still references an unlogged table is retried after
+     * the others.
+     *
+     * @return the tables that could not be switched, with their error
+     */
+    List<String> setLogged(ConnectionConfig target, List<String> tables) {
+        List<String> remaining = new ArrayList<>(tables);
+        Map<String, String> errors = new LinkedHashMap<>();
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            boolean progressed = true;
+            while (!remaining.isEmpty() && progressed) {
+                progressed = false;
+                for (Iterator<String> it = remaining.iterator(); it.hasNext(); ) {
+                    String table = it.next();
+                    try {
+                        long started = System.currentTimeMillis();
+                        stmt.execute("ALTER TABLE " + table + " SET LOGGED");
+                        log.info("Table {} set LOGGED in {} ms", table, System.currentTimeMillis() - started);
+                        it.remove();
+                        errors.remove(table);
+                        progressed = true;
+                    } catch (SQLException e) {
+                        errors.put(table, e.getMessage());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            return List.of("Failed to set tables LOGGED: " + e.getMessage());
+        }
+        List<String> failures = new ArrayList<>();
+        for (String table : remaining) {
+            failures.add("ALTER TABLE " + table + " SET LOGGED: " + errors.get(table));
+        }
+        return failures;
+    }
+    
+    private void runPerTable(ConnectionConfig target, Map<String, List<String>> statementsByTable, int workers,
+                             String maintenanceWorkMem, List<String> failures) {
+        if (statementsByTable.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, statementsByTable.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> statements : statementsByTable.values()) {
+                futures.add(executor.submit(() -> {
+                    try (Connection conn = connectionManager.getConnection(target);
+                         Statement stmt = conn.createStatement()) {
+                        if (maintenanceWorkMem != null && !maintenanceWorkMem.isBlank()) {
+                            stmt.execute("SET maintenance_work_mem = '" + maintenanceWorkMem.replace("'", "") + "'");
+                        }
+                        for (String sql : statements) {
+                            try {
+                                stmt.execute(sql);
+                            } catch (SQLException e) {
+                                failures.add(sql + ": " + e.getMessage());
+                            }
+                        }
+                    } catch (SQLException e) {
+                        failures.add("Connection failed for " + statements.size() + " statement(s): " + e.getMessage());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.add("Interrupted while rebuilding indexes and constraints");
+        } catch (ExecutionException e) {
+            failures.add(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private void readConstraints(Connection conn, String table, List<DeferredObject> keys,
+                                 Map<String, DeferredObject> foreignKeys) throws SQLException {
+        // Own keys and foreign keys, plus foreign keys of other tables that reference this one
+        String sql = """
+            SELECT c.conrelid::regclass::text AS table_name, c.conname, c.contype,
+                   pg_get_constraintdef(c.oid) AS definition
+            FROM pg_constraint c
+            WHERE (c.conrelid = to_regclass(?) AND c.contype IN ('p', 'u', 'x', 'f'))
+               OR (c.confrelid = to_regclass(?) AND c.contype = 'f')
+            ORDER BY c.contype, c.conname
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            stmt.setString(2, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    DeferredObject object = new DeferredObject(rs.getString("table_name"), rs.getString("conname"),
+                        rs.getString("definition"));
+                    if ("f".equals(rs.getString("contype"))) {
+                        foreignKeys.putIfAbsent(object.table() + "." + object.name(), object);
+                    } else {
+                        keys.add(object);
+                    }
+                }
+            }
+        }
+    }
+    
+    private void readIndexes(Connection conn, String table, List<DeferredObject> indexes) throws SQLException {
+        // Indexes that back a key are dropped and rebuilt with the constraint
+        String sql = """
+            SELECT i.indrelid::regclass::text AS table_name, i.indexrelid::regclass::text AS index_name,
+                   pg_get_indexdef(i.indexrelid) AS definition
+            FROM pg_index i
+            WHERE i.indrelid = to_regclass(?)
+              AND NOT EXISTS (
+                  SELECT 1 FROM pg_constraint c
+                  WHERE c.conindid = i.indexrelid AND c.conrelid = i.indrelid AND c.contype IN ('p', 'u', 'x')
+              )
+            ORDER BY index_name
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    indexes.add(new DeferredObject(rs.getString("table_name"), rs.getString("index_name"),
+                        rs.getString("definition")));
+                }
+            }
+        }
+    }
+    
+    private static String addConstraintSql(DeferredObject constraint) {
+        return "ALTER TABLE " + constraint.table() + " ADD CONSTRAINT " + quote(constraint.name()) + " "
+            + constraint.definition();
+    }
+    
+    private static String dropConstraintSql(DeferredObject constraint) {
+        return "ALTER TABLE " + constraint.table() + " DROP CONSTRAINT " + quote(constraint.name());
+    }
+    
+    static String qualifiedName(TableMapping mapping) {
+        return quote(mapping.getTargetSchema()) + "." + quote(mapping.getTargetTable());
+    }
+    
+    static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,388 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import oracle.jdbc.OracleStatement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Two-pass loading of LOB-heavy tables. The main load copies every column except the nullable
+ * CLOB and BLOB columns, so no LOB round trip holds up a batch of scalar rows; this service then
+ * fills the LOB columns in, reading them by primary key with its own workers and Oracle LOB
+ * prefetch, and updating the target rows by key.
+ */
+@Slf4j
+@Service
+public class LobBackfillService {
+    
+    private static final int LOB_FETCH_SIZE = 100;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private ValidationSqlBuilder validationSqlBuilder;
+    
+    /**
+     * A table whose LOB columns are filled in after the main load.
+     *
+     * @param mapping     full mapping of the table
+     * @param keyColumns  primary key columns the LOB rows are matched on
+     * @param lobColumns  columns left out of the main load
+     */
+    record Backfill(TableMapping mapping, List<ColumnMapping> keyColumns, List<ColumnMapping> lobColumns) {
+    }
+    
+    /**
+     * Outcome of the LOB pass for one table.
+     */
+    record Result(String table, long rows, long durationMs, String error) {
+        
+        boolean failed() {
+            return error != null;
+        }
+    }
+    
+    /**
+     * The LOB pass for a table, or {@code null} when it is loaded in one pass: it has no nullable
+     * CLOB or BLOB column, or no primary key to match rows on.
+     */
+    Backfill planBackfill(TableMapping mapping) {
+        if (mapping.getColumnMappings() == null) {
+            return null;
+        }
+        List<ColumnMapping> keyColumns = new ArrayList<>();
+        List<ColumnMapping> lobColumns = new ArrayList<>();
+        for (ColumnMapping column : mapping.getColumnMappings()) {
+            ValidationSqlBuilder.ValueKind kind = validationSqlBuilder.resolveKind(column);
+            if (Boolean.TRUE.equals(column.getIsPrimaryKey())) {
+                keyColumns.add(column);
+            } else if ((kind == ValidationSqlBuilder.ValueKind.CLOB || kind == ValidationSqlBuilder.ValueKind.BLOB)
+                    && !Boolean.FALSE.equals(column.getNullable())) {
+                // NOT NULL columns cannot be left empty by the main load
+                lobColumns.add(column);
+            }
+        }
+        if (lobColumns.isEmpty()) {
+            return null;
+        }
+        if (keyColumns.isEmpty()) {
+            log.info("{} has LOB columns but no primary key, loading it in one pass", mapping.getSourceTable());
+            return null;
+        }
+        return new Backfill(mapping, keyColumns, lobColumns);
+    }
+    
+    /**
+     * Copy of the mapping without the deferred LOB columns, for the main load. The id is kept, so
+     * fingerprints recorded during the load are filed under the table, covering the columns loaded.
+     */
+    TableMapping scalarMapping(Backfill backfill) {
+        TableMapping mapping = backfill.mapping();
+        List<ColumnMapping> scalarColumns = mapping.getColumnMappings().stream()
+            .filter(column -> !backfill.lobColumns().contains(column))
+            .collect(Collectors.toList());
+        return new TableMapping(mapping.getId(), mapping.getSourceTable(), mapping.getSourceSchema(),
+            mapping.getTargetTable(), mapping.getTargetSchema(), mapping.getEnabled(), scalarColumns,
+            mapping.getStatus(), mapping.getFilterCondition(), mapping.getDropBeforeInsert(),
+            mapping.getTruncateBeforeInsert(), mapping.getPartitionColumn(), mapping.getChunkSize(),
+            mapping.getChunkWorkers(), mapping.getPartitionMinValue(), mapping.getPartitionMaxValue());
+    }
+    
+    /**
+     * Fill in the LOB columns of the given tables, one table at a time. Each table is split into
+     * {@code workers} slices by {@code ORA_HASH(ROWID)}, read and updated in parallel. Updates
+     * are matched on the primary key; when the target has no index on it, a temporary one is built
+     * for the pass.
+     *
+     * @param lobPrefetchSize  LOB bytes Oracle returns with each row instead of a separate fetch
+     * @param streamThreshold  LOBs larger than this are streamed and close their batch
+     * @param batchBudget      LOB bytes bound to one update batch before it is flushed
+     * @param keepRunning      checked between batches; the pass stops when it returns false
+     */
+    List<Result> backfill(ConnectionConfig source, ConnectionConfig target, List<Backfill> backfills, int workers,
+                          int lobPrefetchSize, int batchSize, long streamThreshold, long batchBudget,
+                          BooleanSupplier keepRunning) {
+        List<Result> results = new ArrayList<>();
+        if (backfills.isEmpty()) {
+            return results;
+        }
+        int slices = Math.max(1, workers);
+        ExecutorService executor = Executors.newFixedThreadPool(slices);
+        try {
+            for (Backfill backfill : backfills) {
+                if (!keepRunning.getAsBoolean()) {
+                    break;
+                }
+                String table = FastLoadService.qualifiedName(backfill.mapping());
+                long started = System.currentTimeMillis();
+                String temporaryIndex = null;
+                try {
+                    temporaryIndex = ensureKeyIndex(target, backfill);
+                    String updateSql = buildUpdateSql(target, backfill);
+                    List<Future<Long>> futures = new ArrayList<>();
+                    for (int slice = 0; slice < slices; slice++) {
+                        int sliceIndex = slice;
+                        futures.add(executor.submit(() -> backfillSlice(source, target, backfill, updateSql,
+                            sliceIndex, slices, lobPrefetchSize, batchSize, streamThreshold, batchBudget, keepRunning)));
+                    }
+                    // Wait for every slice, so the temporary index outlives all of them
+                    long rows = 0L;
+                    String error = null;
+                    for (Future<Long> future : futures) {
+                        try {
+                            rows += future.get();
+                        } catch (ExecutionException e) {
+                            if (error == null) {
+                                error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                            }
+                        }
+                    }
+                    results.add(new Result(table, rows, System.currentTimeMillis() - started, error));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(new Result(table, 0, System.currentTimeMillis() - started, "Interrupted"));
+                    break;
+                } catch (SQLException e) {
+                    results.add(new Result(table, 0, System.currentTimeMillis() - started, e.getMessage()));
+                } finally {
+                    if (temporaryIndex != null) {
+                        dropIndex(target, temporaryIndex);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+    
+    private long backfillSlice(ConnectionConfig source, ConnectionConfig target, Backfill backfill, String updateSql,
+                               int slice, int slices, int lobPrefetchSize, int batchSize, long streamThreshold,
+                               long batchBudget, BooleanSupplier keepRunning) throws SQLException {
+        TableMapping mapping = backfill.mapping();
+        List<ColumnMapping> columns = new ArrayList<>(backfill.keyColumns());
+        columns.addAll(backfill.lobColumns());
+        
+        List<String> conditions = new ArrayList<>();
+        String filter = mapping.getFilterCondition() == null ? "" : mapping.getFilterCondition().trim();
+        if (filter.toUpperCase().startsWith("WHERE ")) {
+            filter = filter.substring(5).trim();
+        }
+        if (!filter.isEmpty()) {
+            conditions.add("(" + filter + ")");
+        }
+        if (slices > 1) {
+            conditions.add("ORA_HASH(ROWID, " + (slices - 1) + ") = " + slice);
+        }
+        String selectSql = "SELECT " + columns.stream()
+                .map(column -> FastLoadService.quote(column.getSourceColumn()))
+                .collect(Collectors.joining(", "))
+            + " FROM " + FastLoadService.quote(mapping.getSourceSchema()) + "." + FastLoadService.quote(mapping.getSourceTable())
+            + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+        
+        int keyCount = backfill.keyColumns().size();
+        int lobCount = backfill.lobColumns().size();
+        long updated = 0L;
+        try (Connection sourceConn = connectionManager.getConnection(source);
+             Connection targetConn = connectionManager.getConnection(target);
+             PreparedStatement select = sourceConn.prepareStatement(selectSql);
+             PreparedStatement update = targetConn.prepareStatement(updateSql)) {
+            targetConn.setAutoCommit(false);
+            select.setFetchSize(LOB_FETCH_SIZE);
+            if (lobPrefetchSize > 0 && select.isWrapperFor(OracleStatement.class)) {
+                select.unwrap(OracleStatement.class).setLobPrefetchSize(lobPrefetchSize);
+            }
+            
+            try (ResultSet rs = select.executeQuery()) {
+                int rowCount = 0;
+                long lobBytesInBatch = 0L;
+                while (rs.next()) {
+                    if (!keepRunning.getAsBoolean()) {
+                        break;
+                    }
+                    boolean largeLob = false;
+                    boolean empty = true;
+                    for (int i = 0; i < lobCount; i++) {
+                        Object value = rs.getObject(keyCount + i + 1);
+                        if (value == null) {
+                            update.setObject(i + 1, null);
+                        } else if (value instanceof Blob || value instanceof Clob) {
+                            long lobBytes = bindLob(update, i + 1, value, streamThreshold);
+                            lobBytesInBatch += lobBytes;
+                            largeLob |= lobBytes > streamThreshold;
+                            empty = false;
+                        } else {
+                            update.setObject(i + 1, value);
+                            empty = false;
+                        }
+                    }
+                    if (empty) {
+                        continue; // the main load left these columns NULL already
+                    }
+                    for (int k = 0; k < keyCount; k++) {
+                        ColumnMapping key = backfill.keyColumns().get(k);
+                        ValidationSqlBuilder.ValueKind kind = validationSqlBuilder.resolveKind(key);
+                        update.setObject(lobCount + k + 1, kind == ValidationSqlBuilder.ValueKind.DATETIME
+                            || kind == ValidationSqlBuilder.ValueKind.DATETIME_TZ ? rs.getTimestamp(k + 1) : rs.getObject(k + 1));
+                    }
+                    update.addBatch();
+                    rowCount++;
+                    
+                    if (rowCount >= batchSize || largeLob || lobBytesInBatch >= batchBudget) {
+                        updated += executeBatch(update, targetConn);
+                        rowCount = 0;
+                        lobBytesInBatch = 0L;
+                    }
+                }
+                if (rowCount > 0) {
+                    updated += executeBatch(update, targetConn);
+                }
+            }
+        }
+        return updated;
+    }
+    
+    private long executeBatch(PreparedStatement update, Connection targetConn) throws SQLException {
+        long rows = 0L;
+        for (int count : update.executeBatch()) {
+            rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        targetConn.commit();
+        return rows;
+    }
+    
+    /**
+     * {@code UPDATE} setting the LOB columns, with the key parameters cast to the target column
+     * types so the key index can be used.
+     */
+    private String buildUpdateSql(ConnectionConfig target, Backfill backfill) throws SQLException {
+        TableMapping mapping = backfill.mapping();
+        StringBuilder sql = new StringBuilder("UPDATE ").append(FastLoadService.qualifiedName(mapping)).append(" SET ");
+        sql.append(backfill.lobColumns().stream()
+            .map(column -> FastLoadService.quote(column.getTargetColumn()) + " = ?")
+            .collect(Collectors.joining(", ")));
+        sql.append(" WHERE ");
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement stmt = conn.prepareStatement(
+                 "SELECT format_type(atttypid, atttypmod) FROM pg_attribute "
+                     + "WHERE attrelid = to_regclass(?) AND attname = ? AND NOT attisdropped")) {
+            List<String> conditions = new ArrayList<>();
+            for (ColumnMapping key : backfill.keyColumns()) {
+                stmt.setString(1, FastLoadService.qualifiedName(mapping));
+                stmt.setString(2, key.getTargetColumn());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("Key column " + key.getTargetColumn() + " not found in "
+                            + FastLoadService.qualifiedName(mapping));
+                    }
+                    conditions.add(FastLoadService.quote(key.getTargetColumn()) + " = CAST(? AS " + rs.getString(1) + ")");
+                }
+            }
+            sql.append(String.join(" AND ", conditions));
+        }
+        return sql.toString();
+    }
+    
+    /**
+     * Build an index on the key columns unless the target already has one leading with them.
+     *
+     * @return qualified name of the index built, or {@code null} when an existing index is used
+     */
+    private String ensureKeyIndex(ConnectionConfig target, Backfill backfill) throws SQLException {
+        TableMapping mapping = backfill.mapping();
+        String table = FastLoadService.qualifiedName(mapping);
+        List<String> keyNames = backfill.keyColumns().stream()
+            .map(ColumnMapping::getTargetColumn)
+            .sorted()
+            .collect(Collectors.toList());
+        String existsSql = """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_index i
+                WHERE i.indrelid = to_regclass(?) AND i.indpred IS NULL AND i.indnkeyatts >= ?
+                  AND (SELECT array_agg(a.attname::text ORDER BY a.attname::text)
+                       FROM pg_attribute a
+                       WHERE a.attrelid = i.indrelid
+                         AND a.attnum = ANY ((i.indkey::int2[])[0:(? - 1)])) = ?::text[])
+            """;
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement exists = conn.prepareStatement(existsSql);
+             Statement stmt = conn.createStatement()) {
+            exists.setString(1, table);
+            exists.setInt(2, keyNames.size());
+            exists.setInt(3, keyNames.size());
+            exists.setArray(4, conn.createArrayOf("text", keyNames.toArray()));
+            try (ResultSet rs = exists.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    return null;
+                }
+            }
+            String index = FastLoadService.quote(mapping.getTargetSchema()) + "."
+                + FastLoadService.quote(PartitioningService.childName(mapping.getTargetTable(), "lobkey"));
+            stmt.execute("DROP INDEX IF EXISTS " + index);
+            stmt.execute("CREATE INDEX " + index.substring(index.indexOf('.') + 1) + " ON " + table + " ("
+                + backfill.keyColumns().stream()
+                    .map(column -> FastLoadService.quote(column.getTargetColumn()))
+                    .collect(Collectors.joining(", "))
+                + ")");
+            return index;
+        }
+    }
+    
+    private void dropIndex(ConnectionConfig target, String index) {
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP INDEX IF EXISTS " + index);
+        } catch (SQLException e) {
+            log.warn("Failed to drop temporary index {}: {}", index, e.getMessage());
+        }
+    }
+    
+    /**
+     * Bind a BLOB or CLOB read from the source. Values up to {@code streamThreshold} bytes are
+     * read into memory; larger BLOBs are passed to the driver as a stream of known length, which
+     * it copies to the server when the batch executes. The PostgreSQL driver has no streaming
+     * path for text (its length-taking {@code setCharacterStream} is not implemented), so a CLOB
+     * is always bound as a string; callers flush a batch holding a large one on its own.
+     *
+     * @return size of the value in bytes (two per character for CLOBs)
+     */
+    static long bindLob(PreparedStatement statement, int index, Object value, long streamThreshold)
+            throws SQLException {
+        if (value instanceof Blob blob) {
+            long length = blob.length();
+            if (length <= streamThreshold) {
+                statement.setBytes(index, blob.getBytes(1, (int) length));
+            } else if (length <= Integer.MAX_VALUE) {
+                statement.setBinaryStream(index, blob.getBinaryStream(), (int) length);
+            } else {
+                statement.setBinaryStream(index, blob.getBinaryStream());
+            }
+            return length;
+        }
+        Clob clob = (Clob) value;
+        long length = clob.length();
+        statement.setString(index, clob.getSubString(1, (int) length));
+        return length * 2;
+    }
+}
@@ -8,8 +8,12 @@ import com.ora2pg.migration.model.*;
 import com.ora2pg.migration.repository.MigrationLogRepository;
 import com.ora2pg.migration.repository.MigrationProgressRepository;
 import com.ora2pg.migration.repository.ProjectRepository;
+import com.ora2pg.migration.util.BinaryCodec;
 import com.ora2pg.migration.util.DatabaseConnectionManager;
+import com.ora2pg.migration.util.OracleWireFormat;
 import lombok.extern.slf4j.Slf4j;
+import oracle.jdbc.OracleResultSet;
+import oracle.sql.Datum;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,9 +58,52 @@ public class MigrationService {
     @Autowired
     private SettingsService settingsService;
     
+    @Autowired
+    private ChunkFingerprintService chunkFingerprintService;
+    
+    @Autowired
+    private ValidationSqlBuilder validationSqlBuilder;
+    
+    @Autowired
+    private RowCountService rowCountService;
+    
+    @Autowired
+    private FastLoadService fastLoadService;
+    
+    @Autowired
+    private PostLoadService postLoadService;
+    
+    @Autowired
+    private PartitioningService partitioningService;
+    
+    @Autowired
+    private StagedLoadService stagedLoadService;
+    
+    @Autowired
+    private LobBackfillService lobBackfillService;
+    
     private final ConcurrentHashMap<String, MigrationProgress> progressMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Thread> executionThreads = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicBoolean> pauseFlags = new ConcurrentHashMap<>();
+    /** Columnar batches for reuse, by project and batch shape; dropped when the migration ends. */
+    private final ConcurrentHashMap<String, ColumnBatch.Pool> columnBatchPools = new ConcurrentHashMap<>();
+    
+    /** Idle batches kept per shape: about one per range being copied at the same time. */
+    private static final int COLUMN_BATCH_POOL_SIZE = 8;
+    
+    /**
+     * How a column is read when the ojdbc native accessors are enabled: from the Oracle byte form
+     * of the value, straight to a primitive or {@code LocalDateTime}.
+     */
+    private enum NativeRead {
+        NONE,
+        INTEGRAL, // NUMBER into an integer or scale-0 numeric column
+        FLOATING, // NUMBER into a DOUBLE PRECISION column
+        DATETIME // DATE or TIMESTAMP into a timestamp or date column
+    }
+    
+    private record ColumnarCopy(long rows, boolean stopped) {
+    }
     
     private static class ChunkRange {
         private final long startInclusive;
@@ -68,6 +115,26 @@ public class MigrationService {
         }
     }
     
+    /**
+     * One source partition copied as its own work unit, into its child table or, when rows
+     * cannot be routed in advance, into the partitioned parent. Staged chunk loads reuse it with
+     * no source partition and a staging table as the target.
+     */
+    private static class PartitionLoad {
+        private final String sourcePartition;
+        private final String targetTable; // qualified and quoted
+        private final RowFingerprint tableFingerprint; // the partitions' fingerprints add up to the table's
+        private final String condition; // source rows of the partition that go to this target, null for all
+        
+        private PartitionLoad(String sourcePartition, String targetTable, RowFingerprint tableFingerprint,
+                              String condition) {
+            this.sourcePartition = sourcePartition;
+            this.targetTable = targetTable;
+            this.tableFingerprint = tableFingerprint;
+            this.condition = condition;
+        }
+    }
+    
     @Transactional
     public MigrationProgress startMigration(Project project, AppSettings settings) {
         MigrationProgress progress = new MigrationProgress(project.getId());
@@ -131,13 +198,35 @@ public class MigrationService {
         }
     }
     
+    /**
+     * Wait while the migration is paused, then tell whether it was stopped.
+     *
+     * @throws SQLException if the migration failed elsewhere or the thread was interrupted
+     */
+    private boolean isStopRequested(MigrationProgress progress) throws SQLException {
+        try {
+            while ("paused".equals(progress.getStatus())) {
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Migration interrupted", e);
+        }
+        if ("error".equals(progress.getStatus())) {
+            throw new SQLException("Migration aborted due to global error state");
+        }
+        return !"running".equals(progress.getStatus());
+    }
+    
     private void setCurrentTable(MigrationProgress progress, String tableName) {
         synchronized (progress) {
             progress.setCurrentTable(tableName);
         }
     }
     
-    private void prepareTableForMigration(Project project, TableMapping tableMapping, MigrationProgress progress) throws SQLException {
+    private void prepareTableForMigration(Project project, TableMapping tableMapping, MigrationProgress progress,
+                                          List<String> unloggedTables, TablePartitioning partitioning,
+                                          String stagingColumn) throws SQLException {
         boolean drop = Boolean.TRUE.equals(tableMapping.getDropBeforeInsert());
         boolean truncate = Boolean.TRUE.equals(tableMapping.getTruncateBeforeInsert());
         if (!drop && !truncate) {
@@ -153,8 +242,18 @@ public class MigrationService {
                 stmt.execute(dropSql);
                 addLog(progress, "info", "Dropped table: " + tableMapping.getTargetTable(), null);
                 
-                String createSql = generateCreateTableSql(tableMapping);
-                stmt.execute(createSql);
+                // Partitioned tables cannot be unlogged
+                boolean unlogged = unloggedTables != null && partitioning == null && stagingColumn == null;
+                for (String createSql : generateCreateTableStatements(tableMapping, unlogged, partitioning,
+                        stagingColumn)) {
+                    stmt.execute(createSql);
+                }
+                if (unlogged) {
+                    String qualified = FastLoadService.qualifiedName(tableMapping);
+                    if (!unloggedTables.contains(qualified)) {
+                        unloggedTables.add(qualified);
+                    }
+                }
                 addLog(progress, "info", "Recreated table: " + tableMapping.getTargetTable(), null);
             } else if (truncate) {
                 String truncateSql = String.format("TRUNCATE TABLE %s.%s",
@@ -329,6 +428,10 @@ public class MigrationService {
      */
     private long calculateTotalRows(Project project) {
         long totalRows = 0L;
+        // Totals only drive the progress bar, so use the configured (cheap by default) count strategy
+        AppSettings settings = settingsService.getSettings();
+        RowCountService.CountStrategy strategy = rowCountService.resolveStrategy(settings);
+        double samplePercent = rowCountService.resolveSamplePercent(settings);
         try (Connection sourceConn = connectionManager.getConnection(project.getSourceConnection())) {
             for (TableMapping tableMapping : project.getTableMappings()) {
                 if (!tableMapping.getEnabled()) {
@@ -336,27 +439,12 @@ public class MigrationService {
                 }
                 
                 try {
-                    // Build COUNT query with filter condition
-                    String countSql = String.format("SELECT COUNT(*) FROM %s.%s",
+                    String fromClause = String.format("%s.%s",
                         quoteIdentifier(tableMapping.getSourceSchema()),
                         quoteIdentifier(tableMapping.getSourceTable()));
-                    
-                    // Add filter condition if specified
-                    if (tableMapping.getFilterCondition() != null && !tableMapping.getFilterCondition().trim().isEmpty()) {
-                        String filter = tableMapping.getFilterCondition().trim();
-                        if (!filter.toUpperCase().startsWith("WHERE")) {
-                            countSql += " WHERE " + filter;
-                        } else {
-                            countSql += " " + filter;
-                        }
-                    }
-                    
-                    try (Statement stmt = sourceConn.createStatement();
-                         ResultSet rs = stmt.executeQuery(countSql)) {
-                        if (rs.next()) {
-                            totalRows += rs.getLong(1);
-                        }
-                    }
+                    totalRows += rowCountService.countRows(sourceConn, tableMapping.getSourceSchema(),
+                        tableMapping.getSourceTable(), fromClause, tableMapping.getFilterCondition(),
+                        strategy, samplePercent);
                 } catch (SQLException e) {
                     log.warn("Failed to count rows for table {}.{}: {}", 
                         tableMapping.getSourceSchema(), tableMapping.getSourceTable(), e.getMessage());
@@ -377,6 +465,9 @@ public class MigrationService {
     private long countMigratedRows(Project project, Connection targetConn) {
         long migratedRows = 0L;
         boolean shouldCloseConnection = false;
+        AppSettings settings = settingsService.getSettings();
+        RowCountService.CountStrategy strategy = rowCountService.resolveStrategy(settings);
+        double samplePercent = rowCountService.resolveSamplePercent(settings);
         
         try {
             if (targetConn == null) {
@@ -395,16 +486,11 @@ public class MigrationService {
                 }
                 
                 try {
-                    String countSql = String.format("SELECT COUNT(*) FROM %s.%s",
+                    String fromClause = String.format("%s.%s",
                         quoteIdentifier(tableMapping.getTargetSchema()),
                         quoteIdentifier(tableMapping.getTargetTable()));
-                    
-                    try (Statement stmt = targetConn.createStatement();
-                         ResultSet rs = stmt.executeQuery(countSql)) {
-                        if (rs.next()) {
-                            migratedRows += rs.getLong(1);
-                        }
-                    }
+                    migratedRows += rowCountService.countRows(targetConn, tableMapping.getTargetSchema(),
+                        tableMapping.getTargetTable(), fromClause, null, strategy, samplePercent);
                 } catch (SQLException e) {
                     log.warn("Failed to count migrated rows for table {}.{}: {}", 
                         tableMapping.getTargetSchema(), tableMapping.getTargetTable(), e.getMessage());
@@ -438,6 +524,14 @@ public class MigrationService {
         ExecutorService tableExecutor = null;
         List<Future<?>> futures = new ArrayList<>();
         Throwable failure = null;
+        FastLoadService.Snapshot deferred = null;
+        // Target tables switched to UNLOGGED for this run, to be set LOGGED again at the end
+        List<String> unloggedTables = Boolean.TRUE.equals(settings.getUnloggedLoad())
+            ? Collections.synchronizedList(new ArrayList<>()) : null;
+        // Tables whose LOB columns are filled in after the main load
+        List<LobBackfillService.Backfill> lobBackfills = Boolean.TRUE.equals(settings.getLobSecondPass())
+            ? Collections.synchronizedList(new ArrayList<>()) : null;
+        boolean restorePending = true;
         
         try {
             boolean isResume = progress.getCompletedTables() > 0 ||
@@ -445,10 +539,10 @@ public class MigrationService {
             
             if (!isResume) {
                 addLog(progress, "info", "Migration started", null);
-                createTargetTables(project, progress);
+                createTargetTables(project, settings, progress);
             } else {
                 addLog(progress, "info", "Migration resumed (parallel tables enabled)", null);
-                createTargetTables(project, progress);
+                createTargetTables(project, settings, progress);
             }
             
             List<TableMapping> tablesToMigrate = project.getTableMappings()
@@ -466,6 +560,22 @@ public class MigrationService {
                 return;
             }
             
+            if (Boolean.TRUE.equals(settings.getFastLoad())) {
+                deferred = fastLoadService.snapshotAndDrop(project.getTargetConnection(), tablesToMigrate);
+                if (!deferred.isEmpty()) {
+                    addLog(progress, "info",
+                        String.format("Fast load: dropped %d target index(es) and key(s) until the load completes", deferred.size()),
+                        deferred.restoreScript());
+                }
+            }
+            if (unloggedTables != null) {
+                // After the fast-load drop, so that foreign keys no longer tie tables to logged ones
+                unloggedTables.addAll(fastLoadService.setUnlogged(project.getTargetConnection(), tablesToMigrate));
+                addLog(progress, "info",
+                    String.format("Unlogged load: %d target table(s) switched to UNLOGGED", unloggedTables.size()),
+                    String.join("\n", unloggedTables));
+            }
+            
             int parallelTables = resolveParallelTables(settings);
             addLog(progress, "info", String.format("Running %d parallel table worker(s)", parallelTables), null);
             tableExecutor = Executors.newFixedThreadPool(parallelTables);
@@ -473,7 +583,8 @@ public class MigrationService {
             for (TableMapping tableMapping : tablesToMigrate) {
                 futures.add(tableExecutor.submit(() -> {
                     try {
-                        processTableMigration(project, tableMapping, settings, progress, pauseFlag, isResume);
+                        processTableMigration(project, tableMapping, settings, progress, pauseFlag, isResume,
+                            unloggedTables, lobBackfills);
                     } catch (Exception e) {
                         throw new RuntimeException(e);
                     }
@@ -484,6 +595,16 @@ public class MigrationService {
                 future.get();
             }
             
+            restorePending = false;
+            finishLoad(project, settings, progress, deferred, unloggedTables);
+            if (lobBackfills != null && !lobBackfills.isEmpty()) {
+                // After the key indexes are rebuilt, which the updates are matched on
+                if (!runLobBackfill(project, settings, progress, lobBackfills)) {
+                    return; // stopped: the run is neither post-processed nor reported as completed
+                }
+            }
+            runPostLoad(project, settings, progress, tablesToMigrate);
+            
             progress.setStatus("completed");
             progress.setEndTime(LocalDateTime.now());
             progress.setCurrentTable(null);
@@ -502,6 +623,13 @@ public class MigrationService {
                 if (tableExecutor != null) {
                     tableExecutor.shutdownNow();
                 }
+                if (restorePending) {
+                    try {
+                        finishLoad(project, settings, progress, deferred, unloggedTables);
+                    } catch (Exception e) {
+                        log.error("Failed to restore target tables after an aborted load: {}", e.getMessage());
+                    }
+                }
                 progress.setStatus("error");
                 progress.setEndTime(LocalDateTime.now());
                 progress.setCurrentTable(null);
@@ -516,6 +644,7 @@ public class MigrationService {
                 }
             }
             executionThreads.remove(projectId);
+            columnBatchPools.keySet().removeIf(key -> key.startsWith(projectId + ":"));
         }
     }
     
@@ -524,14 +653,31 @@ public class MigrationService {
                                        AppSettings settings,
                                        MigrationProgress progress,
                                        AtomicBoolean pauseFlag,
-                                       boolean isResume) throws Exception {
+                                       boolean isResume,
+                                       List<String> unloggedTables,
+                                       List<LobBackfillService.Backfill> lobBackfills) throws Exception {
         waitForResume(progress, pauseFlag);
         setCurrentTable(progress, tableMapping.getSourceTable());
         addLog(progress, "info", "Migrating table: " + tableMapping.getSourceTable(), null);
         
         try {
+            TablePartitioning partitioning = resolvePartitioning(project, settings, tableMapping);
             if (!isResume) {
-                prepareTableForMigration(project, tableMapping, progress);
+                prepareTableForMigration(project, tableMapping, progress, unloggedTables, partitioning,
+                    resolveStagingColumn(project, settings, tableMapping, partitioning, null));
+            }
+            if (isInlineFingerprintEnabled(settings)) {
+                chunkFingerprintService.clearTable(project.getId(), tableMapping.getId());
+            }
+            LobBackfillService.Backfill lobBackfill = lobBackfills != null
+                ? lobBackfillService.planBackfill(tableMapping) : null;
+            // The main load works on a copy without the deferred LOB columns
+            TableMapping loadMapping = lobBackfill != null ? lobBackfillService.scalarMapping(lobBackfill) : tableMapping;
+            if (lobBackfill != null) {
+                addLog(progress, "info",
+                    String.format("Deferring %d LOB column(s) of %s to the LOB pass",
+                        lobBackfill.lobColumns().size(), tableMapping.getSourceTable()),
+                    null);
             }
             long migratedRows;
             boolean attemptChunking = shouldUseChunking(tableMapping);
@@ -542,16 +688,21 @@ public class MigrationService {
                     ? partitionMapping.getSourceDataType()
                     : partitionMapping.getTargetDataType());
             
-            if (attemptChunking && !validChunkColumn) {
+            if (attemptChunking && !validChunkColumn && partitioning == null) {
                 addLog(progress, "warning",
                     "Chunking disabled for " + tableMapping.getSourceTable() + " (partition column is missing or not numeric)",
                     null);
             }
             
-            if (attemptChunking && validChunkColumn) {
-                migratedRows = migrateTableWithChunks(project, tableMapping, settings, progress, pauseFlag);
+            if (partitioning != null) {
+                migratedRows = migrateTablePartitions(project, loadMapping, settings, progress, pauseFlag, partitioning);
+            } else if (attemptChunking && validChunkColumn) {
+                migratedRows = migrateTableWithChunks(project, loadMapping, settings, progress, pauseFlag);
             } else {
-                migratedRows = migrateTable(project, tableMapping, settings, progress, pauseFlag);
+                migratedRows = migrateTable(project, loadMapping, settings, progress, pauseFlag);
+            }
+            if (lobBackfill != null) {
+                lobBackfills.add(lobBackfill);
             }
             
             tableMapping.setStatus("migrated");
@@ -580,25 +731,52 @@ public class MigrationService {
                                         MigrationProgress progress,
                                         AtomicBoolean pauseFlag) throws Exception {
         List<ChunkRange> chunkRanges = buildChunkRanges(project, tableMapping);
+        ConnectionConfig target = project.getTargetConnection();
+        String stagingColumn = resolveStagingColumn(project, settings, tableMapping,
+            resolvePartitioning(project, settings, tableMapping), progress);
         if (chunkRanges.isEmpty()) {
             addLog(progress, "warning",
                 "Unable to determine partition bounds for " + tableMapping.getSourceTable() + ". Falling back to single-thread copy.",
                 null);
+            if (stagingColumn != null) {
+                stagedLoadService.ensureDefaultPartition(target, tableMapping);
+            }
             return migrateTable(project, tableMapping, settings, progress, pauseFlag);
         }
         
+        boolean staged = false;
+        if (stagingColumn != null) {
+            staged = chunkRanges.size() <= StagedLoadService.MAX_STAGED_PARTITIONS
+                && stagedLoadService.canStage(target, tableMapping);
+            if (!staged) {
+                addLog(progress, "info",
+                    String.format("Staged load skipped for %s (%d range(s), or the target already has partitions); "
+                        + "loading through the default partition", tableMapping.getSourceTable(), chunkRanges.size()),
+                    null);
+                stagedLoadService.ensureDefaultPartition(target, tableMapping);
+            }
+        }
+        
         int requestedWorkers = tableMapping.getChunkWorkers() != null ? tableMapping.getChunkWorkers() : 1;
         int workerCount = Math.max(1, Math.min(requestedWorkers, chunkRanges.size()));
         addLog(progress, "info",
-            String.format("Chunking %s using %d worker(s) across %d range(s)",
-                tableMapping.getSourceTable(), workerCount, chunkRanges.size()),
+            String.format("Chunking %s using %d worker(s) across %d range(s)%s",
+                tableMapping.getSourceTable(), workerCount, chunkRanges.size(),
+                staged ? ", each staged and attached as a partition" : ""),
             null);
         
         ExecutorService chunkExecutor = Executors.newFixedThreadPool(workerCount);
         List<Future<Long>> chunkFutures = new ArrayList<>();
-        for (ChunkRange chunkRange : chunkRanges) {
+        for (int i = 0; i < chunkRanges.size(); i++) {
+            ChunkRange chunkRange = chunkRanges.get(i);
+            int chunkIndex = i;
+            boolean stageChunk = staged;
             chunkFutures.add(chunkExecutor.submit(() -> {
                 waitForResume(progress, pauseFlag);
+                if (stageChunk) {
+                    return migrateStagedChunk(project, tableMapping, settings, progress, pauseFlag,
+                        chunkRange, chunkIndex, stagingColumn);
+                }
                 return migrateTableRange(project, tableMapping, settings, progress, pauseFlag, chunkRange);
             }));
         }
@@ -619,10 +797,117 @@ public class MigrationService {
                 Thread.currentThread().interrupt();
             }
         }
+        if (staged) {
+            // Rows beyond the attached ranges, e.g. inserted after the migration, still need a partition
+            stagedLoadService.ensureDefaultPartition(target, tableMapping);
+        }
+        return migratedRows;
+    }
+    
+    /**
+     * Copy one chunk into its own UNLOGGED staging table, index it and attach it to the target as
+     * the partition covering the chunk's range. The staging table is dropped if any step fails.
+     */
+    private long migrateStagedChunk(Project project, TableMapping tableMapping, AppSettings settings,
+                                    MigrationProgress progress, AtomicBoolean pauseFlag, ChunkRange chunkRange,
+                                    int chunkIndex, String stagingColumn) throws SQLException {
+        ConnectionConfig target = project.getTargetConnection();
+        String stage = stagedLoadService.createStagingTable(target, tableMapping, chunkIndex);
+        try {
+            long rows = migrateTableRange(project, tableMapping, settings, progress, pauseFlag, chunkRange,
+                new PartitionLoad(null, stage, null, null));
+            stagedLoadService.indexStagingTable(target, tableMapping, stage, resolveMaintenanceWorkMem(settings));
+            stagedLoadService.attach(target, tableMapping, stage, stagingColumn,
+                chunkRange.startInclusive, chunkRange.endInclusive);
+            return rows;
+        } catch (SQLException | RuntimeException e) {
+            stagedLoadService.dropStagingTable(target, stage);
+            throw e;
+        }
+    }
+    
+    /**
+     * Copy a partitioned table one source partition at a time, partitions running in parallel.
+     * Each partition is read with {@code PARTITION (name)} and written to its own child table, so
+     * workers neither share a heap nor pay for tuple routing.
+     */
+    private long migrateTablePartitions(Project project,
+                                        TableMapping tableMapping,
+                                        AppSettings settings,
+                                        MigrationProgress progress,
+                                        AtomicBoolean pauseFlag,
+                                        TablePartitioning partitioning) throws Exception {
+        boolean direct = partitioningService.routesDirectly(partitioning);
+        int requestedWorkers = tableMapping.getChunkWorkers() != null
+            ? tableMapping.getChunkWorkers() : resolveParallelTables(settings);
+        int workerCount = Math.max(1, Math.min(requestedWorkers, partitioning.getPartitions().size()));
+        addLog(progress, "info",
+            String.format("Loading %s partition by partition: %d %s partition(s), %d worker(s)%s",
+                tableMapping.getSourceTable(), partitioning.getPartitions().size(),
+                partitioning.getPartitioningType().toLowerCase(), workerCount,
+                direct ? "" : ", rows routed through the parent table"),
+            null);
+        
+        RowFingerprint tableFingerprint = isInlineFingerprintEnabled(settings) ? new RowFingerprint() : null;
+        ExecutorService partitionExecutor = Executors.newFixedThreadPool(workerCount);
+        // PostgreSQL range partitions reject NULL keys; those rows go to the default partition
+        String nullKey = partitioning.getKeyColumns().stream()
+            .map(key -> quoteIdentifier(key) + " IS NULL")
+            .collect(Collectors.joining(" OR "));
+        List<PartitionLoad> partitionLoads = new ArrayList<>();
+        for (TablePartition partition : partitioning.getPartitions()) {
+            String targetTable = direct
+                ? partitioningService.childTableName(tableMapping, partition)
+                : FastLoadService.qualifiedName(tableMapping);
+            if (direct && partitioningService.holdsNullKeys(partitioning, tableMapping, partition)) {
+                partitionLoads.add(new PartitionLoad(partition.getPartitionName(), targetTable, tableFingerprint,
+                    "NOT (" + nullKey + ")"));
+                partitionLoads.add(new PartitionLoad(partition.getPartitionName(),
+                    partitioningService.defaultTableName(tableMapping), tableFingerprint, nullKey));
+            } else {
+                partitionLoads.add(new PartitionLoad(partition.getPartitionName(), targetTable, tableFingerprint, null));
+            }
+        }
+        List<Future<Long>> partitionFutures = new ArrayList<>();
+        for (PartitionLoad partitionLoad : partitionLoads) {
+            partitionFutures.add(partitionExecutor.submit(() -> {
+                waitForResume(progress, pauseFlag);
+                return migrateTableRange(project, tableMapping, settings, progress, pauseFlag, null, partitionLoad);
+            }));
+        }
+        
+        long migratedRows = 0L;
+        try {
+            for (Future<Long> future : partitionFutures) {
+                migratedRows += future.get();
+            }
+        } catch (ExecutionException e) {
+            partitionFutures.forEach(f -> f.cancel(true));
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : new RuntimeException(e.getCause());
+        } finally {
+            partitionExecutor.shutdown();
+            try {
+                partitionExecutor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        if (tableFingerprint != null && "running".equals(progress.getStatus())) {
+            recordFingerprint(project, tableMapping, null, tableFingerprint);
+        }
         return migratedRows;
     }
     
-    private void createTargetTables(Project project, MigrationProgress progress) throws SQLException {
+    /**
+     * Create the enabled target tables that do not exist yet, outside of a migration run.
+     */
+    public void createTargetTables(Project project) throws SQLException {
+        createTargetTables(project, settingsService.getSettings(), new MigrationProgress(project.getId()));
+    }
+    
+    private void createTargetTables(Project project, AppSettings settings, MigrationProgress progress)
+            throws SQLException {
         try (Connection targetConn = connectionManager.getConnection(project.getTargetConnection())) {
             // Disable auto-commit for table creation to ensure atomicity
             boolean originalAutoCommit = targetConn.getAutoCommit();
@@ -634,7 +919,9 @@ public class MigrationService {
                         continue;
                     }
                     
-                    String createTableSql = generateCreateTableSql(tableMapping);
+                    TablePartitioning partitioning = resolvePartitioning(project, settings, tableMapping);
+                    List<String> createTableSql = generateCreateTableStatements(tableMapping, false, partitioning,
+                        resolveStagingColumn(project, settings, tableMapping, partitioning, null));
                     
                     try (Statement stmt = targetConn.createStatement()) {
                         String checkTableSql = String.format(
@@ -648,7 +935,9 @@ public class MigrationService {
                         }
                         
                         if (!tableExists) {
-                            stmt.execute(createTableSql);
+                            for (String sql : createTableSql) {
+                                stmt.execute(sql);
+                            }
                             addLog(progress, "info", "Created table: " + tableMapping.getTargetTable(), null);
                         } else {
                             addLog(progress, "info", "Table already exists: " + tableMapping.getTargetTable(), null);
@@ -669,9 +958,76 @@ public class MigrationService {
         }
     }
     
-    private String generateCreateTableSql(TableMapping tableMapping) {
+    /**
+     * Partitioning to reproduce on the target, or {@code null} for a plain table.
+     */
+    private TablePartitioning resolvePartitioning(Project project, AppSettings settings, TableMapping tableMapping) {
+        if (settings == null || !Boolean.TRUE.equals(settings.getPartitionedTargets())) {
+            return null;
+        }
+        return partitioningService.findPartitioning(project.getSourceConnection(), tableMapping);
+    }
+    
+    /**
+     * Target column a staged chunk load partitions the table on, or {@code null} when the table is
+     * not loaded through staging tables. Tables reproducing Oracle partitioning are never staged,
+     * nor are tables with a primary or unique key that does not include the chunk column, since
+     * PostgreSQL only accepts keys on a partitioned table that contain its partition key.
+     *
+     * @param progress where to log why a table is not staged, or {@code null}
+     */
+    private String resolveStagingColumn(Project project, AppSettings settings, TableMapping tableMapping,
+                                        TablePartitioning partitioning, MigrationProgress progress) {
+        if (settings == null || !Boolean.TRUE.equals(settings.getStagedChunkLoad())
+                || partitioning != null || !shouldUseChunking(tableMapping)) {
+            return null;
+        }
+        ColumnMapping partitionMapping = findPartitionColumnMapping(tableMapping);
+        if (partitionMapping == null || partitionMapping.getTargetColumn() == null
+                || !isChunkableColumnType(partitionMapping.getSourceDataType() != null
+                    ? partitionMapping.getSourceDataType()
+                    : partitionMapping.getTargetDataType())) {
+            return null;
+        }
+        String reason;
+        try {
+            String key = stagedLoadService.keyWithoutChunkColumn(project.getSourceConnection(), tableMapping,
+                partitionMapping.getSourceColumn());
+            reason = key != null ? "key " + key + " does not include " + partitionMapping.getSourceColumn() : null;
+        } catch (SQLException e) {
+            reason = "cannot read its keys: " + e.getMessage();
+        }
+        if (reason != null) {
+            if (progress != null) {
+                addLog(progress, "info", String.format("Staged load skipped for %s (%s); loading a plain table",
+                    tableMapping.getSourceTable(), reason), null);
+            }
+            return null;
+        }
+        return quoteIdentifier(partitionMapping.getTargetColumn());
+    }
+    
+    /**
+     * {@code CREATE TABLE} for the mapping, followed by the creation of its partitions when the
+     * table is partitioned. A table loaded through staging tables is range partitioned on
+     * {@code stagingColumn} and gets its partitions as the chunks are attached.
+     */
+    private List<String> generateCreateTableStatements(TableMapping tableMapping, boolean unlogged,
+                                                       TablePartitioning partitioning, String stagingColumn) {
+        List<String> statements = new ArrayList<>();
+        String createSql = generateCreateTableSql(tableMapping, unlogged);
+        if (partitioning == null) {
+            statements.add(stagingColumn != null ? createSql + " PARTITION BY RANGE (" + stagingColumn + ")" : createSql);
+            return statements;
+        }
+        statements.add(createSql + partitioningService.partitionByClause(partitioning, tableMapping));
+        statements.addAll(partitioningService.partitionStatements(partitioning, tableMapping));
+        return statements;
+    }
+    
+    private String generateCreateTableSql(TableMapping tableMapping, boolean unlogged) {
         StringBuilder sql = new StringBuilder();
-        sql.append("CREATE TABLE ").append(quoteIdentifier(tableMapping.getTargetSchema()))
+        sql.append(unlogged ? "CREATE UNLOGGED TABLE " : "CREATE TABLE ").append(quoteIdentifier(tableMapping.getTargetSchema()))
            .append(".").append(quoteIdentifier(tableMapping.getTargetTable())).append(" (");
         
         boolean first = true;
@@ -731,6 +1087,12 @@ public class MigrationService {
     
     private long migrateTableRange(Project project, TableMapping tableMapping, 
                              AppSettings settings, MigrationProgress progress, AtomicBoolean pauseFlag, ChunkRange chunkRange) throws SQLException {
+        return migrateTableRange(project, tableMapping, settings, progress, pauseFlag, chunkRange, null);
+    }
+    
+    private long migrateTableRange(Project project, TableMapping tableMapping, 
+                             AppSettings settings, MigrationProgress progress, AtomicBoolean pauseFlag, ChunkRange chunkRange,
+                             PartitionLoad partitionLoad) throws SQLException {
         try (Connection sourceConn = connectionManager.getConnection(project.getSourceConnection());
              Connection targetConn = connectionManager.getConnection(project.getTargetConnection())) {
             
@@ -751,12 +1113,17 @@ public class MigrationService {
                 selectCols.toString(),
                 quoteIdentifier(tableMapping.getSourceSchema()),
                 quoteIdentifier(tableMapping.getSourceTable()));
+            if (partitionLoad != null && partitionLoad.sourcePartition != null) {
+                selectSql += " PARTITION (" + quoteIdentifier(partitionLoad.sourcePartition) + ")";
+            }
             
             String extraCondition = null;
             if (chunkRange != null && tableMapping.getPartitionColumn() != null) {
                 String columnIdentifier = quoteIdentifier(tableMapping.getPartitionColumn());
                 extraCondition = String.format("%s >= %d AND %s <= %d",
                     columnIdentifier, chunkRange.startInclusive, columnIdentifier, chunkRange.endInclusive);
+            } else if (partitionLoad != null && partitionLoad.condition != null) {
+                extraCondition = partitionLoad.condition;
             }
             selectSql += buildWhereClause(tableMapping.getFilterCondition(), extraCondition);
             
@@ -773,219 +1140,244 @@ public class MigrationService {
                 insertVals.append("?");
             }
             
-            String insertSql = String.format("INSERT INTO %s.%s (%s) VALUES (%s)",
-                quoteIdentifier(tableMapping.getTargetSchema()),
-                quoteIdentifier(tableMapping.getTargetTable()),
+            String insertSql = String.format("INSERT INTO %s (%s) VALUES (%s)",
+                partitionLoad != null ? partitionLoad.targetTable : FastLoadService.qualifiedName(tableMapping),
                 insertCols.toString(),
                 insertVals.toString());
             
             int batchSize = settings.getBatchSize() != null ? settings.getBatchSize() : 1000;
             int commitInterval = settings.getCommitInterval() != null ? settings.getCommitInterval() : 10000;
+            long lobStreamThreshold = resolveLobStreamThresholdBytes(settings);
+            long lobBatchBudget = resolveLobBatchBudgetBytes(settings);
             
             long totalRows = 0L;
             long rowsSinceLastPersist = 0L;
+            boolean stopped = false;
+            
+            // Fingerprint the source values as they are copied, for validation without a second read
+            RowFingerprint fingerprint = isInlineFingerprintEnabled(settings) ? new RowFingerprint() : null;
+            List<ValidationSqlBuilder.ValueKind> fingerprintKinds = tableMapping.getColumnMappings().stream()
+                .map(validationSqlBuilder::resolveKind)
+                .collect(Collectors.toList());
+            RowFingerprint.FloatTarget[] floatTargets = tableMapping.getColumnMappings().stream()
+                .map(col -> RowFingerprint.FloatTarget.of(cleanDataType(col.getTargetDataType())))
+                .toArray(RowFingerprint.FloatTarget[]::new);
+            // Upper-cased once per range rather than for every value
+            String[] sourceTypes = tableMapping.getColumnMappings().stream()
+                .map(col -> col.getSourceDataType() != null ? col.getSourceDataType().toUpperCase() : "")
+                .toArray(String[]::new);
+            NativeRead[] nativeReads = resolveNativeReads(settings, tableMapping, fingerprint != null);
             
             try (PreparedStatement selectStmt = sourceConn.prepareStatement(selectSql);
                  PreparedStatement insertStmt = targetConn.prepareStatement(insertSql);
                  ResultSet rs = selectStmt.executeQuery()) {
                 
-                int rowCount = 0;
-                
-                while (rs.next()) {
-                    // Check for pause during row processing
-                    while (pauseFlag != null && pauseFlag.get() && "paused".equals(progress.getStatus())) {
-                        try {
-                            Thread.sleep(100);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            throw new SQLException("Migration interrupted", e);
-                        }
+                OracleResultSet oracleRs = nativeReads != null && rs.isWrapperFor(OracleResultSet.class)
+                    ? rs.unwrap(OracleResultSet.class) : null;
+                ColumnBatch.ColumnType[] columnLayout = resolveColumnLayout(settings, sourceTypes,
+                    oracleRs != null ? nativeReads : null);
+                if (columnLayout != null) {
+                    ColumnBatch.Pool pool = columnBatchPools.computeIfAbsent(
+                        project.getId() + ":" + ColumnBatch.shape(columnLayout, batchSize),
+                        key -> new ColumnBatch.Pool(columnLayout, Math.max(batchSize, 1), COLUMN_BATCH_POOL_SIZE));
+                    ColumnBatch batch = pool.acquire();
+                    try {
+                        ColumnarCopy copy = copyColumnar(rs, oracleRs, nativeReads, batch, insertStmt, targetConn,
+                            useAutoCommit, tableMapping, progress, commitInterval, fingerprint, fingerprintKinds,
+                            floatTargets);
+                        totalRows = copy.rows();
+                        stopped = copy.stopped();
+                    } finally {
+                        pool.release(batch);
                     }
+                } else {
+                    int rowCount = 0;
+                    long lobBytesInBatch = 0L; // LOB bytes bound to the pending batch
                     
-                    // Check if status changed
-                    if (!"running".equals(progress.getStatus())) {
-                        if ("paused".equals(progress.getStatus())) {
+                    while (rs.next()) {
+                        // Check for pause during row processing
+                        while (pauseFlag != null && pauseFlag.get() && "paused".equals(progress.getStatus())) {
                             try {
-                                waitForResume(progress, pauseFlag);
-                                continue;
+                                Thread.sleep(100);
                             } catch (InterruptedException e) {
                                 Thread.currentThread().interrupt();
                                 throw new SQLException("Migration interrupted", e);
                             }
                         }
-                        if ("error".equals(progress.getStatus())) {
-                            throw new SQLException("Migration aborted due to global error state");
-                        }
-                        break;
-                    }
-                    
-                    // Set parameters for INSERT
-                    for (int i = 0; i < tableMapping.getColumnMappings().size(); i++) {
-                        ColumnMapping col = tableMapping.getColumnMappings().get(i);
-                        Object value = rs.getObject(i + 1);
-                        String sourceType = col.getSourceDataType() != null ? 
-                            col.getSourceDataType().toUpperCase() : "";
                         
-                        // Handle NULL values
-                        if (value == null) {
-                            insertStmt.setObject(i + 1, null);
-                            continue;
+                        // Check if status changed
+                        if (!"running".equals(progress.getStatus())) {
+                            if ("paused".equals(progress.getStatus())) {
+                                try {
+                                    waitForResume(progress, pauseFlag);
+                                    continue;
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    throw new SQLException("Migration interrupted", e);
+                                }
+                            }
+                            if ("error".equals(progress.getStatus())) {
+                                throw new SQLException("Migration aborted due to global error state");
+                            }
+                            stopped = true;
+                            break;
                         }
                         
-                        // Check source data type first (more reliable than class name)
-                        if (sourceType.contains("DATE") || sourceType.contains("TIMESTAMP")) {
-                            try {
-                                // Try to get as Timestamp - this handles Oracle TIMESTAMP types
-                                Timestamp timestamp = rs.getTimestamp(i + 1);
-                                insertStmt.setTimestamp(i + 1, timestamp);
-                            } catch (SQLException e) {
-                                // Fallback: use setObject with explicit TIMESTAMP type
+                        // Set parameters for INSERT
+                        boolean largeLob = false;
+                        for (int i = 0; i < sourceTypes.length; i++) {
+                            String sourceType = sourceTypes[i];
+                            
+                            if (sourceType.startsWith("LONG RAW")) {
+                                // Read as a stream rather than getObject(), which materializes the whole value;
+                                // the driver keeps a small buffer and spools the rest to a temporary file
+                                java.io.InputStream stream = rs.getBinaryStream(i + 1);
+                                if (stream == null) {
+                                    insertStmt.setObject(i + 1, null);
+                                } else {
+                                    insertStmt.setBinaryStream(i + 1, stream);
+                                }
+                                continue;
+                            }
+                            
+                            if (oracleRs != null && nativeReads[i] != NativeRead.NONE
+                                    && bindNative(oracleRs, insertStmt, i + 1, nativeReads[i], fingerprint, fingerprintKinds.get(i))) {
+                                continue;
+                            }
+                            
+                            Object value = rs.getObject(i + 1);
+                            
+                            ValidationSqlBuilder.ValueKind kind = fingerprintKinds.get(i);
+                            if (fingerprint != null && kind != ValidationSqlBuilder.ValueKind.UNSUPPORTED) {
+                                boolean dateTime = kind == ValidationSqlBuilder.ValueKind.DATETIME
+                                    || kind == ValidationSqlBuilder.ValueKind.DATETIME_TZ;
+                                fingerprint.add(kind, dateTime && value != null
+                                    ? rs.getTimestamp(i + 1) : floatTargets[i].stored(value));
+                            }
+                            
+                            // Handle NULL values
+                            if (value == null) {
+                                insertStmt.setObject(i + 1, null);
+                                continue;
+                            }
+                            
+                            if (value instanceof Blob || value instanceof Clob) {
+                                long lobBytes = LobBackfillService.bindLob(insertStmt, i + 1, value, lobStreamThreshold);
+                                lobBytesInBatch += lobBytes;
+                                largeLob |= lobBytes > lobStreamThreshold;
+                                continue;
+                            }
+                            
+                            // Check source data type first (more reliable than class name)
+                            if (sourceType.contains("DATE") || sourceType.contains("TIMESTAMP")) {
                                 try {
-                                    insertStmt.setObject(i + 1, value, Types.TIMESTAMP);
-                                } catch (SQLException e2) {
-                                    // Last resort: try to convert the value
-                                    if (value instanceof Timestamp) {
-                                        insertStmt.setTimestamp(i + 1, (Timestamp) value);
-                                    } else {
-                                        throw new SQLException("Failed to set TIMESTAMP value: " + e2.getMessage(), e2);
+                                    // Try to get as Timestamp - this handles Oracle TIMESTAMP types
+                                    Timestamp timestamp = rs.getTimestamp(i + 1);
+                                    insertStmt.setTimestamp(i + 1, timestamp);
+                                } catch (SQLException e) {
+                                    // Fallback: use setObject with explicit TIMESTAMP type
+                                    try {
+                                        insertStmt.setObject(i + 1, value, Types.TIMESTAMP);
+                                    } catch (SQLException e2) {
+                                        // Last resort: try to convert the value
+                                        if (value instanceof Timestamp) {
+                                            insertStmt.setTimestamp(i + 1, (Timestamp) value);
+                                        } else {
+                                            throw new SQLException("Failed to set TIMESTAMP value: " + e2.getMessage(), e2);
+                                        }
                                     }
                                 }
-                            }
-                        } else if (sourceType.contains("NUMBER") || sourceType.contains("NUMERIC")) {
-                            // Handle numeric types
-                            insertStmt.setObject(i + 1, value, Types.NUMERIC);
-                        } else if (sourceType.contains("CLOB") || sourceType.contains("TEXT")) {
-                            // Handle text types (but not LONG RAW - that's binary)
-                            insertStmt.setObject(i + 1, value, Types.CLOB);
-                        } else if (sourceType.contains("BLOB") || sourceType.contains("RAW") || 
-                                   sourceType.contains("LONG RAW") || sourceType.equals("LONG RAW")) {
-                            // Handle binary types: BLOB, RAW, LONG RAW
-                            try {
-                                // Check if value is already a byte array
-                                if (value instanceof byte[]) {
-                                    insertStmt.setBytes(i + 1, (byte[]) value);
-                                } else if (value instanceof String) {
-                                    // If value is a String (hex), convert it to byte array
-                                    String hexString = (String) value;
-                                    // Remove any whitespace
-                                    hexString = hexString.replaceAll("\\s", "");
-                                    // Convert hex string to byte array
-                                    byte[] bytes = hexStringToByteArray(hexString);
+                            } else if (sourceType.contains("NUMBER") || sourceType.contains("NUMERIC")) {
+                                // Handle numeric types
+                                insertStmt.setObject(i + 1, value, Types.NUMERIC);
+                            } else if (sourceType.contains("CLOB") || sourceType.contains("TEXT")) {
+                                // Handle text types (but not LONG RAW - that's binary)
+                                insertStmt.setObject(i + 1, value, Types.CLOB);
+                            } else if (sourceType.contains("BLOB") || sourceType.contains("RAW")) {
+                                // Handle binary types: RAW, and BLOBs not returned as locators
+                                if (value instanceof byte[] bytes) {
+                                    // RAW comes back as a byte array: bind it as is
                                     insertStmt.setBytes(i + 1, bytes);
                                 } else {
-                                    // Try to get as binary data from ResultSet
-                                    if (sourceType.contains("LONG RAW") || sourceType.equals("LONG RAW")) {
-                                        // LONG RAW can be very large, use getBytes or getBinaryStream
+                                    try {
+                                        insertStmt.setBytes(i + 1, BinaryCodec.toBytes(value));
+                                    } catch (IllegalArgumentException e) {
+                                        throw new SQLException("Failed to convert RAW/BLOB value: " + e.getMessage(), e);
+                                    }
+                                }
+                            } else {
+                                // Check if it's an Oracle-specific type by class name
+                                String className = value.getClass().getName();
+                                if (className.startsWith("oracle.sql.")) {
+                                    // For other Oracle types, try to infer from source type or use default
+                                    if (className.contains("TIMESTAMP") || className.contains("DATE")) {
                                         try {
-                                            byte[] bytes = rs.getBytes(i + 1);
-                                            if (bytes != null) {
-                                                insertStmt.setBytes(i + 1, bytes);
-                                            } else {
-                                                insertStmt.setObject(i + 1, null);
-                                            }
+                                            insertStmt.setTimestamp(i + 1, rs.getTimestamp(i + 1));
                                         } catch (SQLException e) {
-                                            // Fallback: try getBinaryStream for very large data
-                                            try (java.io.InputStream is = rs.getBinaryStream(i + 1)) {
-                                                if (is != null) {
-                                                    byte[] buffer = new byte[8192];
-                                                    java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                                                    int bytesRead;
-                                                    while ((bytesRead = is.read(buffer)) != -1) {
-                                                        baos.write(buffer, 0, bytesRead);
-                                                    }
-                                                    insertStmt.setBytes(i + 1, baos.toByteArray());
-                                                } else {
-                                                    insertStmt.setObject(i + 1, null);
-                                                }
-                                            } catch (java.io.IOException ioE) {
-                                                throw new SQLException("Failed to read LONG RAW data: " + ioE.getMessage(), ioE);
-                                            }
+                                            insertStmt.setObject(i + 1, value, Types.TIMESTAMP);
                                         }
                                     } else {
-                                        // Regular RAW or BLOB
-                                        try {
-                                            byte[] bytes = rs.getBytes(i + 1);
-                                            if (bytes != null) {
-                                                insertStmt.setBytes(i + 1, bytes);
-                                            } else {
-                                                insertStmt.setObject(i + 1, null);
-                                            }
-                                        } catch (SQLException e) {
-                                            // If we can't get bytes, try to convert the object
-                                            if (value != null) {
-                                                // Try to convert to byte array if possible
-                                                try {
-                                                    byte[] bytes = objectToByteArray(value);
-                                                    insertStmt.setBytes(i + 1, bytes);
-                                                } catch (Exception convE) {
-                                                    throw new SQLException("Failed to convert RAW/BLOB data: " + e.getMessage(), e);
-                                                }
-                                            } else {
-                                                insertStmt.setObject(i + 1, null);
-                                            }
-                                        }
-                                    }
-                                }
-                            } catch (SQLException e) {
-                                throw new SQLException("Failed to set RAW/LONG RAW/BLOB value: " + e.getMessage(), e);
-                            }
-                        } else {
-                            // Check if it's an Oracle-specific type by class name
-                            String className = value.getClass().getName();
-                            if (className.startsWith("oracle.sql.")) {
-                                // For other Oracle types, try to infer from source type or use default
-                                if (className.contains("TIMESTAMP") || className.contains("DATE")) {
-                                    try {
-                                        insertStmt.setTimestamp(i + 1, rs.getTimestamp(i + 1));
-                                    } catch (SQLException e) {
-                                        insertStmt.setObject(i + 1, value, Types.TIMESTAMP);
+                                        // Default: try setObject with inferred type
+                                        insertStmt.setObject(i + 1, value);
                                     }
                                 } else {
-                                    // Default: try setObject with inferred type
+                                    // Standard Java types - use setObject normally
                                     insertStmt.setObject(i + 1, value);
                                 }
-                            } else {
-                                // Standard Java types - use setObject normally
-                                insertStmt.setObject(i + 1, value);
                             }
                         }
+                        
+                        if (fingerprint != null) {
+                            fingerprint.endRow();
+                        }
+                        insertStmt.addBatch();
+                        rowCount++;
+                        totalRows++;
+                        rowsSinceLastPersist++;
+                        
+                        // A large LOB closes its batch, and LOB bytes bound to a batch stay within the budget
+                        if (rowCount >= batchSize || largeLob || lobBytesInBatch >= lobBatchBudget) {
+                            insertStmt.executeBatch();
+                            if (!useAutoCommit) {
+                                targetConn.commit();
+                            }
+                            rowCount = 0;
+                            lobBytesInBatch = 0L;
+                            incrementMigratedRows(progress, rowsSinceLastPersist);
+                            rowsSinceLastPersist = 0L;
+                        }
+                        
+                        if (totalRows % commitInterval == 0) {
+                            addLog(progress, "info",
+                                String.format("Migrated %d rows from %s", totalRows, tableMapping.getSourceTable()),
+                                null);
+                            log.info("Migrated {} rows from {}", totalRows, tableMapping.getSourceTable());
+                        }
                     }
                     
-                    insertStmt.addBatch();
-                    rowCount++;
-                    totalRows++;
-                    rowsSinceLastPersist++;
-                    
-                    if (rowCount >= batchSize) {
+                    // Execute remaining batch
+                    if (rowCount > 0) {
                         insertStmt.executeBatch();
                         if (!useAutoCommit) {
                             targetConn.commit();
                         }
-                        rowCount = 0;
-                        incrementMigratedRows(progress, rowsSinceLastPersist);
-                        rowsSinceLastPersist = 0L;
                     }
                     
-                    if (totalRows % commitInterval == 0) {
-                        addLog(progress, "info",
-                            String.format("Migrated %d rows from %s", totalRows, tableMapping.getSourceTable()),
-                            null);
-                        log.info("Migrated {} rows from {}", totalRows, tableMapping.getSourceTable());
+                    if (rowsSinceLastPersist > 0) {
+                        incrementMigratedRows(progress, rowsSinceLastPersist);
+                        rowsSinceLastPersist = 0L;
                     }
                 }
                 
-                // Execute remaining batch
-                if (rowCount > 0) {
-                    insertStmt.executeBatch();
-                    if (!useAutoCommit) {
-                        targetConn.commit();
+                if (fingerprint != null && !stopped) {
+                    if (partitionLoad != null && partitionLoad.tableFingerprint != null) {
+                        synchronized (partitionLoad.tableFingerprint) {
+                            partitionLoad.tableFingerprint.merge(fingerprint);
+                        }
+                    } else {
+                        recordFingerprint(project, tableMapping, chunkRange, fingerprint);
                     }
                 }
-                
-                if (rowsSinceLastPersist > 0) {
-                    incrementMigratedRows(progress, rowsSinceLastPersist);
-                    rowsSinceLastPersist = 0L;
-                }
             } finally {
                 // Restore original auto-commit setting (before connections close)
                 targetConn.setAutoCommit(originalAutoCommit);
@@ -995,6 +1387,514 @@ public class MigrationService {
         }
     }
     
+    /**
+     * Undo the load-time changes made to the target tables: rebuild the indexes and keys dropped
+     * by the fast-load profile, set unlogged tables LOGGED again one at a time, and finally
+     * restore foreign keys, which cannot link logged and unlogged tables. Every step is attempted.
+     */
+    private void finishLoad(Project project, AppSettings settings, MigrationProgress progress,
+                            FastLoadService.Snapshot deferred, List<String> unloggedTables) {
+        boolean rebuild = deferred != null && !deferred.isEmpty();
+        boolean relog = unloggedTables != null && !unloggedTables.isEmpty();
+        if (!rebuild && !relog) {
+            return;
+        }
+        
+        int workers = resolveMaintenanceWorkers(settings);
+        String maintenanceWorkMem = resolveMaintenanceWorkMem(settings);
+        List<String> failures = new ArrayList<>();
+        
+        if (rebuild) {
+            addLog(progress, "info",
+                String.format("Rebuilding %d target index(es) and key(s) with %d worker(s)", deferred.size(), workers),
+                null);
+            long started = System.currentTimeMillis();
+            failures.addAll(fastLoadService.rebuildKeysAndIndexes(project.getTargetConnection(), deferred, workers,
+                maintenanceWorkMem));
+            addLog(progress, "info",
+                String.format("Rebuilt target indexes and keys in %d ms", System.currentTimeMillis() - started), null);
+        }
+        if (relog) {
+            List<String> tables = new ArrayList<>(unloggedTables);
+            addLog(progress, "info", String.format("Setting %d target table(s) LOGGED", tables.size()), null);
+            long started = System.currentTimeMillis();
+            failures.addAll(fastLoadService.setLogged(project.getTargetConnection(), tables));
+            addLog(progress, "info",
+                String.format("Target tables set LOGGED in %d ms", System.currentTimeMillis() - started), null);
+        }
+        if (rebuild && deferred.foreignKeyCount() > 0) {
+            long started = System.currentTimeMillis();
+            failures.addAll(fastLoadService.rebuildForeignKeys(project.getTargetConnection(), deferred, workers));
+            addLog(progress, "info",
+                String.format("Restored %d foreign key(s) in %d ms", deferred.foreignKeyCount(),
+                    System.currentTimeMillis() - started), null);
+        }
+        
+        if (!failures.isEmpty()) {
+            throw new RuntimeException(String.format("%d post-load restore step(s) failed: %s",
+                failures.size(), String.join("; ", failures)));
+        }
+        addLog(progress, "success", "Target tables restored after the load", null);
+    }
+    
+    /**
+     * Second pass of the two-pass LOB strategy: fill in the LOB columns left out of the main load.
+     * Tables whose LOBs could not be filled in are marked as failed, so a resumed run copies them
+     * again. The pass waits while the migration is paused.
+     *
+     * @return whether the pass ran to the end, {@code false} when the migration was stopped
+     */
+    private boolean runLobBackfill(Project project, AppSettings settings, MigrationProgress progress,
+                                List<LobBackfillService.Backfill> lobBackfills) {
+        int workers = settings.getLobPassWorkers() != null && settings.getLobPassWorkers() > 0
+            ? settings.getLobPassWorkers() : 4;
+        int prefetch = settings.getLobPrefetchSize() != null ? settings.getLobPrefetchSize() : 32768;
+        int batchSize = settings.getBatchSize() != null ? settings.getBatchSize() : 1000;
+        addLog(progress, "info",
+            String.format("Main load finished; filling in LOB columns of %d table(s) with %d worker(s)",
+                lobBackfills.size(), workers),
+            null);
+        long started = System.currentTimeMillis();
+        List<LobBackfillService.Result> results = lobBackfillService.backfill(project.getSourceConnection(),
+            project.getTargetConnection(), new ArrayList<>(lobBackfills), workers, prefetch, batchSize,
+            resolveLobStreamThresholdBytes(settings), resolveLobBatchBudgetBytes(settings),
+            () -> !isLobPassStopped(progress));
+        
+        StringBuilder report = new StringBuilder();
+        List<String> failed = new ArrayList<>();
+        for (LobBackfillService.Result result : results) {
+            report.append(String.format("%s: %d row(s), %d ms%s%n", result.table(), result.rows(), result.durationMs(),
+                result.failed() ? " FAILED: " + result.error() : ""));
+            if (result.failed()) {
+                failed.add(result.table());
+            }
+        }
+        // A stopped pass leaves LOBs missing from tables that may already report success
+        boolean stopped = isLobPassStopped(progress);
+        for (LobBackfillService.Backfill backfill : lobBackfills) {
+            if (stopped || failed.contains(FastLoadService.qualifiedName(backfill.mapping()))) {
+                backfill.mapping().setStatus("error");
+                updateTableMappingStatus(project.getId(), backfill.mapping().getId(), "error");
+            }
+        }
+        if (stopped) {
+            addLog(progress, "warning", "LOB pass stopped; its tables are copied again when the migration is resumed",
+                report.toString());
+            if ("running".equals(progress.getStatus())) {
+                // Interrupted rather than stopped: fail the run instead of leaving it running
+                throw new RuntimeException("LOB pass interrupted");
+            }
+            return false;
+        }
+        if (!failed.isEmpty()) {
+            addLog(progress, "error", String.format("LOB pass failed for %d table(s)", failed.size()), report.toString());
+            throw new RuntimeException("LOB pass failed for: " + String.join(", ", failed));
+        }
+        addLog(progress, "success", String.format("LOB pass completed in %d ms", System.currentTimeMillis() - started),
+            report.toString());
+        return true;
+    }
+    
+    /**
+     * Like {@link #isStopRequested}, for the LOB pass: waits while the migration is paused, so a
+     * pause holds the pass instead of ending it.
+     */
+    private boolean isLobPassStopped(MigrationProgress progress) {
+        try {
+            while ("paused".equals(progress.getStatus())) {
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        return !"running".equals(progress.getStatus());
+    }
+    
+    /**
+     * Post-load maintenance of the loaded tables: ANALYZE (or VACUUM FREEZE) and sequence sync.
+     * The data is already in place, so failures are reported as warnings rather than failing the run.
+     */
+    private void runPostLoad(Project project, AppSettings settings, MigrationProgress progress,
+                             List<TableMapping> loadedTables) {
+        boolean vacuumFreeze = Boolean.TRUE.equals(settings.getPostLoadVacuumFreeze());
+        boolean analyze = vacuumFreeze || !Boolean.FALSE.equals(settings.getPostLoadAnalyze());
+        boolean syncSequences = !Boolean.FALSE.equals(settings.getSyncSequences());
+        List<PostLoadService.StepResult> results = new ArrayList<>();
+        
+        if (analyze) {
+            int workers = resolveMaintenanceWorkers(settings);
+            addLog(progress, "info", String.format("Post-load: %s on %d table(s) with %d worker(s)",
+                vacuumFreeze ? "VACUUM (FREEZE, ANALYZE)" : "ANALYZE", loadedTables.size(), workers), null);
+            long started = System.currentTimeMillis();
+            results.addAll(postLoadService.maintainTables(project.getTargetConnection(), loadedTables, vacuumFreeze,
+                workers, resolveMaintenanceWorkMem(settings)));
+            addLog(progress, "info", String.format("Post-load table maintenance finished in %d ms",
+                System.currentTimeMillis() - started), null);
+        }
+        if (syncSequences) {
+            long started = System.currentTimeMillis();
+            try {
+                List<PostLoadService.StepResult> synced = postLoadService.syncSequences(
+                    project.getSourceConnection(), project.getTargetConnection(), loadedTables);
+                results.addAll(synced);
+                addLog(progress, "info", String.format("Post-load: synchronized %d sequence(s) in %d ms",
+                    synced.stream().filter(r -> !r.failed()).count(), System.currentTimeMillis() - started), null);
+            } catch (Exception e) {
+                addLog(progress, "warning", "Post-load: sequence sync failed: " + e.getMessage(), e.toString());
+            }
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+        
+        StringBuilder report = new StringBuilder();
+        for (PostLoadService.StepResult result : results) {
+            report.append(String.format("%s %s: %d ms%s%n", result.step(), result.object(), result.durationMs(),
+                result.failed() ? " FAILED: " + result.error() : ""));
+        }
+        long failed = results.stream().filter(PostLoadService.StepResult::failed).count();
+        if (failed > 0) {
+            addLog(progress, "warning", String.format("Post-load: %d of %d step(s) failed", failed, results.size()),
+                report.toString());
+        } else {
+            addLog(progress, "success", String.format("Post-load: %d step(s) completed", results.size()),
+                report.toString());
+        }
+    }
+    
+    private int resolveMaintenanceWorkers(AppSettings settings) {
+        Integer indexBuildWorkers = settings.getIndexBuildWorkers() != null
+            ? settings.getIndexBuildWorkers() : settingsService.getSettings().getIndexBuildWorkers();
+        return indexBuildWorkers != null ? indexBuildWorkers : resolveParallelTables(settings);
+    }
+    
+    private String resolveMaintenanceWorkMem(AppSettings settings) {
+        return settings.getMaintenanceWorkMem() != null
+            ? settings.getMaintenanceWorkMem() : settingsService.getSettings().getMaintenanceWorkMem();
+    }
+    
+    /**
+     * Native read of each column, or {@code null} when the native accessors are disabled. The
+     * fingerprint needs the exact decimal value, so NUMBER is only read as a double without it.
+     */
+    private NativeRead[] resolveNativeReads(AppSettings settings, TableMapping tableMapping, boolean fingerprinting) {
+        if (!Boolean.TRUE.equals(settings.getOracleNativeAccessors())) {
+            return null;
+        }
+        List<ColumnMapping> columns = tableMapping.getColumnMappings();
+        NativeRead[] reads = new NativeRead[columns.size()];
+        for (int i = 0; i < reads.length; i++) {
+            ColumnMapping col = columns.get(i);
+            String source = col.getSourceDataType() != null ? col.getSourceDataType().trim().toUpperCase() : "";
+            String target = cleanDataType(col.getTargetDataType()).toUpperCase();
+            NativeRead read = NativeRead.NONE;
+            if (source.equals("NUMBER")) {
+                boolean integralTarget = target.equals("SMALLINT") || target.equals("INTEGER") || target.equals("INT")
+                    || target.equals("BIGINT") || target.startsWith("INT2") || target.startsWith("INT4")
+                    || target.startsWith("INT8");
+                boolean scaleZero = col.getSourceDataScale() == null || col.getSourceDataScale() == 0;
+                if (integralTarget || ((target.startsWith("NUMERIC") || target.startsWith("DECIMAL")) && scaleZero)) {
+                    read = NativeRead.INTEGRAL;
+                } else if ((target.equals("DOUBLE PRECISION") || target.equals("FLOAT8")) && !fingerprinting) {
+                    read = NativeRead.FLOATING;
+                }
+            } else if ((source.equals("DATE") || (source.startsWith("TIMESTAMP") && !source.contains("ZONE")))
+                    && (target.startsWith("TIMESTAMP") || target.equals("DATE"))
+                    // A zoned target (TIMESTAMPTZ included) would read a LocalDateTime in the session time zone
+                    && validationSqlBuilder.resolveKind(target) == ValidationSqlBuilder.ValueKind.DATETIME) {
+                read = NativeRead.DATETIME;
+            }
+            reads[i] = read;
+        }
+        return reads;
+    }
+    
+    /**
+     * Bind a NUMBER, DATE or TIMESTAMP value decoded from its Oracle byte form, without the
+     * {@code BigDecimal} or {@code Timestamp} of the generic path. Returns {@code false}, having
+     * bound nothing, when the value needs the generic conversion (a fraction, a value out of
+     * range, a date before the common era).
+     */
+    private boolean bindNative(OracleResultSet rs, PreparedStatement insertStmt, int index, NativeRead read,
+                               RowFingerprint fingerprint, ValidationSqlBuilder.ValueKind kind) throws SQLException {
+        boolean fingerprinted = fingerprint != null && kind != ValidationSqlBuilder.ValueKind.UNSUPPORTED;
+        Datum datum = rs.getOracleObject(index);
+        if (datum == null) {
+            if (fingerprinted) {
+                fingerprint.add(kind, null);
+            }
+            insertStmt.setObject(index, null);
+            return true;
+        }
+        byte[] bytes = datum.shareBytes();
+        switch (read) {
+            case INTEGRAL -> {
+                long value = OracleWireFormat.toLong(bytes);
+                if (value == OracleWireFormat.NOT_EXACT) {
+                    return false;
+                }
+                if (fingerprinted) {
+                    fingerprint.add(kind, value);
+                }
+                insertStmt.setLong(index, value);
+            }
+            case FLOATING -> {
+                double value = OracleWireFormat.toDouble(bytes);
+                if (Double.isNaN(value)) {
+                    return false;
+                }
+                insertStmt.setDouble(index, value);
+            }
+            case DATETIME -> {
+                LocalDateTime value = OracleWireFormat.toLocalDateTime(bytes);
+                if (value == null) {
+                    return false;
+                }
+                if (fingerprinted) {
+                    fingerprint.add(kind, value);
+                }
+                insertStmt.setObject(index, value);
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Column layout of a table for the columnar copy, or {@code null} when it is disabled or a
+     * column needs the per-row path: LOB, LONG, zoned timestamps and the other types the generic
+     * binding handles case by case.
+     *
+     * @param nativeReads native read of each column, {@code null} when the native accessors are off
+     */
+    private ColumnBatch.ColumnType[] resolveColumnLayout(AppSettings settings, String[] sourceTypes,
+                                                         NativeRead[] nativeReads) {
+        if (!Boolean.TRUE.equals(settings.getColumnarBatches())) {
+            return null;
+        }
+        ColumnBatch.ColumnType[] layout = new ColumnBatch.ColumnType[sourceTypes.length];
+        for (int i = 0; i < layout.length; i++) {
+            String sourceType = sourceTypes[i].trim();
+            NativeRead read = nativeReads != null ? nativeReads[i] : NativeRead.NONE;
+            if (read == NativeRead.INTEGRAL) {
+                layout[i] = ColumnBatch.ColumnType.LONG;
+            } else if (read == NativeRead.FLOATING) {
+                layout[i] = ColumnBatch.ColumnType.DOUBLE;
+            } else if (sourceType.startsWith("NUMBER") || sourceType.startsWith("FLOAT")) {
+                layout[i] = ColumnBatch.ColumnType.DECIMAL;
+            } else if (sourceType.startsWith("DATE")
+                    || (sourceType.startsWith("TIMESTAMP") && !sourceType.contains("ZONE"))) {
+                layout[i] = ColumnBatch.ColumnType.DATETIME;
+            } else if (sourceType.startsWith("VARCHAR") || sourceType.startsWith("NVARCHAR")
+                    || sourceType.startsWith("CHAR") || sourceType.startsWith("NCHAR")) {
+                layout[i] = ColumnBatch.ColumnType.TEXT;
+            } else if (sourceType.startsWith("RAW")) {
+                layout[i] = ColumnBatch.ColumnType.BYTES;
+            } else {
+                return null;
+            }
+        }
+        return layout;
+    }
+    
+    /**
+     * Copy a result set a batch at a time: a batch of rows is read into the column vectors, then
+     * bound and sent in one JDBC batch, and the batch is cleared for the next one. Pause and stop
+     * are checked between batches.
+     */
+    private ColumnarCopy copyColumnar(ResultSet rs, OracleResultSet oracleRs, NativeRead[] nativeReads,
+                                      ColumnBatch batch, PreparedStatement insertStmt, Connection targetConn,
+                                      boolean useAutoCommit, TableMapping tableMapping, MigrationProgress progress,
+                                      int commitInterval, RowFingerprint fingerprint,
+                                      List<ValidationSqlBuilder.ValueKind> fingerprintKinds,
+                                      RowFingerprint.FloatTarget[] floatTargets) throws SQLException {
+        long totalRows = 0L;
+        boolean exhausted = false;
+        while (!exhausted) {
+            if (isStopRequested(progress)) {
+                return new ColumnarCopy(totalRows, true);
+            }
+            while (!batch.isFull()) {
+                if (!rs.next()) {
+                    exhausted = true;
+                    break;
+                }
+                readColumnarRow(rs, oracleRs, nativeReads, batch);
+            }
+            int rows = batch.size();
+            if (rows == 0) {
+                break;
+            }
+            writeColumnarBatch(batch, insertStmt, fingerprint, fingerprintKinds, floatTargets);
+            insertStmt.executeBatch();
+            if (!useAutoCommit) {
+                targetConn.commit();
+            }
+            batch.clear();
+            incrementMigratedRows(progress, rows);
+            
+            long before = totalRows;
+            totalRows += rows;
+            if (totalRows / commitInterval > before / commitInterval) {
+                addLog(progress, "info",
+                    String.format("Migrated %d rows from %s", totalRows, tableMapping.getSourceTable()),
+                    null);
+                log.info("Migrated {} rows from {}", totalRows, tableMapping.getSourceTable());
+            }
+        }
+        return new ColumnarCopy(totalRows, false);
+    }
+    
+    /**
+     * Read the current row into the next row of a columnar batch. NUMBER and DATE values with a
+     * native read are decoded from their Oracle byte form; values the decoders reject are kept as
+     * {@code BigDecimal} or {@code Timestamp}.
+     */
+    private void readColumnarRow(ResultSet rs, OracleResultSet oracleRs, NativeRead[] nativeReads,
+                                 ColumnBatch batch) throws SQLException {
+        for (int c = 0; c < batch.columnCount(); c++) {
+            int index = c + 1;
+            switch (batch.type(c)) {
+                case LONG -> {
+                    Datum datum = oracleRs.getOracleObject(index);
+                    long value = datum != null ? OracleWireFormat.toLong(datum.shareBytes()) : 0L;
+                    if (datum == null) {
+                        batch.putNull(c);
+                    } else if (value == OracleWireFormat.NOT_EXACT) {
+                        batch.putObject(c, rs.getBigDecimal(index));
+                    } else {
+                        batch.putLong(c, value);
+                    }
+                }
+                case DOUBLE -> {
+                    Datum datum = oracleRs.getOracleObject(index);
+                    double value = datum != null ? OracleWireFormat.toDouble(datum.shareBytes()) : 0d;
+                    if (datum == null) {
+                        batch.putNull(c);
+                    } else if (Double.isNaN(value)) {
+                        batch.putObject(c, rs.getBigDecimal(index));
+                    } else {
+                        batch.putDouble(c, value);
+                    }
+                }
+                case DATETIME -> {
+                    LocalDateTime value = null;
+                    if (oracleRs != null && nativeReads[c] == NativeRead.DATETIME) {
+                        Datum datum = oracleRs.getOracleObject(index);
+                        if (datum == null) {
+                            batch.putNull(c);
+                            continue;
+                        }
+                        value = OracleWireFormat.toLocalDateTime(datum.shareBytes());
+                    }
+                    batch.putObject(c, value != null ? value : rs.getTimestamp(index));
+                }
+                case DECIMAL -> batch.putObject(c, rs.getBigDecimal(index));
+                case TEXT -> batch.putObject(c, rs.getString(index));
+                case BYTES -> batch.putObject(c, rs.getBytes(index));
+            }
+        }
+        batch.endRow();
+    }
+    
+    /**
+     * Bind the rows of a columnar batch to the insert statement, each added to the JDBC batch, and
+     * feed them to the fingerprint in row order.
+     */
+    private void writeColumnarBatch(ColumnBatch batch, PreparedStatement insertStmt, RowFingerprint fingerprint,
+                                    List<ValidationSqlBuilder.ValueKind> fingerprintKinds,
+                                    RowFingerprint.FloatTarget[] floatTargets) throws SQLException {
+        int columns = batch.columnCount();
+        for (int r = 0; r < batch.size(); r++) {
+            for (int c = 0; c < columns; c++) {
+                int index = c + 1;
+                ValidationSqlBuilder.ValueKind kind = fingerprintKinds.get(c);
+                boolean fingerprinted = fingerprint != null && kind != ValidationSqlBuilder.ValueKind.UNSUPPORTED;
+                if (batch.isNull(c, r)) {
+                    if (fingerprinted) {
+                        fingerprint.add(kind, null);
+                    }
+                    insertStmt.setObject(index, null);
+                    continue;
+                }
+                Object value = batch.getObject(c, r);
+                switch (batch.type(c)) {
+                    case LONG -> {
+                        if (value == null) {
+                            long primitive = batch.getLong(c, r);
+                            insertStmt.setLong(index, primitive);
+                            if (fingerprinted) {
+                                fingerprint.add(kind, primitive);
+                            }
+                            continue;
+                        }
+                        insertStmt.setObject(index, value, Types.NUMERIC);
+                    }
+                    case DOUBLE -> {
+                        if (value == null) {
+                            double primitive = batch.getDouble(c, r);
+                            insertStmt.setDouble(index, primitive);
+                            if (fingerprinted) {
+                                fingerprint.add(kind, primitive);
+                            }
+                            continue;
+                        }
+                        insertStmt.setObject(index, value, Types.NUMERIC);
+                    }
+                    case DECIMAL -> insertStmt.setObject(index, value, Types.NUMERIC);
+                    case DATETIME -> {
+                        if (value instanceof Timestamp timestamp) {
+                            insertStmt.setTimestamp(index, timestamp);
+                        } else {
+                            insertStmt.setObject(index, value);
+                        }
+                    }
+                    case TEXT -> insertStmt.setString(index, (String) value);
+                    case BYTES -> insertStmt.setBytes(index, (byte[]) value);
+                }
+                if (fingerprinted) {
+                    fingerprint.add(kind, floatTargets[c].stored(value));
+                }
+            }
+            if (fingerprint != null) {
+                fingerprint.endRow();
+            }
+            insertStmt.addBatch();
+        }
+    }
+    
+    private long resolveLobStreamThresholdBytes(AppSettings settings) {
+        Integer kb = settings.getLobStreamThresholdKb() != null
+            ? settings.getLobStreamThresholdKb() : settingsService.getSettings().getLobStreamThresholdKb();
+        return (kb != null && kb > 0 ? kb : 1024) * 1024L;
+    }
+    
+    private long resolveLobBatchBudgetBytes(AppSettings settings) {
+        Integer mb = settings.getLobBatchMemoryMb() != null
+            ? settings.getLobBatchMemoryMb() : settingsService.getSettings().getLobBatchMemoryMb();
+        return (mb != null && mb > 0 ? mb : 64) * 1024L * 1024L;
+    }
+    
+    private boolean isInlineFingerprintEnabled(AppSettings settings) {
+        return settings == null || !Boolean.FALSE.equals(settings.getInlineFingerprints());
+    }
+    
+    private void recordFingerprint(Project project, TableMapping tableMapping, ChunkRange chunkRange,
+                                   RowFingerprint fingerprint) {
+        try {
+            chunkFingerprintService.record(project.getId(), tableMapping,
+                chunkRange != null ? chunkRange.startInclusive : null,
+                chunkRange != null ? chunkRange.endInclusive : null,
+                fingerprint);
+        } catch (Exception e) {
+            // The copy itself succeeded, the table can still be validated by a full checksum
+            log.warn("Failed to record fingerprint for table {}: {}", tableMapping.getSourceTable(), e.getMessage());
+        }
+    }
+    
     private void addLog(MigrationProgress progress, String level, String message, String details) {
         MigrationLog log = new MigrationLog();
         log.setTimestamp(LocalDateTime.now());
@@ -1271,70 +2171,6 @@ public class MigrationService {
         }
     }
     
-    /**
-     * Convert hexadecimal string to byte array
-     * Handles hex strings like "2B2D2D2D..." to byte array
-     */
-    private byte[] hexStringToByteArray(String hex) {
-        if (hex == null || hex.isEmpty()) {
-            return new byte[0];
-        }
-        
-        // Remove any whitespace and ensure even length
-        hex = hex.replaceAll("\\s", "").toUpperCase();
-        if (hex.length() % 2 != 0) {
-            // Pad with leading zero if odd length
-            hex = "0" + hex;
-        }
-        
-        int len = hex.length();
-        byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4)
-                                 + Character.digit(hex.charAt(i + 1), 16));
-        }
-        return data;
-    }
-    
-    /**
-     * Convert object to byte array for binary types
-     * Handles various Oracle binary types
-     */
-    private byte[] objectToByteArray(Object value) throws Exception {
-        if (value == null) {
-            return null;
-        }
-        
-        if (value instanceof byte[]) {
-            return (byte[]) value;
-        }
-        
-        if (value instanceof String) {
-            // Try to parse as hex string
-            return hexStringToByteArray((String) value);
-        }
-        
-        // For Oracle-specific types, try to get bytes
-        String className = value.getClass().getName();
-        if (className.startsWith("oracle.sql.")) {
-            if (className.contains("RAW")) {
-                // Try to get bytes from Oracle RAW
-                try {
-                    java.lang.reflect.Method getBytesMethod = value.getClass().getMethod("getBytes");
-                    return (byte[]) getBytesMethod.invoke(value);
-                } catch (Exception e) {
-                    // Fallback: convert to string and parse as hex
-                    String strValue = value.toString();
-                    return hexStringToByteArray(strValue);
-                }
-            }
-        }
-        
-        // Last resort: convert to string and try hex parsing
-        String strValue = value.toString();
-        return hexStringToByteArray(strValue);
-    }
-    
     private void updateTableMappingStatus(String projectId, String tableMappingId, String status) {
         try {
             tableMappingRepository.updateStatus(tableMappingId, status);
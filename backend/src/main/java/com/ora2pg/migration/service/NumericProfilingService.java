@@ -0,0 +1,270 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.DataTypeMappingRule;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import oracle.sql.NUMBER;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Right-sizes Oracle {@code NUMBER} columns declared without precision, which otherwise map to
+ * unconstrained {@code NUMERIC}. Each such column is profiled on a random {@code SAMPLE} of the
+ * source rows (largest absolute value, presence of fractional parts), widened by the optimizer
+ * statistics' low and high values, and the narrowest fitting integer type, or
+ * {@code DOUBLE PRECISION} for fractional data, is proposed. Key and identity columns are never
+ * narrowed below {@code BIGINT}. The evidence behind every choice is kept on the column mapping.
+ */
+@Slf4j
+@Service
+public class NumericProfilingService {
+    
+    private static final BigDecimal SMALLINT_MAX = BigDecimal.valueOf(Short.MAX_VALUE);
+    private static final BigDecimal INTEGER_MAX = BigDecimal.valueOf(Integer.MAX_VALUE);
+    private static final BigDecimal BIGINT_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    
+    /** Only a sample is read, so the chosen type must hold ten times the largest value seen. */
+    private static final BigDecimal HEADROOM = BigDecimal.TEN;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    /**
+     * Replace the {@code NUMERIC} mapping of unconstrained {@code NUMBER} columns with a type
+     * inferred from sampled data. A custom mapping rule for {@code NUMBER} takes precedence over
+     * inference.
+     *
+     * @param customRules the user's own data type mapping rules
+     * @param sampleRows  rows read per table
+     */
+    public void inferNumericTypes(ConnectionConfig source, List<TableMapping> mappings,
+                                  List<DataTypeMappingRule> customRules, int sampleRows) {
+        DataTypeMappingRule override = customRules == null ? null : customRules.stream()
+            .filter(rule -> "NUMBER".equalsIgnoreCase(rule.getOracleType()))
+            .findFirst()
+            .orElse(null);
+        
+        try (Connection conn = connectionManager.getConnection(source)) {
+            for (TableMapping mapping : mappings) {
+                List<ColumnMapping> candidates = new ArrayList<>();
+                for (ColumnMapping column : mapping.getColumnMappings()) {
+                    if (isUnconstrainedNumber(column)) {
+                        candidates.add(column);
+                    }
+                }
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+                if (override != null) {
+                    for (ColumnMapping column : candidates) {
+                        setTargetType(column, override.getPostgresType().toUpperCase(),
+                            "Custom mapping rule NUMBER -> " + override.getPostgresType());
+                    }
+                    continue;
+                }
+                try {
+                    profileTable(conn, mapping, candidates, sampleRows);
+                } catch (SQLException e) {
+                    log.warn("Failed to profile numeric columns of {}: {}", mapping.getSourceTable(), e.getMessage());
+                    for (ColumnMapping column : candidates) {
+                        column.setTypeEvidence("Profiling failed, kept NUMERIC: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to profile numeric columns: " + e.getMessage(), e);
+        }
+    }
+    
+    private boolean isUnconstrainedNumber(ColumnMapping column) {
+        String type = column.getSourceDataType();
+        return type != null
+            && "NUMBER".equalsIgnoreCase(type.trim())
+            && (column.getSourceDataPrecision() == null || column.getSourceDataPrecision() == 0);
+    }
+    
+    /**
+     * One pass over a random sample of about {@code sampleRows} rows of the table, aggregating every
+     * candidate column at once. The first rows of a table are not a sample: on sequence-keyed or
+     * append-only tables they hold the smallest values. Without table statistics to size the
+     * sample, the whole table is read.
+     */
+    private void profileTable(Connection conn, TableMapping mapping, List<ColumnMapping> columns,
+                              int sampleRows) throws SQLException {
+        Long tableRows = tableRows(conn, mapping);
+        double percent = tableRows != null && tableRows > 0 ? 100d * sampleRows / tableRows : 100d;
+        // SAMPLE takes a percentage in [0.000001, 100)
+        String sampleClause = percent < 100d
+            ? String.format(Locale.ROOT, " SAMPLE (%.6f)", Math.max(percent, 0.000001d)) : "";
+        Set<String> identityColumns = identityColumns(conn, mapping);
+        
+        StringBuilder select = new StringBuilder("SELECT COUNT(*)");
+        StringBuilder inner = new StringBuilder();
+        for (ColumnMapping column : columns) {
+            String name = quote(column.getSourceColumn());
+            select.append(", COUNT(").append(name).append(")")
+                  .append(", MAX(ABS(").append(name).append("))")
+                  .append(", MAX(CASE WHEN ").append(name).append(" <> TRUNC(").append(name)
+                  .append(") THEN 1 ELSE 0 END)");
+            if (inner.length() > 0) {
+                inner.append(", ");
+            }
+            inner.append(name);
+        }
+        select.append(" FROM (SELECT ").append(inner)
+              .append(" FROM ").append(quote(mapping.getSourceSchema())).append(".").append(quote(mapping.getSourceTable()))
+              .append(sampleClause).append(")");
+        
+        try (PreparedStatement stmt = conn.prepareStatement(select.toString());
+             ResultSet rs = stmt.executeQuery()) {
+            if (!rs.next()) {
+                return;
+            }
+            long sampled = rs.getLong(1);
+            int index = 2;
+            for (ColumnMapping column : columns) {
+                long nonNull = rs.getLong(index);
+                BigDecimal maxAbs = rs.getBigDecimal(index + 1);
+                boolean fractional = rs.getInt(index + 2) == 1;
+                index += 3;
+                BigDecimal statisticsMaxAbs = statisticsMaxAbs(conn, mapping, column);
+                if (statisticsMaxAbs != null && (maxAbs == null || statisticsMaxAbs.compareTo(maxAbs) > 0)) {
+                    maxAbs = statisticsMaxAbs;
+                }
+                boolean key = Boolean.TRUE.equals(column.getIsPrimaryKey())
+                    || Boolean.TRUE.equals(column.getIsForeignKey())
+                    || identityColumns.contains(column.getSourceColumn());
+                String sample = String.format("%d row(s) sampled%s, %d non-null", sampled,
+                    sampleClause.isEmpty() ? " (full table)" : String.format(Locale.ROOT, " (%.4f%%)", percent),
+                    nonNull) + (statisticsMaxAbs != null ? ", statistics bound " + statisticsMaxAbs.toPlainString() : "");
+                proposeType(column, sample, nonNull, maxAbs, fractional, key);
+            }
+        }
+    }
+    
+    /** Row count from the optimizer statistics, or {@code null} when the table has none. */
+    private Long tableRows(Connection conn, TableMapping mapping) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT num_rows FROM all_tables WHERE owner = ? AND table_name = ?")) {
+            stmt.setString(1, mapping.getSourceSchema());
+            stmt.setString(2, mapping.getSourceTable());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long rows = rs.getLong(1);
+                return rs.wasNull() ? null : rows;
+            }
+        }
+    }
+    
+    /**
+     * Largest absolute value of the low and high values in the column statistics, or {@code null}
+     * when there are none. The statistics cover the whole table as of their last gathering.
+     */
+    private BigDecimal statisticsMaxAbs(Connection conn, TableMapping mapping, ColumnMapping column) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT low_value, high_value FROM all_tab_col_statistics "
+                    + "WHERE owner = ? AND table_name = ? AND column_name = ?")) {
+            stmt.setString(1, mapping.getSourceSchema());
+            stmt.setString(2, mapping.getSourceTable());
+            stmt.setString(3, column.getSourceColumn());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                BigDecimal maxAbs = null;
+                for (int i = 1; i <= 2; i++) {
+                    byte[] raw = rs.getBytes(i);
+                    if (raw == null || raw.length == 0) {
+                        continue;
+                    }
+                    BigDecimal value;
+                    try {
+                        value = new NUMBER(raw).bigDecimalValue().abs();
+                    } catch (SQLException e) {
+                        continue; // infinities
+                    }
+                    if (maxAbs == null || value.compareTo(maxAbs) > 0) {
+                        maxAbs = value;
+                    }
+                }
+                return maxAbs;
+            }
+        }
+    }
+    
+    /** Identity columns of the table; empty before Oracle 12c, which has no identity columns. */
+    private Set<String> identityColumns(Connection conn, TableMapping mapping) {
+        Set<String> columns = new HashSet<>();
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT column_name FROM all_tab_identity_cols WHERE owner = ? AND table_name = ?")) {
+            stmt.setString(1, mapping.getSourceSchema());
+            stmt.setString(2, mapping.getSourceTable());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    columns.add(rs.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("No identity columns for {}: {}", mapping.getSourceTable(), e.getMessage());
+        }
+        return columns;
+    }
+    
+    private void proposeType(ColumnMapping column, String sample, long nonNull, BigDecimal maxAbs,
+                             boolean fractional, boolean key) {
+        if (nonNull == 0 || maxAbs == null) {
+            column.setTypeEvidence(sample + "; no values to infer from, kept NUMERIC");
+            return;
+        }
+        String range = "max |x| = " + maxAbs.toPlainString();
+        if (fractional) {
+            setTargetType(column, "DOUBLE PRECISION",
+                sample + ", " + range + ", fractional values present; DOUBLE PRECISION is approximate, "
+                    + "use NUMERIC(p,s) for exact decimals");
+            return;
+        }
+        
+        BigDecimal bound = maxAbs.multiply(HEADROOM);
+        String type;
+        if (bound.compareTo(SMALLINT_MAX) <= 0 && !key) {
+            type = "SMALLINT";
+        } else if (bound.compareTo(INTEGER_MAX) <= 0 && !key) {
+            type = "INTEGER";
+        } else if (bound.compareTo(BIGINT_MAX) <= 0) {
+            type = "BIGINT";
+        } else {
+            column.setTypeEvidence(sample + ", " + range + "; beyond BIGINT with 10x headroom, kept NUMERIC");
+            return;
+        }
+        setTargetType(column, type, sample + ", " + range + ", integral values only; " + type
+            + " holds 10x the largest value" + (key ? " (key and identity columns are at least BIGINT)" : ""));
+    }
+    
+    private void setTargetType(ColumnMapping column, String type, String evidence) {
+        column.setTargetDataType(type);
+        column.setTargetDataLength(null);
+        column.setTargetDataPrecision(null);
+        column.setTargetDataScale(null);
+        column.setTypeEvidence(evidence);
+    }
+    
+    private String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,356 @@
+package com.ora2pg.migration.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.TablePartition;
+import com.ora2pg.migration.model.TablePartitioning;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Oracle range, list and hash partitioning translated to PostgreSQL declarative partitioning.
+ * Every Oracle partition becomes a child table of the same bounds, so its rows can be copied
+ * straight into that child. Subpartitions are folded into their partition, and interval
+ * partitioned tables get a default partition for values beyond the partitions that exist, as do
+ * range partitioned tables whose key can be NULL.
+ */
+@Slf4j
+@Service
+public class PartitioningService {
+    
+    /** PostgreSQL truncates longer identifiers. */
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+    
+    private static final Pattern TO_DATE = Pattern.compile("^TO_DATE\\s*\\(\\s*'\\s*([^']*)'.*\\)$",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TIMESTAMP_LITERAL = Pattern.compile("^(?:TIMESTAMP|DATE)\\s*'\\s*([^']*)'$",
+        Pattern.CASE_INSENSITIVE);
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private SchemaMetadataCacheService metadataCache;
+    
+    /**
+     * Partitioning of the source table of a mapping, or {@code null} when the table is not
+     * partitioned or its partitioning has no PostgreSQL equivalent.
+     */
+    public TablePartitioning findPartitioning(ConnectionConfig source, TableMapping mapping) {
+        if (source == null || !"oracle".equalsIgnoreCase(source.getType()) || mapping.getSourceTable() == null) {
+            return null;
+        }
+        Map<String, TablePartitioning> schemaPartitioning;
+        try (Connection conn = connectionManager.getConnection(source)) {
+            schemaPartitioning = metadataCache.get(conn, source, mapping.getSourceSchema(), "partitioning",
+                new TypeReference<Map<String, TablePartitioning>>() {},
+                () -> loadPartitioning(conn, mapping.getSourceSchema()));
+        } catch (SQLException e) {
+            log.warn("Cannot read partitioning of {}, creating a plain table: {}", mapping.getSourceTable(), e.getMessage());
+            return null;
+        }
+        
+        TablePartitioning partitioning = schemaPartitioning.get(mapping.getSourceTable().toUpperCase());
+        if (partitioning == null) {
+            return null;
+        }
+        String unsupported = unsupportedReason(partitioning, mapping);
+        if (unsupported != null) {
+            log.warn("Table {} is partitioned but will be created as a plain table: {}", mapping.getSourceTable(), unsupported);
+            return null;
+        }
+        return partitioning;
+    }
+    
+    /**
+     * Whether rows of an Oracle partition belong to exactly one PostgreSQL child. Hash partitions
+     * do not: Oracle and PostgreSQL hash keys differently, so such rows go through the parent.
+     */
+    public boolean routesDirectly(TablePartitioning partitioning) {
+        return !"HASH".equals(partitioning.getPartitioningType());
+    }
+    
+    /**
+     * {@code PARTITION BY} clause to append to the parent's {@code CREATE TABLE}.
+     */
+    public String partitionByClause(TablePartitioning partitioning, TableMapping mapping) {
+        List<String> keys = new ArrayList<>();
+        for (String keyColumn : partitioning.getKeyColumns()) {
+            keys.add(FastLoadService.quote(targetColumn(mapping, keyColumn)));
+        }
+        return " PARTITION BY " + partitioning.getPartitioningType() + " (" + String.join(", ", keys) + ")";
+    }
+    
+    /**
+     * {@code CREATE TABLE ... PARTITION OF} statements for every partition, in source order.
+     */
+    public List<String> partitionStatements(TablePartitioning partitioning, TableMapping mapping) {
+        List<String> statements = new ArrayList<>();
+        String parent = FastLoadService.qualifiedName(mapping);
+        int keyCount = partitioning.getKeyColumns().size();
+        List<String> lowerBound = repeat("MINVALUE", keyCount);
+        boolean hasDefault = false;
+        
+        for (TablePartition partition : partitioning.getPartitions()) {
+            String bounds;
+            switch (partitioning.getPartitioningType()) {
+                case "RANGE" -> {
+                    List<String> upperBound = convertValues(partition.getHighValue());
+                    bounds = "FOR VALUES FROM (" + String.join(", ", lowerBound) + ") TO ("
+                        + String.join(", ", upperBound) + ")";
+                    lowerBound = upperBound;
+                }
+                case "LIST" -> {
+                    if ("DEFAULT".equalsIgnoreCase(partition.getHighValue().trim())) {
+                        bounds = "DEFAULT";
+                        hasDefault = true;
+                    } else {
+                        bounds = "FOR VALUES IN (" + String.join(", ", convertValues(partition.getHighValue())) + ")";
+                    }
+                }
+                default -> bounds = "FOR VALUES WITH (MODULUS " + partitioning.getPartitions().size()
+                    + ", REMAINDER " + (partition.getPosition() - 1) + ")";
+            }
+            statements.add("CREATE TABLE " + childTableName(mapping, partition) + " PARTITION OF " + parent + " " + bounds);
+        }
+        
+        // Oracle creates interval partitions on insert, and keeps NULL range keys in the MAXVALUE
+        // partition; PostgreSQL needs somewhere to put those rows
+        if ((Boolean.TRUE.equals(partitioning.getInterval()) || hasNullableRangeKey(partitioning, mapping))
+                && !hasDefault) {
+            statements.add("CREATE TABLE " + defaultTableName(mapping) + " PARTITION OF " + parent + " DEFAULT");
+        }
+        return statements;
+    }
+    
+    /**
+     * Whether some key column of a range partitioned table can be NULL. PostgreSQL range
+     * partitions reject NULL keys, so such tables get a default partition for those rows.
+     */
+    public boolean hasNullableRangeKey(TablePartitioning partitioning, TableMapping mapping) {
+        if (!"RANGE".equals(partitioning.getPartitioningType())) {
+            return false;
+        }
+        for (String keyColumn : partitioning.getKeyColumns()) {
+            ColumnMapping column = columnMapping(mapping, keyColumn);
+            if (column == null || !Boolean.FALSE.equals(column.getNullable())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Whether an Oracle partition can hold rows with a NULL key, which belong in the default
+     * partition on PostgreSQL. Oracle sorts NULL above every value, so with a single key column
+     * only the MAXVALUE partition holds them; with several, any partition may.
+     */
+    public boolean holdsNullKeys(TablePartitioning partitioning, TableMapping mapping, TablePartition partition) {
+        if (!hasNullableRangeKey(partitioning, mapping)) {
+            return false;
+        }
+        return partitioning.getKeyColumns().size() > 1
+            || "MAXVALUE".equals(convertValues(partition.getHighValue()).get(0));
+    }
+    
+    /**
+     * Qualified, quoted name of the default partition.
+     */
+    public String defaultTableName(TableMapping mapping) {
+        return FastLoadService.quote(mapping.getTargetSchema()) + "."
+            + FastLoadService.quote(childName(mapping.getTargetTable(), "default"));
+    }
+    
+    /**
+     * Qualified, quoted name of the child table holding a partition.
+     */
+    public String childTableName(TableMapping mapping, TablePartition partition) {
+        String suffix = partition.getPartitionName().toLowerCase();
+        if (mapping.getTargetTable().length() + suffix.length() + 1 > MAX_IDENTIFIER_LENGTH) {
+            suffix = "p" + partition.getPosition();
+        }
+        String name = childName(mapping.getTargetTable(), suffix);
+        return FastLoadService.quote(mapping.getTargetSchema()) + "." + FastLoadService.quote(name);
+    }
+    
+    static String childName(String table, String suffix) {
+        String name = table + "_" + suffix;
+        if (name.length() > MAX_IDENTIFIER_LENGTH) {
+            name = table.substring(0, Math.max(1, MAX_IDENTIFIER_LENGTH - suffix.length() - 1)) + "_" + suffix;
+        }
+        return name;
+    }
+    
+    private String unsupportedReason(TablePartitioning partitioning, TableMapping mapping) {
+        String type = partitioning.getPartitioningType();
+        if (!"RANGE".equals(type) && !"LIST".equals(type) && !"HASH".equals(type)) {
+            return type + " partitioning has no PostgreSQL equivalent";
+        }
+        if ("LIST".equals(type) && partitioning.getKeyColumns().size() > 1) {
+            return "PostgreSQL list partitioning takes a single column";
+        }
+        if (partitioning.getPartitions().isEmpty()) {
+            return "no partitions found";
+        }
+        for (String keyColumn : partitioning.getKeyColumns()) {
+            if (targetColumn(mapping, keyColumn) == null) {
+                return "partition key column " + keyColumn + " is not mapped";
+            }
+        }
+        return null;
+    }
+    
+    private String targetColumn(TableMapping mapping, String sourceColumn) {
+        ColumnMapping column = columnMapping(mapping, sourceColumn);
+        return column != null ? column.getTargetColumn() : null;
+    }
+    
+    private ColumnMapping columnMapping(TableMapping mapping, String sourceColumn) {
+        if (mapping.getColumnMappings() == null) {
+            return null;
+        }
+        for (ColumnMapping column : mapping.getColumnMappings()) {
+            if (sourceColumn.equalsIgnoreCase(column.getSourceColumn())) {
+                return column;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Convert an Oracle HIGH_VALUE list to PostgreSQL bound literals. Dates come as
+     * {@code TO_DATE(' 2024-01-01 00:00:00', ...)} and become plain strings, which PostgreSQL
+     * casts to the key column type.
+     */
+    private List<String> convertValues(String highValue) {
+        List<String> values = new ArrayList<>();
+        for (String value : splitTopLevel(highValue)) {
+            String trimmed = value.trim();
+            Matcher toDate = TO_DATE.matcher(trimmed);
+            Matcher literal = TIMESTAMP_LITERAL.matcher(trimmed);
+            if (toDate.matches()) {
+                values.add("'" + toDate.group(1).trim() + "'");
+            } else if (literal.matches()) {
+                values.add("'" + literal.group(1).trim() + "'");
+            } else {
+                values.add(trimmed.equalsIgnoreCase("MAXVALUE") || trimmed.equalsIgnoreCase("NULL")
+                    ? trimmed.toUpperCase() : trimmed);
+            }
+        }
+        return values;
+    }
+    
+    private List<String> splitTopLevel(String text) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+            } else if (!quoted && depth == 0 && c == ',') {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+    
+    private List<String> repeat(String value, int count) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(value);
+        }
+        return values;
+    }
+    
+    private Map<String, TablePartitioning> loadPartitioning(Connection conn, String schema) throws SQLException {
+        Map<String, TablePartitioning> tables = new LinkedHashMap<>();
+        
+        String tablesSql = """
+            SELECT table_name, partitioning_type, subpartitioning_type, interval
+            FROM all_part_tables
+            WHERE owner = UPPER(?)
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(tablesSql)) {
+            stmt.setString(1, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    TablePartitioning partitioning = new TablePartitioning();
+                    partitioning.setTableName(rs.getString("table_name"));
+                    partitioning.setPartitioningType(rs.getString("partitioning_type"));
+                    partitioning.setSubpartitioningType(rs.getString("subpartitioning_type"));
+                    partitioning.setInterval(rs.getString("interval") != null);
+                    tables.put(partitioning.getTableName(), partitioning);
+                }
+            }
+        }
+        if (tables.isEmpty()) {
+            return tables;
+        }
+        
+        String keysSql = """
+            SELECT name, column_name
+            FROM all_part_key_columns
+            WHERE owner = UPPER(?) AND object_type = 'TABLE'
+            ORDER BY name, column_position
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(keysSql)) {
+            stmt.setString(1, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    TablePartitioning partitioning = tables.get(rs.getString("name"));
+                    if (partitioning != null) {
+                        partitioning.getKeyColumns().add(rs.getString("column_name"));
+                    }
+                }
+            }
+        }
+        
+        // high_value is a LONG, so it is selected last and read after the other columns
+        String partitionsSql = """
+            SELECT table_name, partition_name, partition_position, high_value
+            FROM all_tab_partitions
+            WHERE table_owner = UPPER(?)
+            ORDER BY table_name, partition_position
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(partitionsSql)) {
+            stmt.setString(1, schema);
+            stmt.setFetchSize(1000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    TablePartitioning partitioning = tables.get(rs.getString("table_name"));
+                    String partitionName = rs.getString("partition_name");
+                    int position = rs.getInt("partition_position");
+                    String highValue = rs.getString("high_value");
+                    if (partitioning != null) {
+                        partitioning.getPartitions().add(new TablePartition(partitionName, position,
+                            highValue != null ? highValue : ""));
+                    }
+                }
+            }
+        }
+        return tables;
+    }
+}
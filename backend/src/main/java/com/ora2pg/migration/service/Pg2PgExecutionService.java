@@ -28,6 +28,7 @@ public class Pg2PgExecutionService {
     private final PipelineLogRepository logRepository;
     private final PipelineMapper pipelineMapper;
     private final Pg2PgSqlGenerator sqlGenerator;
+    private final RowCountService rowCountService;
     
     /**
      * Executes a pipeline step migration
@@ -304,21 +305,12 @@ public class Pg2PgExecutionService {
     }
     
     private long countSourceRows(Connection conn, PipelineStep step) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM " + quoteIdentifier(step.getSourceSchema()) + 
-                     "." + quoteIdentifier(step.getSourceTable());
+        String fromClause = quoteIdentifier(step.getSourceSchema()) + "." + quoteIdentifier(step.getSourceTable());
+        String filter = step.getFilterEnabled() != null && step.getFilterEnabled()
+            ? step.getFilterWhereClause() : null;
         
-        if (step.getFilterEnabled() != null && step.getFilterEnabled() && 
-            step.getFilterWhereClause() != null) {
-            sql += " WHERE " + step.getFilterWhereClause();
-        }
-        
-        try (Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
-        }
-        return 0;
+        // Always exact: the count becomes the execution's total rows and its failed rows on error
+        return rowCountService.exactCount(conn, fromClause, filter);
     }
     
     private long countRows(Connection conn, String schema, String table) throws SQLException {
@@ -0,0 +1,185 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.schema.SequenceColumn;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Maintenance of the target once the data is loaded: planner statistics and tuple freezing for
+ * the loaded tables, and sequences moved past the values already present in the columns they feed.
+ */
+@Slf4j
+@Service
+public class PostLoadService {
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private SchemaMigrationService schemaMigrationService;
+    
+    /**
+     * Outcome of one post-load statement.
+     *
+     * @param step       {@code ANALYZE}, {@code VACUUM (FREEZE, ANALYZE)} or {@code SEQUENCE SYNC}
+     * @param object     qualified table or sequence name
+     * @param durationMs time spent on the statement
+     * @param error      error message, or {@code null} when the step succeeded
+     */
+    record StepResult(String step, String object, long durationMs, String error) {
+        
+        boolean failed() {
+            return error != null;
+        }
+    }
+    
+    /**
+     * Run {@code ANALYZE}, or {@code VACUUM (FREEZE, ANALYZE)} when freezing is requested, on each
+     * table with at most {@code workers} tables processed at a time. VACUUM cannot run inside a
+     * transaction, so every worker uses its own auto-commit connection.
+     */
+    List<StepResult> maintainTables(ConnectionConfig target, List<TableMapping> tableMappings, boolean vacuumFreeze,
+                                    int workers, String maintenanceWorkMem) {
+        String step = vacuumFreeze ? "VACUUM (FREEZE, ANALYZE)" : "ANALYZE";
+        List<StepResult> results = Collections.synchronizedList(new ArrayList<>());
+        if (tableMappings.isEmpty()) {
+            return results;
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, tableMappings.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (TableMapping mapping : tableMappings) {
+                String table = FastLoadService.qualifiedName(mapping);
+                futures.add(executor.submit(() -> {
+                    long started = System.currentTimeMillis();
+                    try (Connection conn = connectionManager.getConnection(target);
+                         Statement stmt = conn.createStatement()) {
+                        conn.setAutoCommit(true);
+                        if (maintenanceWorkMem != null && !maintenanceWorkMem.isBlank()) {
+                            stmt.execute("SET maintenance_work_mem = '" + maintenanceWorkMem.replace("'", "") + "'");
+                        }
+                        stmt.execute(step + " " + table);
+                        results.add(new StepResult(step, table, System.currentTimeMillis() - started, null));
+                    } catch (SQLException e) {
+                        results.add(new StepResult(step, table, System.currentTimeMillis() - started, e.getMessage()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.add(new StepResult(step, null, 0, "Interrupted"));
+        } catch (ExecutionException e) {
+            results.add(new StepResult(step, null, 0,
+                e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+    
+    /**
+     * Reset each target sequence fed by a migrated column to {@code max(column) + 1}. Sequences
+     * are found from the source (identity columns and insert triggers) and expected in the target
+     * schema of the table they feed; a sequence feeding several columns takes the greatest value.
+     * Sequences missing from the target are skipped.
+     */
+    List<StepResult> syncSequences(ConnectionConfig source, ConnectionConfig target, List<TableMapping> tableMappings)
+            throws SQLException {
+        List<SequenceColumn> links = schemaMigrationService.discoverSequenceColumns(source, source.getSchema());
+        
+        Map<String, TableMapping> mappingsBySource = new LinkedHashMap<>();
+        for (TableMapping mapping : tableMappings) {
+            if (mapping.getSourceTable() != null) {
+                mappingsBySource.put(mapping.getSourceTable().toUpperCase(), mapping);
+            }
+        }
+        
+        // Target sequence -> max() expressions of the target columns it feeds
+        Map<String, List<String>> maxByColumn = new LinkedHashMap<>();
+        for (SequenceColumn link : links) {
+            TableMapping mapping = mappingsBySource.get(link.getTableName().toUpperCase());
+            String targetColumn = mapping == null ? null : targetColumn(mapping, link.getColumnName());
+            if (targetColumn == null) {
+                continue;
+            }
+            String sequence = FastLoadService.quote(mapping.getTargetSchema()) + "."
+                + FastLoadService.quote(link.getSequenceName());
+            String max = "(SELECT max(" + FastLoadService.quote(targetColumn) + ") FROM "
+                + FastLoadService.qualifiedName(mapping) + ")";
+            List<String> columns = maxByColumn.computeIfAbsent(sequence, s -> new ArrayList<>());
+            if (!columns.contains(max)) {
+                columns.add(max);
+            }
+        }
+        
+        List<StepResult> results = new ArrayList<>();
+        if (maxByColumn.isEmpty()) {
+            return results;
+        }
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement exists = conn.prepareStatement("SELECT to_regclass(?) IS NOT NULL");
+             Statement stmt = conn.createStatement()) {
+            for (Map.Entry<String, List<String>> entry : maxByColumn.entrySet()) {
+                String sequence = entry.getKey();
+                exists.setString(1, sequence);
+                try (ResultSet rs = exists.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        log.debug("Sequence {} does not exist on the target, not synchronized", sequence);
+                        continue;
+                    }
+                }
+                // GREATEST ignores NULLs; when every column is empty setval gets NULL and does nothing
+                String value = entry.getValue().size() == 1
+                    ? entry.getValue().get(0)
+                    : "GREATEST(" + String.join(", ", entry.getValue()) + ")";
+                // Columns migrated from NUMBER are numeric, which setval does not take implicitly
+                String sql = "SELECT setval('" + sequence.replace("'", "''") + "', (" + value + " + 1)::bigint, false)";
+                long started = System.currentTimeMillis();
+                try {
+                    stmt.execute(sql);
+                    results.add(new StepResult("SEQUENCE SYNC", sequence, System.currentTimeMillis() - started, null));
+                } catch (SQLException e) {
+                    results.add(new StepResult("SEQUENCE SYNC", sequence, System.currentTimeMillis() - started,
+                        e.getMessage()));
+                }
+            }
+        }
+        return results;
+    }
+    
+    private String targetColumn(TableMapping mapping, String sourceColumn) {
+        if (mapping.getColumnMappings() == null) {
+            return null;
+        }
+        for (ColumnMapping column : mapping.getColumnMappings()) {
+            if (sourceColumn.equalsIgnoreCase(column.getSourceColumn())) {
+                return column.getTargetColumn();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.AppSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.*;
+
+/**
+ * Row counts with a selectable cost/accuracy trade-off. Exact counts scan the whole table;
+ * statistics read the optimizer's row estimate from the catalog; sampled counts scan a
+ * fraction of the table's blocks and scale the result up.
+ */
+@Slf4j
+@Service
+public class RowCountService {
+    
+    public static final double DEFAULT_SAMPLE_PERCENT = 1.0;
+    
+    public enum CountStrategy {
+        EXACT, STATISTICS, SAMPLED;
+        
+        public static CountStrategy from(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return STATISTICS;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return STATISTICS;
+            }
+        }
+    }
+    
+    public CountStrategy resolveStrategy(AppSettings settings) {
+        return CountStrategy.from(settings != null ? settings.getCountStrategy() : null);
+    }
+    
+    public double resolveSamplePercent(AppSettings settings) {
+        if (settings == null || settings.getCountSamplePercent() == null || settings.getCountSamplePercent() <= 0) {
+            return DEFAULT_SAMPLE_PERCENT;
+        }
+        return Math.min(settings.getCountSamplePercent(), 100.0);
+    }
+    
+    /**
+     * Count rows of a table using the given strategy. Statistics cannot honour a filter, so
+     * filtered counts fall back to sampling; tables without statistics fall back to sampling too.
+     *
+     * @param schema unquoted schema name, used for catalog lookups
+     * @param table unquoted table name, used for catalog lookups
+     * @param fromClause quoted, qualified table name as the caller addresses it
+     * @param filter optional filter condition, with or without a leading WHERE
+     */
+    public long countRows(Connection conn, String schema, String table, String fromClause, String filter,
+                          CountStrategy strategy, double samplePercent) throws SQLException {
+        String condition = normalizeFilter(filter);
+        boolean oracle = isOracle(conn);
+        
+        if (strategy == CountStrategy.STATISTICS && condition == null) {
+            Long estimate = statisticsCount(conn, oracle, schema, table);
+            if (estimate != null) {
+                return estimate;
+            }
+            log.debug("No optimizer statistics for {}.{}, sampling instead", schema, table);
+        }
+        if (strategy != CountStrategy.EXACT && samplePercent < 100.0) {
+            return sampledCount(conn, oracle, fromClause, condition, samplePercent);
+        }
+        return exactCount(conn, fromClause, condition);
+    }
+    
+    public long exactCount(Connection conn, String fromClause, String filter) throws SQLException {
+        String condition = normalizeFilter(filter);
+        String sql = "SELECT COUNT(*) FROM " + fromClause + (condition != null ? " WHERE " + condition : "");
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+    
+    private Long statisticsCount(Connection conn, boolean oracle, String schema, String table) throws SQLException {
+        String sql = oracle
+            ? "SELECT NUM_ROWS FROM ALL_TABLES WHERE OWNER = ? AND TABLE_NAME = ?"
+            : "SELECT CASE WHEN c.reltuples < 0 THEN NULL ELSE c.reltuples::bigint END FROM pg_class c "
+                + "JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relname = ?";
+        String schemaName = unquote(schema);
+        String tableName = unquote(table);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, oracle ? schemaName.toUpperCase() : schemaName);
+            stmt.setString(2, oracle ? tableName.toUpperCase() : tableName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    long rows = rs.getLong(1);
+                    // reltuples is 0 for a table that was created but never vacuumed or analyzed
+                    return rs.wasNull() || (rows == 0 && !oracle) ? null : rows;
+                }
+            }
+        }
+        return null;
+    }
+    
+    private long sampledCount(Connection conn, boolean oracle, String fromClause, String condition,
+                              double samplePercent) throws SQLException {
+        String percent = BigDecimal.valueOf(samplePercent).setScale(6, RoundingMode.HALF_UP)
+            .stripTrailingZeros().toPlainString();
+        String sample = oracle ? " SAMPLE BLOCK (" + percent + ")" : " TABLESAMPLE SYSTEM (" + percent + ")";
+        String sql = "SELECT COUNT(*) FROM " + fromClause + sample + (condition != null ? " WHERE " + condition : "");
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            long sampled = rs.next() ? rs.getLong(1) : 0L;
+            return Math.round(sampled * 100.0 / samplePercent);
+        }
+    }
+    
+    private String normalizeFilter(String filter) {
+        if (filter == null || filter.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = filter.trim();
+        if (trimmed.toUpperCase().startsWith("WHERE ")) {
+            trimmed = trimmed.substring(6).trim();
+        }
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+    
+    private String unquote(String identifier) {
+        return identifier != null ? identifier.replace("\"", "") : "";
+    }
+    
+    private boolean isOracle(Connection conn) throws SQLException {
+        return conn.getMetaData().getDatabaseProductName().toLowerCase().contains("oracle");
+    }
+}
@@ -0,0 +1,551 @@
+package com.ora2pg.migration.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.Project;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.validation.KeyRange;
+import com.ora2pg.migration.model.validation.RowDiffEntry;
+import com.ora2pg.migration.model.validation.RowDiffJob;
+import com.ora2pg.migration.model.validation.RowDiffRequest;
+import com.ora2pg.migration.model.validation.RowDiffResult;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Row-level diff between a source and target table. Both sides are streamed ordered by primary
+ * key and merge-joined, so memory use is independent of table size. Differences are written to
+ * an NDJSON report and a repair script on disk as they are found.
+ */
+@Slf4j
+@Service
+public class RowDiffService {
+    
+    private static final int DEFAULT_FETCH_SIZE = 10_000;
+    private static final int DEFAULT_SAMPLE_SIZE = 50;
+    private static final int MAX_RUNNING_JOBS = 2;
+    /** Finished jobs, and their report files, are dropped this long after they end. */
+    private static final long JOB_TTL_MINUTES = 24 * 60;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private ProjectService projectService;
+    
+    @Autowired
+    private DataValidationService dataValidationService;
+    
+    @Autowired
+    private ValidationSqlBuilder sqlBuilder;
+    
+    @Value("${validation.diff.output-dir:${java.io.tmpdir}/ora2pg-diff}")
+    private String outputDir;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<String, RowDiffJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger workerCount = new AtomicInteger();
+    // Each job holds a connection to both sides for its whole run, so only a few run at once
+    private final ExecutorService diffExecutor = Executors.newFixedThreadPool(MAX_RUNNING_JOBS, task -> {
+        Thread worker = new Thread(task, "RowDiff-" + workerCount.incrementAndGet());
+        worker.setDaemon(true);
+        return worker;
+    });
+    
+    /**
+     * One side of the merge: a forward-only cursor over normalized key and value strings.
+     */
+    private static class DiffCursor implements AutoCloseable {
+        private final Connection conn;
+        private final Statement stmt;
+        private final ResultSet rs;
+        private final int keyCount;
+        private final int valueCount;
+        private final boolean restoreAutoCommit;
+        private String[] keys;
+        private String[] values;
+        private long rows;
+        
+        private DiffCursor(Connection conn, Statement stmt, ResultSet rs, int keyCount, int valueCount,
+                           boolean restoreAutoCommit) {
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.keyCount = keyCount;
+            this.valueCount = valueCount;
+            this.restoreAutoCommit = restoreAutoCommit;
+        }
+        
+        private boolean advance() throws SQLException {
+            if (!rs.next()) {
+                keys = null;
+                values = null;
+                return false;
+            }
+            keys = new String[keyCount];
+            values = new String[valueCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = rs.getString(i + 1);
+            }
+            for (int i = 0; i < valueCount; i++) {
+                values[i] = rs.getString(keyCount + i + 1);
+            }
+            rows++;
+            return true;
+        }
+        
+        private boolean hasRow() {
+            return keys != null;
+        }
+        
+        @Override
+        public void close() throws SQLException {
+            try {
+                rs.close();
+                stmt.close();
+                if (restoreAutoCommit) {
+                    conn.rollback();
+                    conn.setAutoCommit(true);
+                }
+            } finally {
+                conn.close();
+            }
+        }
+    }
+    
+    /**
+     * Start a diff job in the background and return its initial state.
+     */
+    public RowDiffJob startDiff(String projectId, RowDiffRequest request) {
+        RowDiffRequest options = request != null ? request : new RowDiffRequest();
+        Project project = projectService.getProjectById(projectId);
+        if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
+            throw new RuntimeException("Source or target connection not configured");
+        }
+        List<TableMapping> tableMappings = dataValidationService.resolveTableMappings(project, options.getTableNames());
+        evictExpiredJobs();
+        
+        RowDiffJob job = new RowDiffJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setProjectId(projectId);
+        job.setStatus("running");
+        job.setStartTime(LocalDateTime.now());
+        for (TableMapping mapping : tableMappings) {
+            RowDiffResult result = new RowDiffResult();
+            result.setTable(mapping.getSourceTable());
+            result.setSourceSchema(mapping.getSourceSchema());
+            result.setTargetSchema(mapping.getTargetSchema());
+            result.setStatus("pending");
+            job.getTables().add(result);
+        }
+        jobs.put(job.getJobId(), job);
+        
+        diffExecutor.submit(() -> runDiff(job, project, tableMappings, options));
+        return job;
+    }
+    
+    public RowDiffJob getJob(String jobId) {
+        evictExpiredJobs();
+        return jobs.get(jobId);
+    }
+    
+    /**
+     * Drop jobs that ended more than {@link #JOB_TTL_MINUTES} ago, with their files on disk.
+     */
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(JOB_TTL_MINUTES);
+        jobs.values().removeIf(job -> {
+            if (job.getEndTime() == null || !job.getEndTime().isBefore(cutoff)) {
+                return false;
+            }
+            Path jobDir = Paths.get(outputDir, job.getJobId());
+            try (var files = Files.walk(jobDir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                log.debug("Failed to delete row diff files of job {}: {}", job.getJobId(), e.getMessage());
+            }
+            return true;
+        });
+    }
+    
+    /**
+     * Resolve a report or repair script file produced by a job.
+     *
+     * @param type "report" or "repair"
+     */
+    public Path getJobFile(String jobId, String table, String type) {
+        RowDiffJob job = jobs.get(jobId);
+        if (job == null) {
+            return null;
+        }
+        return job.getTables().stream()
+            .filter(t -> t.getTable().equalsIgnoreCase(table))
+            .map(t -> "repair".equalsIgnoreCase(type) ? t.getRepairScriptFile() : t.getReportFile())
+            .filter(Objects::nonNull)
+            .map(Paths::get)
+            .filter(Files::exists)
+            .findFirst()
+            .orElse(null);
+    }
+    
+    private void runDiff(RowDiffJob job, Project project, List<TableMapping> tableMappings, RowDiffRequest options) {
+        try {
+            Path jobDir = Paths.get(outputDir, job.getJobId());
+            Files.createDirectories(jobDir);
+            for (int i = 0; i < tableMappings.size(); i++) {
+                RowDiffResult result = job.getTables().get(i);
+                result.setStatus("running");
+                diffTable(project, tableMappings.get(i), options, jobDir, result);
+            }
+            job.setStatus("completed");
+        } catch (Exception e) {
+            log.error("Row diff job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            job.setStatus("error");
+            job.setErrorMessage(e.getMessage());
+        } finally {
+            job.setEndTime(LocalDateTime.now());
+        }
+    }
+    
+    void diffTable(Project project, TableMapping mapping, RowDiffRequest options, Path jobDir, RowDiffResult result) {
+        long started = System.currentTimeMillis();
+        try {
+            List<ColumnMapping> keyColumns = resolveKeyColumns(mapping);
+            List<ColumnMapping> valueColumns = dataValidationService.resolveChecksumColumns(
+                mapping, options.getColumnsToInclude(), null).stream()
+                .filter(c -> !keyColumns.contains(c))
+                .collect(Collectors.toList());
+            result.setKeyColumns(keyColumns.stream().map(ColumnMapping::getSourceColumn).collect(Collectors.toList()));
+            
+            List<ValidationSqlBuilder.ValueKind> keyKinds = keyColumns.stream()
+                .map(sqlBuilder::resolveKind).collect(Collectors.toList());
+            List<ValidationSqlBuilder.ValueKind> valueKinds = valueColumns.stream()
+                .map(sqlBuilder::resolveKind).collect(Collectors.toList());
+            String rangePredicateSource = buildRangePredicate(project.getSourceConnection().getType(),
+                mapping, keyColumns, keyKinds, options.getRanges(), true);
+            String rangePredicateTarget = buildRangePredicate(project.getTargetConnection().getType(),
+                mapping, keyColumns, keyKinds, options.getRanges(), false);
+            int fetchSize = options.getFetchSize() != null && options.getFetchSize() > 0
+                ? options.getFetchSize() : DEFAULT_FETCH_SIZE;
+            int sampleSize = options.getSampleSize() != null && options.getSampleSize() >= 0
+                ? options.getSampleSize() : DEFAULT_SAMPLE_SIZE;
+            
+            String fileBase = mapping.getSourceTable().replaceAll("[^A-Za-z0-9_.-]", "_");
+            Path reportFile = jobDir.resolve(fileBase + ".diff.ndjson");
+            Path repairFile = jobDir.resolve(fileBase + ".repair.sql");
+            result.setReportFile(reportFile.toString());
+            result.setRepairScriptFile(repairFile.toString());
+            
+            long missing = 0L;
+            long extra = 0L;
+            long changed = 0L;
+            String targetType = project.getTargetConnection().getType();
+            String targetTable = sqlBuilder.qualifiedName(targetType, mapping.getTargetSchema(), mapping.getTargetTable());
+            
+            try (DiffCursor source = openCursor(project.getSourceConnection(), mapping.getSourceSchema(),
+                     mapping.getSourceTable(), keyColumns, keyKinds, valueColumns, valueKinds, true,
+                     rangePredicateSource, fetchSize);
+                 DiffCursor target = openCursor(project.getTargetConnection(), mapping.getTargetSchema(),
+                     mapping.getTargetTable(), keyColumns, keyKinds, valueColumns, valueKinds, false,
+                     rangePredicateTarget, fetchSize);
+                 BufferedWriter report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+                 BufferedWriter repair = Files.newBufferedWriter(repairFile, StandardCharsets.UTF_8)) {
+                
+                repair.write("-- Repair script for " + targetTable + " generated at " + LocalDateTime.now() + "\n");
+                repair.write("BEGIN;\n");
+                
+                source.advance();
+                target.advance();
+                while (source.hasRow() || target.hasRow()) {
+                    int cmp;
+                    if (!source.hasRow()) {
+                        cmp = 1;
+                    } else if (!target.hasRow()) {
+                        cmp = -1;
+                    } else {
+                        cmp = compareKeys(source.keys, target.keys, keyKinds);
+                    }
+                    
+                    if (cmp < 0) {
+                        missing++;
+                        RowDiffEntry entry = new RowDiffEntry("missing", keyMap(keyColumns, source.keys), null);
+                        writeEntry(report, entry, result, sampleSize);
+                        repair.write(insertStatement(targetType, targetTable, keyColumns, keyKinds, source.keys,
+                            valueColumns, valueKinds, source.values));
+                        source.advance();
+                    } else if (cmp > 0) {
+                        extra++;
+                        RowDiffEntry entry = new RowDiffEntry("extra", keyMap(keyColumns, target.keys), null);
+                        writeEntry(report, entry, result, sampleSize);
+                        repair.write("DELETE FROM " + targetTable + " WHERE "
+                            + keyPredicate(targetType, keyColumns, keyKinds, target.keys) + ";\n");
+                        target.advance();
+                    } else {
+                        List<Integer> differing = new ArrayList<>();
+                        for (int i = 0; i < valueColumns.size(); i++) {
+                            if (!Objects.equals(source.values[i], target.values[i])) {
+                                differing.add(i);
+                            }
+                        }
+                        if (!differing.isEmpty()) {
+                            changed++;
+                            List<String> names = differing.stream()
+                                .map(i -> valueColumns.get(i).getSourceColumn())
+                                .collect(Collectors.toList());
+                            writeEntry(report, new RowDiffEntry("changed", keyMap(keyColumns, source.keys), names),
+                                result, sampleSize);
+                            repair.write(updateStatement(targetType, targetTable, keyColumns, keyKinds, source.keys,
+                                valueColumns, valueKinds, source.values, differing));
+                        }
+                        source.advance();
+                        target.advance();
+                    }
+                }
+                
+                repair.write("COMMIT;\n");
+                result.setSourceRows(source.rows);
+                result.setTargetRows(target.rows);
+            }
+            
+            result.setMissingRows(missing);
+            result.setExtraRows(extra);
+            result.setChangedRows(changed);
+            result.setStatus(missing + extra + changed == 0 ? "valid" : "invalid");
+        } catch (Exception e) {
+            log.error("Error diffing table {}: {}", mapping.getSourceTable(), e.getMessage());
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+        }
+        result.setDurationMs(System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * Primary key columns in mapping order, falling back to the partition column.
+     */
+    List<ColumnMapping> resolveKeyColumns(TableMapping mapping) {
+        List<ColumnMapping> columns = mapping.getColumnMappings() != null ? mapping.getColumnMappings() : List.of();
+        List<ColumnMapping> keys = columns.stream()
+            .filter(cm -> Boolean.TRUE.equals(cm.getIsPrimaryKey()))
+            .collect(Collectors.toList());
+        if (keys.isEmpty() && mapping.getPartitionColumn() != null) {
+            columns.stream()
+                .filter(cm -> cm.getSourceColumn() != null &&
+                    cm.getSourceColumn().equalsIgnoreCase(mapping.getPartitionColumn().trim()))
+                .findFirst()
+                .ifPresent(keys::add);
+        }
+        if (keys.isEmpty()) {
+            throw new RuntimeException("Row diff requires a primary key or partition column");
+        }
+        for (ColumnMapping key : keys) {
+            ValidationSqlBuilder.ValueKind kind = sqlBuilder.resolveKind(key);
+            if (kind == ValidationSqlBuilder.ValueKind.UNSUPPORTED || kind == ValidationSqlBuilder.ValueKind.CLOB ||
+                kind == ValidationSqlBuilder.ValueKind.BLOB) {
+                throw new RuntimeException("Key column " + key.getSourceColumn() + " has an unsupported type");
+            }
+        }
+        return keys;
+    }
+    
+    private String buildRangePredicate(String dbType, TableMapping mapping, List<ColumnMapping> keyColumns,
+                                       List<ValidationSqlBuilder.ValueKind> keyKinds, List<KeyRange> ranges,
+                                       boolean sourceSide) {
+        if (ranges == null || ranges.isEmpty()) {
+            return null;
+        }
+        if (keyColumns.size() != 1 || keyKinds.get(0) != ValidationSqlBuilder.ValueKind.NUMBER) {
+            throw new RuntimeException("Key ranges require a single numeric key column");
+        }
+        ColumnMapping key = keyColumns.get(0);
+        String column = sqlBuilder.quoteIdentifier(dbType, sourceSide ? key.getSourceColumn() : key.getTargetColumn());
+        List<String> clauses = new ArrayList<>();
+        for (KeyRange range : ranges) {
+            if (range.getStartKey() == null || range.getEndKey() == null) {
+                continue;
+            }
+            if (range.getTable() != null && !range.getTable().equalsIgnoreCase(mapping.getSourceTable())) {
+                continue;
+            }
+            clauses.add("(" + column + " >= " + Math.min(range.getStartKey(), range.getEndKey()) + " AND "
+                + column + " <= " + Math.max(range.getStartKey(), range.getEndKey()) + ")");
+        }
+        return clauses.isEmpty() ? null : String.join(" OR ", clauses);
+    }
+    
+    private DiffCursor openCursor(ConnectionConfig config, String schema, String table,
+                                  List<ColumnMapping> keyColumns, List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                  List<ColumnMapping> valueColumns, List<ValidationSqlBuilder.ValueKind> valueKinds,
+                                  boolean sourceSide, String predicate, int fetchSize) throws SQLException {
+        String dbType = config.getType();
+        List<String> select = new ArrayList<>();
+        List<String> orderBy = new ArrayList<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            String name = sourceSide ? keyColumns.get(i).getSourceColumn() : keyColumns.get(i).getTargetColumn();
+            select.add(sqlBuilder.normalizedColumnExpression(dbType, name, keyKinds.get(i)));
+            orderBy.add(sqlBuilder.binaryOrderExpression(dbType, name, keyKinds.get(i)));
+        }
+        for (int i = 0; i < valueColumns.size(); i++) {
+            String name = sourceSide ? valueColumns.get(i).getSourceColumn() : valueColumns.get(i).getTargetColumn();
+            select.add(sqlBuilder.normalizedColumnExpression(dbType, name, valueKinds.get(i)));
+        }
+        String sql = "SELECT " + String.join(", ", select) + " FROM " + sqlBuilder.qualifiedName(dbType, schema, table)
+            + (predicate != null ? " WHERE " + predicate : "")
+            + " ORDER BY " + String.join(", ", orderBy);
+        
+        Connection conn = connectionManager.getConnection(config);
+        try {
+            boolean restoreAutoCommit = false;
+            if ("postgresql".equalsIgnoreCase(dbType) && conn.getAutoCommit()) {
+                // Cursor-based fetch on PostgreSQL requires a transaction
+                conn.setAutoCommit(false);
+                restoreAutoCommit = true;
+            }
+            Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(fetchSize);
+            ResultSet rs = stmt.executeQuery(sql);
+            return new DiffCursor(conn, stmt, rs, keyColumns.size(), valueColumns.size(), restoreAutoCommit);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+    
+    private int compareKeys(String[] source, String[] target, List<ValidationSqlBuilder.ValueKind> kinds) {
+        for (int i = 0; i < source.length; i++) {
+            int cmp;
+            if (kinds.get(i) == ValidationSqlBuilder.ValueKind.NUMBER) {
+                cmp = new BigDecimal(source[i]).compareTo(new BigDecimal(target[i]));
+            } else {
+                cmp = source[i].compareTo(target[i]);
+            }
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+    
+    private Map<String, String> keyMap(List<ColumnMapping> keyColumns, String[] keys) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            map.put(keyColumns.get(i).getSourceColumn(), keys[i]);
+        }
+        return map;
+    }
+    
+    private void writeEntry(BufferedWriter report, RowDiffEntry entry, RowDiffResult result, int sampleSize)
+            throws IOException {
+        report.write(objectMapper.writeValueAsString(entry));
+        report.write('\n');
+        if (result.getSample().size() < sampleSize) {
+            result.getSample().add(entry);
+        }
+    }
+    
+    private String insertStatement(String dbType, String table,
+                                   List<ColumnMapping> keyColumns, List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                   String[] keys, List<ColumnMapping> valueColumns,
+                                   List<ValidationSqlBuilder.ValueKind> valueKinds, String[] values) {
+        List<String> columns = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        List<String> lobColumns = new ArrayList<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            columns.add(sqlBuilder.quoteIdentifier(dbType, keyColumns.get(i).getTargetColumn()));
+            literals.add(literal(keys[i], keyKinds.get(i)));
+        }
+        for (int i = 0; i < valueColumns.size(); i++) {
+            if (isLob(valueKinds.get(i))) {
+                lobColumns.add(valueColumns.get(i).getTargetColumn());
+                continue;
+            }
+            columns.add(sqlBuilder.quoteIdentifier(dbType, valueColumns.get(i).getTargetColumn()));
+            literals.add(literal(values[i], valueKinds.get(i)));
+        }
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", literals) + ");\n";
+        return lobComment(lobColumns, keyPredicate(dbType, keyColumns, keyKinds, keys)) + sql;
+    }
+    
+    private String updateStatement(String dbType, String table,
+                                   List<ColumnMapping> keyColumns, List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                   String[] keys, List<ColumnMapping> valueColumns,
+                                   List<ValidationSqlBuilder.ValueKind> valueKinds, String[] values,
+                                   List<Integer> differing) {
+        List<String> assignments = new ArrayList<>();
+        List<String> lobColumns = new ArrayList<>();
+        for (int i : differing) {
+            if (isLob(valueKinds.get(i))) {
+                lobColumns.add(valueColumns.get(i).getTargetColumn());
+                continue;
+            }
+            assignments.add(sqlBuilder.quoteIdentifier(dbType, valueColumns.get(i).getTargetColumn()) + " = "
+                + literal(values[i], valueKinds.get(i)));
+        }
+        String predicate = keyPredicate(dbType, keyColumns, keyKinds, keys);
+        String comment = lobComment(lobColumns, predicate);
+        if (assignments.isEmpty()) {
+            return comment;
+        }
+        return comment + "UPDATE " + table + " SET " + String.join(", ", assignments) + " WHERE "
+            + predicate + ";\n";
+    }
+    
+    private String keyPredicate(String dbType, List<ColumnMapping> keyColumns,
+                                List<ValidationSqlBuilder.ValueKind> keyKinds, String[] keys) {
+        List<String> clauses = new ArrayList<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            clauses.add(sqlBuilder.quoteIdentifier(dbType, keyColumns.get(i).getTargetColumn()) + " = "
+                + literal(keys[i], keyKinds.get(i)));
+        }
+        return String.join(" AND ", clauses);
+    }
+    
+    /**
+     * SQL literal for a normalized value; the target casts the untyped literal to the column type.
+     */
+    private String literal(String value, ValidationSqlBuilder.ValueKind kind) {
+        if (value == null || ValidationSqlBuilder.NULL_MARKER.equals(value)) {
+            return "NULL";
+        }
+        if (kind == ValidationSqlBuilder.ValueKind.RAW) {
+            return "decode('" + value + "', 'hex')";
+        }
+        if (kind == ValidationSqlBuilder.ValueKind.DATETIME_TZ) {
+            // Normalized in UTC; without the offset the session time zone would apply
+            return "'" + value + "+00'";
+        }
+        return "'" + value.replace("'", "''") + "'";
+    }
+    
+    private boolean isLob(ValidationSqlBuilder.ValueKind kind) {
+        return kind == ValidationSqlBuilder.ValueKind.CLOB || kind == ValidationSqlBuilder.ValueKind.BLOB;
+    }
+    
+    private String lobComment(List<String> lobColumns, String keyPredicate) {
+        if (lobColumns.isEmpty()) {
+            return "";
+        }
+        return "-- LOB column(s) " + String.join(", ", lobColumns) + " must be re-copied WHERE "
+            + keyPredicate.replace("\n", " ") + "\n";
+    }
+}
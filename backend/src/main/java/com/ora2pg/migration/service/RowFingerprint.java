@@ -0,0 +1,240 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.validation.AggregateChecksum;
+import com.ora2pg.migration.util.BinaryCodec;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+/**
+ * Order-independent fingerprint of rows, built in Java while they are copied. Values are
+ * normalized exactly like the PostgreSQL side of {@link ValidationSqlBuilder}, so the result
+ * equals the aggregate checksum ({@code MD5-SUM64}) the target database computes for the same rows.
+ * Not thread-safe: use one instance per copy worker.
+ */
+class RowFingerprint {
+    
+    private static final int LOB_PREFIX_LENGTH = 1000;
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    // Significant digits of PostgreSQL's float8 and float4 to numeric casts (DBL_DIG and FLT_DIG)
+    private static final MathContext FLOAT8_DIGITS = new MathContext(15, RoundingMode.HALF_EVEN);
+    private static final MathContext FLOAT4_DIGITS = new MathContext(6, RoundingMode.HALF_EVEN);
+    
+    private final MessageDigest digest = DigestUtils.getMd5Digest();
+    private final StringBuilder row = new StringBuilder(256); // column hashes of the current row
+    private int parts;
+    private long rowCount;
+    private long hashSum; // wraps around, i.e. unsigned sum modulo 2^64
+    
+    /**
+     * Floating point type of a target column. The target side hashes the stored binary value,
+     * so a source value is converted the same way before it is fingerprinted.
+     */
+    enum FloatTarget {
+        NONE, FLOAT4, FLOAT8;
+        
+        static FloatTarget of(String targetType) {
+            String upper = targetType != null ? targetType.trim().toUpperCase() : "";
+            if (upper.equals("DOUBLE PRECISION") || upper.equals("FLOAT8")) {
+                return FLOAT8;
+            }
+            if (upper.equals("REAL") || upper.equals("FLOAT4")) {
+                return FLOAT4;
+            }
+            return NONE;
+        }
+        
+        Object stored(Object value) {
+            if (this == NONE || !(value instanceof Number number)) {
+                return value;
+            }
+            return this == FLOAT8 ? (Object) number.doubleValue() : (Object) number.floatValue();
+        }
+    }
+    
+    void add(ValidationSqlBuilder.ValueKind kind, Object value) throws SQLException {
+        if (kind == ValidationSqlBuilder.ValueKind.CLOB) {
+            // Length and prefix are hashed as two parts, like ValidationSqlBuilder.rowStringExpression
+            String[] clob = normalizeClob(value);
+            addPart(clob[0]);
+            addPart(clob[1]);
+        } else {
+            addPart(normalize(kind, value));
+        }
+    }
+    
+    private void addPart(String normalized) {
+        row.append(partHash(normalized == null || normalized.isEmpty() ? ValidationSqlBuilder.NULL_MARKER : normalized));
+        parts++;
+    }
+    
+    void endRow() {
+        String rowString = row.toString();
+        if (parts > ValidationSqlBuilder.HASH_GROUP_SIZE) {
+            int groupLength = ValidationSqlBuilder.HASH_GROUP_SIZE * ValidationSqlBuilder.PART_HASH_LENGTH;
+            StringBuilder groups = new StringBuilder();
+            for (int start = 0; start < rowString.length(); start += groupLength) {
+                groups.append(partHash(rowString.substring(start, Math.min(start + groupLength, rowString.length()))));
+            }
+            rowString = groups.toString();
+        }
+        byte[] hash = digest.digest(rowString.getBytes(StandardCharsets.UTF_8));
+        long high = 0L;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (hash[i] & 0xFF);
+        }
+        hashSum += high;
+        rowCount++;
+        row.setLength(0);
+        parts = 0;
+    }
+    
+    private String partHash(String text) {
+        byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+        return BinaryCodec.encodeHex(Arrays.copyOf(hash, ValidationSqlBuilder.PART_HASH_LENGTH / 2));
+    }
+    
+    /**
+     * Add the rows of another fingerprint, e.g. of another partition of the same table.
+     */
+    void merge(RowFingerprint other) {
+        hashSum += other.hashSum;
+        rowCount += other.rowCount;
+    }
+    
+    long getRowCount() {
+        return rowCount;
+    }
+    
+    AggregateChecksum toChecksum() {
+        return new AggregateChecksum(rowCount, new BigInteger(Long.toUnsignedString(hashSum)));
+    }
+    
+    private static String normalize(ValidationSqlBuilder.ValueKind kind, Object value) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        return switch (kind) {
+            case NUMBER -> normalizeNumber(value);
+            case DATETIME -> normalizeDateTime(value);
+            case DATETIME_TZ -> normalizeZonedDateTime(value);
+            case CHAR -> value.toString().replaceAll(" +$", "");
+            case RAW -> value instanceof byte[] bytes ? BinaryCodec.encodeHex(bytes) : value.toString().toLowerCase();
+            case BLOB -> normalizeBlob(value);
+            default -> value.toString();
+        };
+    }
+    
+    private static String normalizeNumber(Object value) {
+        if (value instanceof Long integral) {
+            return Long.toString(integral);
+        }
+        BigDecimal number;
+        if (value instanceof Double || value instanceof Float) {
+            double floating = ((Number) value).doubleValue();
+            if (Double.isNaN(floating)) {
+                return "NaN";
+            }
+            if (Double.isInfinite(floating)) {
+                return floating > 0 ? "Infinity" : "-Infinity";
+            }
+            // Like float8::numeric, which keeps 15 significant digits (6 for float4)
+            number = new BigDecimal(floating).round(value instanceof Float ? FLOAT4_DIGITS : FLOAT8_DIGITS);
+        } else {
+            number = value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+        }
+        // Matches regexp_replace(trim_scale(x)::text, '^(-?)0\.', '\1.')
+        String text = number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+        if (text.startsWith("0.")) {
+            return text.substring(1);
+        }
+        if (text.startsWith("-0.")) {
+            return "-" + text.substring(2);
+        }
+        return text;
+    }
+    
+    private static String normalizeDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return toMicros(timestamp.toLocalDateTime()).format(DATETIME_FORMAT);
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().atStartOfDay().format(DATETIME_FORMAT);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return toMicros(dateTime).format(DATETIME_FORMAT);
+        }
+        if (value instanceof TemporalAccessor temporal) {
+            return DATETIME_FORMAT.format(temporal);
+        }
+        return value.toString();
+    }
+    
+    /**
+     * A timestamp with time zone as its UTC wall clock time, like both sides of the validation SQL.
+     */
+    private static String normalizeZonedDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return toMicros(LocalDateTime.ofInstant(timestamp.toInstant(), ZoneOffset.UTC)).format(DATETIME_FORMAT);
+        }
+        if (value instanceof OffsetDateTime dateTime) {
+            return toMicros(dateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime()).format(DATETIME_FORMAT);
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            return toMicros(dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime()).format(DATETIME_FORMAT);
+        }
+        return normalizeDateTime(value);
+    }
+    
+    /** Round to microseconds, the precision PostgreSQL stores. */
+    private static LocalDateTime toMicros(LocalDateTime dateTime) {
+        return dateTime.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+    
+    /**
+     * Length and prefix of a CLOB value, both {@code null} for NULL.
+     */
+    private static String[] normalizeClob(Object value) throws SQLException {
+        if (value == null) {
+            return new String[2];
+        }
+        if (value instanceof Clob clob) {
+            // Clob.length() counts UTF-16 units, same as PostgreSQL length() unless supplementary characters occur
+            long length = clob.length();
+            return new String[] {Long.toString(length), clob.getSubString(1, (int) Math.min(length, LOB_PREFIX_LENGTH))};
+        }
+        String text = value.toString();
+        int length = text.codePointCount(0, text.length());
+        return new String[] {Integer.toString(length),
+            text.substring(0, text.offsetByCodePoints(0, Math.min(length, LOB_PREFIX_LENGTH)))};
+    }
+    
+    private static String normalizeBlob(Object value) throws SQLException {
+        if (value instanceof Blob blob) {
+            long length = blob.length();
+            return length + ":" + BinaryCodec.encodeHex(blob.getBytes(1, (int) Math.min(length, LOB_PREFIX_LENGTH)));
+        }
+        if (value instanceof byte[] bytes) {
+            byte[] prefix = bytes.length > LOB_PREFIX_LENGTH ? Arrays.copyOf(bytes, LOB_PREFIX_LENGTH) : bytes;
+            return bytes.length + ":" + BinaryCodec.encodeHex(prefix);
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,429 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.Project;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.model.validation.RowDiffEntry;
+import com.ora2pg.migration.model.validation.SampledValidationRequest;
+import com.ora2pg.migration.model.validation.SampledValidationResult;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Statistical validation for tables too large to checksum in full. A random sample of source
+ * keys is drawn, the sampled rows are fetched from both sides by key and compared column by
+ * column with the same normalization as the in-database checksum, and the observed error rate
+ * is reported with a Wilson score upper bound.
+ */
+@Slf4j
+@Service
+public class SampledValidationService {
+    
+    public static final String METHOD_BLOCK = "block";
+    public static final String METHOD_KEYRANGE = "keyrange";
+    
+    private static final int DEFAULT_SAMPLE_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    // Oracle rejects IN lists of more than 1000 expressions (ORA-01795)
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final double DEFAULT_CONFIDENCE = 0.95;
+    private static final int MAX_KEYRANGE_ROUNDS = 10;
+    private static final int MAX_REPORTED_MISMATCHES = 50;
+    // Block sampling returns a variable number of rows, so ask for more and trim
+    private static final double BLOCK_OVERSAMPLE = 2.0;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    @Autowired
+    private ProjectService projectService;
+    
+    @Autowired
+    private DataValidationService dataValidationService;
+    
+    @Autowired
+    private RowDiffService rowDiffService;
+    
+    @Autowired
+    private ValidationSqlBuilder sqlBuilder;
+    
+    /**
+     * Validate a random sample of rows per table and estimate the table-wide error rate.
+     */
+    public List<SampledValidationResult> validateSample(String projectId, SampledValidationRequest request) {
+        SampledValidationRequest options = request != null ? request : new SampledValidationRequest();
+        Project project = projectService.getProjectById(projectId);
+        if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
+            throw new RuntimeException("Source or target connection not configured");
+        }
+        
+        List<SampledValidationResult> results = new ArrayList<>();
+        for (TableMapping mapping : dataValidationService.resolveTableMappings(project, options.getTableNames())) {
+            results.add(validateTable(project, mapping, options));
+        }
+        return results;
+    }
+    
+    SampledValidationResult validateTable(Project project, TableMapping mapping, SampledValidationRequest options) {
+        long started = System.currentTimeMillis();
+        SampledValidationResult result = new SampledValidationResult();
+        result.setTable(mapping.getSourceTable());
+        result.setSourceSchema(mapping.getSourceSchema());
+        result.setTargetSchema(mapping.getTargetSchema());
+        
+        try {
+            ConnectionConfig source = project.getSourceConnection();
+            ConnectionConfig target = project.getTargetConnection();
+            int sampleSize = positiveOrDefault(options.getSampleSize(), DEFAULT_SAMPLE_SIZE);
+            int batchSize = Math.min(positiveOrDefault(options.getBatchSize(), DEFAULT_BATCH_SIZE), MAX_BATCH_SIZE);
+            double confidence = options.getConfidenceLevel() != null &&
+                options.getConfidenceLevel() > 0 && options.getConfidenceLevel() < 1
+                ? options.getConfidenceLevel() : DEFAULT_CONFIDENCE;
+            String method = METHOD_KEYRANGE.equalsIgnoreCase(options.getMethod()) ? METHOD_KEYRANGE : METHOD_BLOCK;
+            result.setMethod(method);
+            result.setRequestedSamples(sampleSize);
+            result.setConfidenceLevel(confidence);
+            
+            List<ColumnMapping> keyColumns = rowDiffService.resolveKeyColumns(mapping);
+            List<ColumnMapping> valueColumns = dataValidationService.resolveChecksumColumns(
+                mapping, options.getColumnsToInclude(), null).stream()
+                .filter(c -> !keyColumns.contains(c))
+                .collect(Collectors.toList());
+            List<ValidationSqlBuilder.ValueKind> keyKinds = keyColumns.stream()
+                .map(sqlBuilder::resolveKind).collect(Collectors.toList());
+            List<ValidationSqlBuilder.ValueKind> valueKinds = valueColumns.stream()
+                .map(sqlBuilder::resolveKind).collect(Collectors.toList());
+            result.setKeyColumns(keyColumns.stream().map(ColumnMapping::getSourceColumn).collect(Collectors.toList()));
+            
+            long estimatedRows = estimateRowCount(source, mapping.getSourceSchema(), mapping.getSourceTable());
+            result.setEstimatedRows(estimatedRows);
+            
+            // Pick the sample on the source, keeping the full normalized source rows
+            Map<String, String[]> sourceRows = METHOD_KEYRANGE.equals(method)
+                ? sampleByKeyRange(source, mapping, keyColumns, keyKinds, valueColumns, valueKinds,
+                    sampleSize, batchSize, options.getSeed())
+                : sampleByBlock(source, mapping, keyColumns, keyKinds, valueColumns, valueKinds,
+                    sampleSize, estimatedRows, options.getSeed());
+            
+            // Look the same keys up on the target in batches
+            List<String[]> sampledKeys = sourceRows.values().stream()
+                .map(row -> Arrays.copyOfRange(row, 0, keyColumns.size()))
+                .collect(Collectors.toList());
+            Map<String, String[]> targetRows = new HashMap<>();
+            for (int i = 0; i < sampledKeys.size(); i += batchSize) {
+                List<String[]> batch = sampledKeys.subList(i, Math.min(i + batchSize, sampledKeys.size()));
+                targetRows.putAll(fetchRows(target, mapping.getTargetSchema(), mapping.getTargetTable(),
+                    keyColumns, keyKinds, valueColumns, valueKinds, false,
+                    keyLookupPredicate(target.getType(), keyColumns, keyKinds, batch, false)));
+            }
+            
+            int mismatched = 0;
+            int missing = 0;
+            for (Map.Entry<String, String[]> entry : sourceRows.entrySet()) {
+                String[] sourceRow = entry.getValue();
+                String[] targetRow = targetRows.get(entry.getKey());
+                Map<String, String> key = keyMap(keyColumns, sourceRow);
+                if (targetRow == null) {
+                    mismatched++;
+                    missing++;
+                    addMismatch(result, new RowDiffEntry("missing", key, null));
+                    continue;
+                }
+                List<String> differing = new ArrayList<>();
+                for (int i = 0; i < valueColumns.size(); i++) {
+                    int index = keyColumns.size() + i;
+                    if (!Objects.equals(sourceRow[index], targetRow[index])) {
+                        String column = valueColumns.get(i).getSourceColumn();
+                        differing.add(column);
+                        result.getMismatchesByColumn().merge(column, 1, Integer::sum);
+                    }
+                }
+                if (!differing.isEmpty()) {
+                    mismatched++;
+                    addMismatch(result, new RowDiffEntry("changed", key, differing));
+                }
+            }
+            
+            int sampled = sourceRows.size();
+            result.setSampledRows(sampled);
+            result.setMismatchedRows(mismatched);
+            result.setMissingRows(missing);
+            if (sampled > 0) {
+                double upperBound = wilsonUpperBound(mismatched, sampled, confidence);
+                result.setErrorRate((double) mismatched / sampled);
+                result.setErrorRateUpperBound(upperBound);
+                result.setEstimatedMismatchedRows(Math.round(upperBound * estimatedRows));
+            }
+            result.setStatus(mismatched == 0 ? "valid" : "invalid");
+            if (sampled < sampleSize) {
+                result.setErrorMessage("Only " + sampled + " of " + sampleSize + " requested rows could be sampled");
+            }
+        } catch (Exception e) {
+            log.error("Error in sampled validation for table {}: {}", mapping.getSourceTable(), e.getMessage());
+            result.setStatus("error");
+            result.setErrorMessage(e.getMessage());
+        }
+        result.setDurationMs(System.currentTimeMillis() - started);
+        return result;
+    }
+    
+    /**
+     * Block sampling: SAMPLE BLOCK on Oracle, TABLESAMPLE SYSTEM on PostgreSQL. Reads only a
+     * fraction of the table's blocks, then keeps a random subset of the rows found.
+     */
+    private Map<String, String[]> sampleByBlock(ConnectionConfig config, TableMapping mapping,
+                                                List<ColumnMapping> keyColumns,
+                                                List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                                List<ColumnMapping> valueColumns,
+                                                List<ValidationSqlBuilder.ValueKind> valueKinds,
+                                                int sampleSize, long estimatedRows, Integer seed) throws SQLException {
+        String dbType = config.getType();
+        boolean oracle = "oracle".equalsIgnoreCase(dbType);
+        double percent = estimatedRows > 0 ? 100.0 * sampleSize * BLOCK_OVERSAMPLE / estimatedRows : 100.0;
+        
+        String from = sqlBuilder.qualifiedName(dbType, mapping.getSourceSchema(), mapping.getSourceTable());
+        if (percent < 100.0) {
+            String pct = BigDecimal.valueOf(Math.max(percent, 0.000001)).setScale(6, RoundingMode.UP).toPlainString();
+            if (oracle) {
+                from += " SAMPLE BLOCK (" + pct + ")" + (seed != null ? " SEED (" + Math.abs(seed) + ")" : "");
+            } else {
+                from += " TABLESAMPLE SYSTEM (" + pct + ")" + (seed != null ? " REPEATABLE (" + seed + ")" : "");
+            }
+        }
+        String select = selectList(dbType, keyColumns, keyKinds, valueColumns, valueKinds, true);
+        String sql = oracle
+            ? "SELECT * FROM (SELECT " + select + " FROM " + from + " ORDER BY DBMS_RANDOM.VALUE) WHERE ROWNUM <= "
+                + sampleSize
+            : "SELECT " + select + " FROM " + from + " ORDER BY random() LIMIT " + sampleSize;
+        return queryRows(config, sql, keyColumns.size(), valueColumns.size());
+    }
+    
+    /**
+     * Key-range sampling: draw uniform random values between MIN and MAX of a single numeric key
+     * and keep those that exist. Avoids the block clustering of block sampling at the cost of
+     * extra lookups when the key space is sparse.
+     */
+    private Map<String, String[]> sampleByKeyRange(ConnectionConfig config, TableMapping mapping,
+                                                   List<ColumnMapping> keyColumns,
+                                                   List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                                   List<ColumnMapping> valueColumns,
+                                                   List<ValidationSqlBuilder.ValueKind> valueKinds,
+                                                   int sampleSize, int batchSize, Integer seed) throws SQLException {
+        if (keyColumns.size() != 1 || keyKinds.get(0) != ValidationSqlBuilder.ValueKind.NUMBER) {
+            throw new RuntimeException("Key-range sampling requires a single numeric key column");
+        }
+        String dbType = config.getType();
+        long[] bounds = queryKeyBounds(config, sqlBuilder.keyBoundsSql(dbType, mapping.getSourceSchema(),
+            mapping.getSourceTable(), keyColumns.get(0).getSourceColumn()));
+        Map<String, String[]> rows = new LinkedHashMap<>();
+        if (bounds == null) {
+            return rows;
+        }
+        
+        Random random = seed != null ? new Random(seed) : new Random();
+        Set<Long> tried = new HashSet<>();
+        long span = bounds[1] - bounds[0] + 1;
+        if (span <= 0) {
+            // Key space wider than a long, sample from the lower part
+            span = Long.MAX_VALUE;
+        }
+        for (int round = 0; round < MAX_KEYRANGE_ROUNDS && rows.size() < sampleSize && tried.size() < span; round++) {
+            List<String[]> candidates = new ArrayList<>();
+            int wanted = sampleSize - rows.size();
+            // Ask for more keys than needed, the key space may have gaps
+            for (int i = 0; i < wanted * 2 && tried.size() < span; i++) {
+                long key = bounds[0] + Math.floorMod(random.nextLong(), span);
+                if (tried.add(key)) {
+                    candidates.add(new String[]{Long.toString(key)});
+                }
+            }
+            for (int i = 0; i < candidates.size() && rows.size() < sampleSize; i += batchSize) {
+                List<String[]> batch = candidates.subList(i, Math.min(i + batchSize, candidates.size()));
+                Map<String, String[]> found = fetchRows(config, mapping.getSourceSchema(), mapping.getSourceTable(),
+                    keyColumns, keyKinds, valueColumns, valueKinds, true,
+                    keyLookupPredicate(dbType, keyColumns, keyKinds, batch, true));
+                for (Map.Entry<String, String[]> entry : found.entrySet()) {
+                    if (rows.size() >= sampleSize) {
+                        break;
+                    }
+                    rows.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return rows;
+    }
+    
+    private Map<String, String[]> fetchRows(ConnectionConfig config, String schema, String table,
+                                            List<ColumnMapping> keyColumns,
+                                            List<ValidationSqlBuilder.ValueKind> keyKinds,
+                                            List<ColumnMapping> valueColumns,
+                                            List<ValidationSqlBuilder.ValueKind> valueKinds,
+                                            boolean sourceSide, String predicate) throws SQLException {
+        String dbType = config.getType();
+        String sql = "SELECT " + selectList(dbType, keyColumns, keyKinds, valueColumns, valueKinds, sourceSide)
+            + " FROM " + sqlBuilder.qualifiedName(dbType, schema, table) + " WHERE " + predicate;
+        return queryRows(config, sql, keyColumns.size(), valueColumns.size());
+    }
+    
+    private String selectList(String dbType, List<ColumnMapping> keyColumns,
+                              List<ValidationSqlBuilder.ValueKind> keyKinds, List<ColumnMapping> valueColumns,
+                              List<ValidationSqlBuilder.ValueKind> valueKinds, boolean sourceSide) {
+        List<String> select = new ArrayList<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            String name = sourceSide ? keyColumns.get(i).getSourceColumn() : keyColumns.get(i).getTargetColumn();
+            select.add(sqlBuilder.normalizedColumnExpression(dbType, name, keyKinds.get(i)));
+        }
+        for (int i = 0; i < valueColumns.size(); i++) {
+            String name = sourceSide ? valueColumns.get(i).getSourceColumn() : valueColumns.get(i).getTargetColumn();
+            select.add(sqlBuilder.normalizedColumnExpression(dbType, name, valueKinds.get(i)));
+        }
+        return String.join(", ", select);
+    }
+    
+    /**
+     * Key lookup for a batch: an IN list for single-column keys, OR-ed equality groups otherwise.
+     */
+    private String keyLookupPredicate(String dbType, List<ColumnMapping> keyColumns,
+                                      List<ValidationSqlBuilder.ValueKind> keyKinds, List<String[]> keys,
+                                      boolean sourceSide) {
+        if (keyColumns.size() == 1) {
+            ColumnMapping key = keyColumns.get(0);
+            String column = sqlBuilder.quoteIdentifier(dbType, sourceSide ? key.getSourceColumn() : key.getTargetColumn());
+            return column + " IN (" + keys.stream()
+                .map(k -> sqlBuilder.keyLiteral(dbType, k[0], keyKinds.get(0)))
+                .collect(Collectors.joining(", ")) + ")";
+        }
+        List<String> groups = new ArrayList<>();
+        for (String[] key : keys) {
+            List<String> clauses = new ArrayList<>();
+            for (int i = 0; i < keyColumns.size(); i++) {
+                String name = sourceSide ? keyColumns.get(i).getSourceColumn() : keyColumns.get(i).getTargetColumn();
+                clauses.add(sqlBuilder.quoteIdentifier(dbType, name) + " = "
+                    + sqlBuilder.keyLiteral(dbType, key[i], keyKinds.get(i)));
+            }
+            groups.add("(" + String.join(" AND ", clauses) + ")");
+        }
+        return String.join(" OR ", groups);
+    }
+    
+    /**
+     * Run a normalized-row query and index rows by their joined key values.
+     */
+    private Map<String, String[]> queryRows(ConnectionConfig config, String sql, int keyCount, int valueCount)
+            throws SQLException {
+        Map<String, String[]> rows = new LinkedHashMap<>();
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                String[] row = new String[keyCount + valueCount];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getString(i + 1);
+                }
+                rows.put(rowKey(row, keyCount), row);
+            }
+        }
+        return rows;
+    }
+    
+    private String rowKey(String[] row, int keyCount) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0) {
+                key.append('\u0001');
+            }
+            // Normalize numeric keys so 1 and 1.0 collide
+            String value = row[i];
+            try {
+                value = new BigDecimal(value).stripTrailingZeros().toPlainString();
+            } catch (NumberFormatException | NullPointerException ignored) {
+                // not numeric
+            }
+            key.append(value);
+        }
+        return key.toString();
+    }
+    
+    private long[] queryKeyBounds(ConnectionConfig config, String sql) throws SQLException {
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next() && rs.getBigDecimal(1) != null && rs.getBigDecimal(2) != null) {
+                return new long[]{
+                    rs.getBigDecimal(1).setScale(0, RoundingMode.FLOOR).longValueExact(),
+                    rs.getBigDecimal(2).setScale(0, RoundingMode.CEILING).longValueExact()
+                };
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Optimizer statistics first, exact count only when the table has never been analyzed.
+     */
+    private long estimateRowCount(ConnectionConfig config, String schema, String table) throws SQLException {
+        try (Connection conn = connectionManager.getConnection(config);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sqlBuilder.estimatedRowCountSql(config.getType(), schema, table))) {
+            if (rs.next()) {
+                long rows = rs.getLong(1);
+                if (!rs.wasNull() && rows > 0) {
+                    return rows;
+                }
+            }
+        }
+        Long exact = dataValidationService.getRowCount(config, schema, table);
+        return exact != null ? exact : 0L;
+    }
+    
+    private Map<String, String> keyMap(List<ColumnMapping> keyColumns, String[] row) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            map.put(keyColumns.get(i).getSourceColumn(), row[i]);
+        }
+        return map;
+    }
+    
+    private void addMismatch(SampledValidationResult result, RowDiffEntry entry) {
+        if (result.getSample().size() < MAX_REPORTED_MISMATCHES) {
+            result.getSample().add(entry);
+        }
+    }
+    
+    /**
+     * Wilson score interval upper bound for a binomial proportion; stays meaningful when no
+     * mismatches were observed, unlike the normal approximation.
+     */
+    static double wilsonUpperBound(int failures, int trials, double confidence) {
+        double z = normalQuantile(1 - (1 - confidence) / 2);
+        double p = (double) failures / trials;
+        double z2 = z * z;
+        double centre = p + z2 / (2.0 * trials);
+        double margin = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials));
+        return Math.min(1.0, (centre + margin) / (1 + z2 / trials));
+    }
+    
+    /**
+     * Standard normal quantile (Abramowitz and Stegun 26.2.23, absolute error below 4.5e-4).
+     */
+    static double normalQuantile(double probability) {
+        double p = probability < 0.5 ? probability : 1 - probability;
+        double t = Math.sqrt(-2.0 * Math.log(p));
+        double z = t - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+            / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+        return probability < 0.5 ? -z : z;
+    }
+    
+    private int positiveOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+}
@@ -0,0 +1,397 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.AppSettings;
+import com.ora2pg.migration.model.MigrationProgress;
+import com.ora2pg.migration.model.Project;
+import com.ora2pg.migration.model.schema.SchemaApplyJob;
+import com.ora2pg.migration.model.schema.SchemaApplyRequest;
+import com.ora2pg.migration.model.schema.SchemaApplyStep;
+import com.ora2pg.migration.model.schema.SchemaMigrationRequest;
+import com.ora2pg.migration.model.schema.SchemaObject;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Applies generated schema DDL to the target as a dependency chain of stages: sequences, tables,
+ * data load, indexes, constraints (keys and checks before foreign keys), views. Index and
+ * constraint builds run in parallel across tables, one session per table; every statement is
+ * recorded as a step with its status and duration.
+ */
+@Slf4j
+@Service
+public class SchemaApplyService {
+    
+    private static final Pattern MEMORY_SETTING = Pattern.compile("\\d+\\s*(kB|MB|GB|TB)?");
+    private static final long DATA_POLL_INTERVAL_MS = 2000;
+    /** Apply jobs running at once; later ones wait for a worker. */
+    private static final int MAX_RUNNING_JOBS = 2;
+    /** Finished jobs are dropped this long after they end. */
+    private static final long JOB_TTL_MINUTES = 24 * 60;
+    
+    @Autowired
+    private ProjectService projectService;
+    
+    @Autowired
+    private SchemaMigrationService schemaMigrationService;
+    
+    @Autowired
+    private MigrationService migrationService;
+    
+    @Autowired
+    private SettingsService settingsService;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    private final ConcurrentHashMap<String, SchemaApplyJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger workerCount = new AtomicInteger();
+    // Each job runs its own index and constraint sessions on the target, so only a few run at once
+    private final ExecutorService applyExecutor = Executors.newFixedThreadPool(MAX_RUNNING_JOBS, task -> {
+        Thread worker = new Thread(task, "SchemaApply-" + workerCount.incrementAndGet());
+        worker.setDaemon(true);
+        return worker;
+    });
+    
+    /**
+     * Thrown when a stage fails in a way later stages depend on.
+     */
+    private static class StageFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        
+        private StageFailedException(String message) {
+            super(message);
+        }
+    }
+    
+    @FunctionalInterface
+    private interface StageAction {
+        void run() throws Exception;
+    }
+    
+    /**
+     * Start applying DDL in the background and return its initial state.
+     */
+    public SchemaApplyJob startApply(SchemaApplyRequest request) {
+        Project project = projectService.getProjectById(request.getProjectId());
+        if (project.getSourceConnection() == null || project.getTargetConnection() == null) {
+            throw new RuntimeException("Source or target connection not configured");
+        }
+        AppSettings settings = settingsService.getSettings();
+        
+        int workers = request.getIndexWorkers() != null ? request.getIndexWorkers()
+            : settings.getIndexBuildWorkers() != null ? settings.getIndexBuildWorkers() : 4;
+        String workMem = request.getMaintenanceWorkMem() != null ? request.getMaintenanceWorkMem()
+            : settings.getMaintenanceWorkMem();
+        if (workMem != null && !workMem.isBlank() && !MEMORY_SETTING.matcher(workMem.trim()).matches()) {
+            throw new RuntimeException("Invalid maintenance_work_mem value: " + workMem);
+        }
+        
+        evictExpiredJobs();
+        
+        SchemaApplyJob job = new SchemaApplyJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setProjectId(project.getId());
+        job.setStatus("running");
+        job.setStartTime(LocalDateTime.now());
+        jobs.put(job.getJobId(), job);
+        
+        applyExecutor.submit(() -> runApply(job, project, request, settings, Math.max(1, workers),
+            workMem != null && !workMem.isBlank() ? workMem.trim() : null));
+        return getJob(job.getJobId());
+    }
+    
+    /**
+     * Snapshot of a job. The worker keeps updating the job and its steps, so callers get copies
+     * they can serialize without racing it.
+     */
+    public SchemaApplyJob getJob(String jobId) {
+        evictExpiredJobs();
+        SchemaApplyJob job = jobs.get(jobId);
+        if (job == null) {
+            return null;
+        }
+        List<SchemaApplyStep> steps = new ArrayList<>();
+        for (SchemaApplyStep step : job.getSteps()) {
+            steps.add(new SchemaApplyStep(step.getStage(), step.getName(), step.getType(), step.getTableName(),
+                step.getStatus(), step.getStartTime(), step.getDurationMs(), step.getErrorMessage()));
+        }
+        return new SchemaApplyJob(job.getJobId(), job.getProjectId(), job.getStatus(), job.getCurrentStage(),
+            job.getStartTime(), job.getEndTime(), steps, job.getErrorMessage());
+    }
+    
+    /**
+     * Drop jobs that ended more than {@link #JOB_TTL_MINUTES} ago.
+     */
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(JOB_TTL_MINUTES);
+        jobs.values().removeIf(job -> job.getEndTime() != null && job.getEndTime().isBefore(cutoff));
+    }
+    
+    private void runApply(SchemaApplyJob job, Project project, SchemaApplyRequest request, AppSettings settings,
+                          int workers, String workMem) {
+        boolean stopOnError = Boolean.TRUE.equals(request.getStopOnError());
+        try {
+            job.setCurrentStage("generate");
+            Map<String, List<SchemaObject>> objects = generateObjects(request);
+            
+            // Plan every step up front so the whole DAG is visible while it runs
+            Map<SchemaApplyStep, String> ddl = new IdentityHashMap<>();
+            List<SchemaApplyStep> sequenceSteps = plan(job, "sequences", objects.get("sequence"), ddl);
+            SchemaApplyStep tablesStep = Boolean.TRUE.equals(request.getCreateTables())
+                ? planStage(job, "tables") : null;
+            SchemaApplyStep dataStep = Boolean.TRUE.equals(request.getLoadData())
+                ? planStage(job, "data") : null;
+            List<SchemaObject> constraints = objects.getOrDefault("constraint", List.of());
+            List<SchemaApplyStep> indexSteps = plan(job, "indexes", objects.get("index"), ddl);
+            List<SchemaApplyStep> keySteps = plan(job, "constraints", constraints.stream()
+                .filter(c -> !"FOREIGN KEY".equals(c.getConstraintType()))
+                .collect(Collectors.toList()), ddl);
+            List<SchemaApplyStep> foreignKeySteps = plan(job, "constraints", constraints.stream()
+                .filter(c -> "FOREIGN KEY".equals(c.getConstraintType()))
+                .collect(Collectors.toList()), ddl);
+            List<SchemaApplyStep> viewSteps = plan(job, "views", objects.get("view"), ddl);
+            
+            job.setCurrentStage("sequences");
+            runSerial(project, sequenceSteps, ddl, stopOnError, false);
+            
+            if (tablesStep != null) {
+                job.setCurrentStage("tables");
+                runStage(tablesStep, () -> migrationService.createTargetTables(project));
+            }
+            if (dataStep != null) {
+                job.setCurrentStage("data");
+                runStage(dataStep, () -> loadData(project, settings));
+            }
+            
+            job.setCurrentStage("indexes");
+            runParallel(project, indexSteps, ddl, workers, workMem, stopOnError);
+            
+            job.setCurrentStage("constraints");
+            runParallel(project, keySteps, ddl, workers, workMem, stopOnError);
+            // Adding a foreign key locks both tables, so these run one at a time
+            runSerial(project, foreignKeySteps, ddl, stopOnError, false);
+            
+            job.setCurrentStage("views");
+            runSerial(project, viewSteps, ddl, stopOnError, true);
+            
+            long failed = job.getSteps().stream().filter(s -> "error".equals(s.getStatus())).count();
+            job.setStatus(failed == 0 ? "completed" : "error");
+            if (failed > 0) {
+                job.setErrorMessage(failed + " statement(s) failed");
+            }
+        } catch (Exception e) {
+            log.error("Schema apply job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            job.getSteps().stream()
+                .filter(s -> "pending".equals(s.getStatus()))
+                .forEach(s -> s.setStatus("skipped"));
+            job.setStatus("error");
+            job.setErrorMessage(e.getMessage());
+        } finally {
+            job.setCurrentStage(null);
+            job.setEndTime(LocalDateTime.now());
+        }
+    }
+    
+    private Map<String, List<SchemaObject>> generateObjects(SchemaApplyRequest request) {
+        SchemaMigrationRequest generateRequest = new SchemaMigrationRequest();
+        generateRequest.setProjectId(request.getProjectId());
+        generateRequest.setTargetSchema(request.getTargetSchema());
+        generateRequest.setTableNames(request.getTableNames());
+        generateRequest.setIncludeSequences(Boolean.TRUE.equals(request.getIncludeSequences()));
+        generateRequest.setIncludeIndexes(Boolean.TRUE.equals(request.getIncludeIndexes()));
+        generateRequest.setIncludeConstraints(Boolean.TRUE.equals(request.getIncludeConstraints()));
+        generateRequest.setIncludeViews(Boolean.TRUE.equals(request.getIncludeViews()));
+        
+        boolean anyObjects = generateRequest.getIncludeSequences() || generateRequest.getIncludeIndexes()
+            || generateRequest.getIncludeConstraints() || generateRequest.getIncludeViews();
+        if (!anyObjects) {
+            return Map.of();
+        }
+        return schemaMigrationService.generateSchemaDDL(generateRequest).stream()
+            .filter(o -> o.getDdl() != null && !o.getDdl().isBlank())
+            .collect(Collectors.groupingBy(SchemaObject::getType, LinkedHashMap::new, Collectors.toList()));
+    }
+    
+    private List<SchemaApplyStep> plan(SchemaApplyJob job, String stage, List<SchemaObject> objects,
+                                       Map<SchemaApplyStep, String> ddl) {
+        List<SchemaApplyStep> steps = new ArrayList<>();
+        if (objects == null) {
+            return steps;
+        }
+        for (SchemaObject object : objects) {
+            SchemaApplyStep step = new SchemaApplyStep();
+            step.setStage(stage);
+            step.setName(object.getName());
+            step.setType(object.getType());
+            step.setTableName(object.getTableName());
+            step.setStatus("pending");
+            steps.add(step);
+            ddl.put(step, object.getDdl());
+        }
+        job.getSteps().addAll(steps);
+        return steps;
+    }
+    
+    private SchemaApplyStep planStage(SchemaApplyJob job, String stage) {
+        SchemaApplyStep step = new SchemaApplyStep();
+        step.setStage(stage);
+        step.setName(stage);
+        step.setStatus("pending");
+        job.getSteps().add(step);
+        return step;
+    }
+    
+    /**
+     * Run a stage later stages depend on; its failure stops the job.
+     */
+    private void runStage(SchemaApplyStep step, StageAction action) {
+        step.setStatus("running");
+        step.setStartTime(LocalDateTime.now());
+        long started = System.currentTimeMillis();
+        try {
+            action.run();
+            step.setStatus("completed");
+        } catch (Exception e) {
+            step.setStatus("error");
+            step.setErrorMessage(e.getMessage());
+            throw new StageFailedException("Stage " + step.getStage() + " failed: " + e.getMessage());
+        } finally {
+            step.setDurationMs(System.currentTimeMillis() - started);
+        }
+    }
+    
+    private void loadData(Project project, AppSettings settings) throws InterruptedException {
+        migrationService.startMigration(project, settings);
+        MigrationProgress progress = migrationService.getProgress(project.getId());
+        while ("running".equals(progress.getStatus()) || "paused".equals(progress.getStatus())) {
+            Thread.sleep(DATA_POLL_INTERVAL_MS);
+            progress = migrationService.getProgress(project.getId());
+        }
+        if (!"completed".equals(progress.getStatus())) {
+            throw new RuntimeException("Data migration ended with status " + progress.getStatus());
+        }
+    }
+    
+    /**
+     * Run steps one after another on a single session. With {@code retryFailed}, failed steps are
+     * retried once at the end, which resolves views defined on top of views created later.
+     */
+    private void runSerial(Project project, List<SchemaApplyStep> steps, Map<SchemaApplyStep, String> ddl,
+                           boolean stopOnError, boolean retryFailed) throws SQLException {
+        if (steps.isEmpty()) {
+            return;
+        }
+        try (Connection conn = connectionManager.getConnection(project.getTargetConnection())) {
+            List<SchemaApplyStep> failed = new ArrayList<>();
+            for (SchemaApplyStep step : steps) {
+                if (!execute(conn, step, ddl.get(step))) {
+                    failed.add(step);
+                    if (stopOnError && !retryFailed) {
+                        throw new StageFailedException("Failed to apply " + step.getName() + ": " + step.getErrorMessage());
+                    }
+                }
+            }
+            if (retryFailed) {
+                for (SchemaApplyStep step : failed) {
+                    if (!execute(conn, step, ddl.get(step)) && stopOnError) {
+                        throw new StageFailedException("Failed to apply " + step.getName() + ": " + step.getErrorMessage());
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Run steps in parallel across tables: each worker takes one table at a time and builds its
+     * objects on its own session with the configured maintenance_work_mem.
+     */
+    private void runParallel(Project project, List<SchemaApplyStep> steps, Map<SchemaApplyStep, String> ddl,
+                             int workers, String workMem, boolean stopOnError) throws Exception {
+        if (steps.isEmpty()) {
+            return;
+        }
+        Map<String, List<SchemaApplyStep>> byTable = steps.stream()
+            .collect(Collectors.groupingBy(s -> s.getTableName() != null ? s.getTableName() : "",
+                LinkedHashMap::new, Collectors.toList()));
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, byTable.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<SchemaApplyStep> tableSteps : byTable.values()) {
+                futures.add(executor.submit(() -> {
+                    if (aborted.get()) {
+                        tableSteps.forEach(s -> s.setStatus("skipped"));
+                        return null;
+                    }
+                    try (Connection conn = connectionManager.getConnection(project.getTargetConnection())) {
+                        if (workMem != null) {
+                            try (Statement stmt = conn.createStatement()) {
+                                stmt.execute("SET maintenance_work_mem = '" + workMem + "'");
+                            }
+                        }
+                        for (SchemaApplyStep step : tableSteps) {
+                            if (aborted.get()) {
+                                step.setStatus("skipped");
+                            } else if (!execute(conn, step, ddl.get(step)) && stopOnError) {
+                                aborted.set(true);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            executor.shutdownNow();
+        }
+        if (aborted.get()) {
+            throw new StageFailedException("Stopped after a failed statement in stage " + steps.get(0).getStage());
+        }
+    }
+    
+    private boolean execute(Connection conn, SchemaApplyStep step, String sql) {
+        step.setStatus("running");
+        step.setStartTime(LocalDateTime.now());
+        step.setErrorMessage(null);
+        long started = System.currentTimeMillis();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+            step.setStatus("completed");
+            return true;
+        } catch (SQLException e) {
+            step.setStatus("error");
+            step.setErrorMessage(e.getMessage());
+            log.warn("Failed to apply {} {}: {}", step.getType(), step.getName(), e.getMessage());
+            return false;
+        } finally {
+            step.setDurationMs(System.currentTimeMillis() - started);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.ora2pg.migration.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ora2pg.migration.entity.SchemaMetadataCacheEntity;
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.repository.SchemaMetadataCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of data dictionary metadata keyed by connection and schema. Entries are kept in memory
+ * and in the metadata database, and are reused for as long as the DDL watermark of the schema
+ * (latest {@code all_objects.last_ddl_time} plus object count on Oracle, catalog row versions on
+ * PostgreSQL) is unchanged.
+ */
+@Slf4j
+@Service
+public class SchemaMetadataCacheService {
+    
+    /** How long a watermark read from the database is trusted before it is read again. */
+    private static final long WATERMARK_RECHECK_MS = 30_000;
+    
+    @Autowired
+    private SchemaMetadataCacheRepository cacheRepository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private final Map<String, CachedSection> sections = new ConcurrentHashMap<>();
+    private final Map<String, Watermark> watermarks = new ConcurrentHashMap<>();
+    
+    @FunctionalInterface
+    public interface MetadataLoader<T> {
+        T load() throws SQLException;
+    }
+    
+    private record CachedSection(String watermark, String payload) {}
+    
+    private record Watermark(String value, long checkedAt) {}
+    
+    /**
+     * Return the cached value of a metadata section, loading (and caching) it when the schema
+     * has seen DDL since it was stored. Every call returns a fresh copy, so callers may modify it.
+     *
+     * @param conn open connection to the database the metadata belongs to
+     */
+    public <T> T get(Connection conn, ConnectionConfig config, String schema, String section,
+                     TypeReference<T> type, MetadataLoader<T> loader) throws SQLException {
+        String cacheKey = cacheKey(config, schema);
+        String watermark;
+        try {
+            watermark = currentWatermark(conn, config.getType(), schema, cacheKey);
+        } catch (SQLException e) {
+            log.warn("Cannot read DDL watermark of schema {}, bypassing metadata cache: {}", schema, e.getMessage());
+            return loader.load();
+        }
+        
+        String sectionKey = cacheKey + "#" + section;
+        CachedSection cached = sections.get(sectionKey);
+        if (cached == null) {
+            cached = cacheRepository.findByCacheKeyAndSection(cacheKey, section)
+                .map(e -> new CachedSection(e.getDdlWatermark(), e.getPayload()))
+                .orElse(null);
+            if (cached != null) {
+                sections.put(sectionKey, cached);
+            }
+        }
+        if (cached != null && cached.watermark().equals(watermark)) {
+            try {
+                return objectMapper.readValue(cached.payload(), type);
+            } catch (Exception e) {
+                log.warn("Discarding unreadable metadata cache entry {}: {}", sectionKey, e.getMessage());
+            }
+        }
+        
+        T value = loader.load();
+        store(cacheKey, section, watermark, value);
+        return value;
+    }
+    
+    /**
+     * Drop all cached metadata of a schema, in memory and in the metadata database.
+     *
+     * @return number of persisted entries removed
+     */
+    @Transactional
+    public long invalidate(ConnectionConfig config, String schema) {
+        String cacheKey = cacheKey(config, schema);
+        sections.keySet().removeIf(key -> key.startsWith(cacheKey + "#"));
+        watermarks.remove(cacheKey);
+        long removed = cacheRepository.deleteByCacheKey(cacheKey);
+        log.info("Invalidated {} metadata cache entries for schema {}", removed, schema);
+        return removed;
+    }
+    
+    private void store(String cacheKey, String section, String watermark, Object value) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("Cannot serialize metadata section {}: {}", section, e.getMessage());
+            return;
+        }
+        sections.put(cacheKey + "#" + section, new CachedSection(watermark, payload));
+        
+        try {
+            SchemaMetadataCacheEntity entity = cacheRepository.findByCacheKeyAndSection(cacheKey, section)
+                .orElseGet(SchemaMetadataCacheEntity::new);
+            entity.setCacheKey(cacheKey);
+            entity.setSection(section);
+            entity.setDdlWatermark(watermark);
+            entity.setPayload(payload);
+            entity.setUpdatedAt(LocalDateTime.now());
+            cacheRepository.save(entity);
+        } catch (RuntimeException e) {
+            // Another thread stored the same section concurrently; the in-memory entry is enough
+            log.debug("Failed to persist metadata section {}: {}", section, e.getMessage());
+        }
+    }
+    
+    private String currentWatermark(Connection conn, String dbType, String schema, String cacheKey) throws SQLException {
+        Watermark known = watermarks.get(cacheKey);
+        long now = System.currentTimeMillis();
+        if (known != null && now - known.checkedAt() < WATERMARK_RECHECK_MS) {
+            return known.value();
+        }
+        
+        String sql;
+        int schemaParams;
+        if ("oracle".equalsIgnoreCase(dbType)) {
+            // Dropping an object does not move any last_ddl_time, so the object count is included
+            sql = """
+                SELECT TO_CHAR(MAX(last_ddl_time), 'YYYYMMDDHH24MISS') || '/' || COUNT(*)
+                FROM all_objects
+                WHERE owner = UPPER(?)
+                """;
+            schemaParams = 1;
+        } else {
+            // PostgreSQL has no DDL timestamp; any DDL rewrites the catalog rows of the object,
+            // giving them a new xmin (ANALYZE and VACUUM update pg_class in place and do not)
+            sql = """
+                SELECT md5(COALESCE(string_agg(o.id || ':' || o.version, ',' ORDER BY o.id), ''))
+                FROM (
+                    SELECT c.oid::text AS id, c.xmin::text AS version
+                    FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE n.nspname = ?
+                    UNION ALL
+                    SELECT a.attrelid::text || '.' || a.attnum, a.xmin::text
+                    FROM pg_attribute a
+                    JOIN pg_class c ON c.oid = a.attrelid
+                    JOIN pg_namespace n ON n.oid = c.relnamespace
+                    WHERE n.nspname = ? AND a.attnum > 0
+                    UNION ALL
+                    SELECT 'c' || con.oid::text, con.xmin::text
+                    FROM pg_constraint con JOIN pg_namespace n ON n.oid = con.connamespace
+                    WHERE n.nspname = ?
+                ) o
+                """;
+            schemaParams = 3;
+        }
+        
+        String value = "";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= schemaParams; i++) {
+                stmt.setString(i, schema);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next() && rs.getString(1) != null) {
+                    value = rs.getString(1);
+                }
+            }
+        }
+        watermarks.put(cacheKey, new Watermark(value, now));
+        return value;
+    }
+    
+    private String cacheKey(ConnectionConfig config, String schema) {
+        boolean oracle = "oracle".equalsIgnoreCase(config.getType());
+        String schemaKey = schema == null ? "" : (oracle ? schema.toUpperCase() : schema);
+        String username = config.getUsername() == null ? "" : config.getUsername().toLowerCase();
+        return String.format("%s://%s:%s/%s@%s|%s", config.getType().toLowerCase(), config.getHost(),
+            config.getPort(), config.getDatabase(), username, schemaKey);
+    }
+}
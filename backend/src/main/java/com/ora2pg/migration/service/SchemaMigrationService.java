@@ -1,5 +1,6 @@
 package com.ora2pg.migration.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.ora2pg.migration.model.*;
 import com.ora2pg.migration.model.schema.*;
 import com.ora2pg.migration.util.DatabaseConnectionManager;
@@ -10,21 +11,91 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class SchemaMigrationService {
     
+    private static final int DISCOVERY_PARALLELISM = 4;
+    
+    private static final String IDENTIFIER = "(\"[^\"]+\"|\\w+)";
+    private static final String OWNER_PREFIX = "(?:(?:\"[^\"]+\"|\\w+)\\.)?";
+    
+    /** {@code :NEW.col := [owner.]seq.NEXTVAL} */
+    private static final Pattern NEXTVAL_ASSIGNMENT = Pattern.compile(
+        ":NEW\\." + IDENTIFIER + "\\s*:=\\s*" + OWNER_PREFIX + IDENTIFIER + "\\.NEXTVAL",
+        Pattern.CASE_INSENSITIVE);
+    
+    /** {@code SELECT [owner.]seq.NEXTVAL INTO :NEW.col} */
+    private static final Pattern NEXTVAL_SELECT_INTO = Pattern.compile(
+        "SELECT\\s+" + OWNER_PREFIX + IDENTIFIER + "\\.NEXTVAL\\s+INTO\\s+:NEW\\." + IDENTIFIER,
+        Pattern.CASE_INSENSITIVE);
+    
     @Autowired
     private DatabaseConnectionManager connectionManager;
     
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private SchemaMetadataCacheService metadataCache;
+    
+    /**
+     * Target table and column names from the project's table mappings, so generated DDL refers
+     * to the tables the migration actually creates. Unmapped names are kept as they are.
+     */
+    private static class TargetNames {
+        private final Map<String, String> tables = new HashMap<>();
+        private final Map<String, Map<String, String>> columns = new HashMap<>();
+        
+        private TargetNames(List<TableMapping> tableMappings) {
+            if (tableMappings == null) {
+                return;
+            }
+            for (TableMapping mapping : tableMappings) {
+                if (mapping.getSourceTable() == null || mapping.getTargetTable() == null) {
+                    continue;
+                }
+                String sourceTable = mapping.getSourceTable().toUpperCase();
+                tables.put(sourceTable, mapping.getTargetTable());
+                Map<String, String> tableColumns = new HashMap<>();
+                if (mapping.getColumnMappings() != null) {
+                    for (ColumnMapping column : mapping.getColumnMappings()) {
+                        if (column.getSourceColumn() != null && column.getTargetColumn() != null) {
+                            tableColumns.put(column.getSourceColumn().toUpperCase(), column.getTargetColumn());
+                        }
+                    }
+                }
+                columns.put(sourceTable, tableColumns);
+            }
+        }
+        
+        private String table(String sourceTable) {
+            return sourceTable == null ? null : tables.getOrDefault(sourceTable.toUpperCase(), sourceTable);
+        }
+        
+        private String column(String sourceTable, String sourceColumn) {
+            if (sourceTable == null || sourceColumn == null) {
+                return sourceColumn;
+            }
+            return columns.getOrDefault(sourceTable.toUpperCase(), Map.of())
+                .getOrDefault(sourceColumn.toUpperCase(), sourceColumn);
+        }
+    }
+    
     /**
      * Discover and generate DDL for all schema objects
      */
@@ -37,7 +108,8 @@ public class SchemaMigrationService {
                 throw new RuntimeException("Source connection not configured");
             }
             
-            String sourceSchema = project.getSourceConnection().getSchema();
+            ConnectionConfig sourceConfig = project.getSourceConnection();
+            String sourceSchema = sourceConfig.getSchema();
             String targetSchema = request.getTargetSchema() != null ? request.getTargetSchema() : "public";
             
             // Get table mappings to know which tables to process
@@ -51,78 +123,40 @@ public class SchemaMigrationService {
                     .collect(Collectors.toList());
             }
             
-            try (Connection conn = connectionManager.getConnection(project.getSourceConnection())) {
-                // Discover indexes
+            // Each object type is discovered on its own connection, concurrently
+            List<String> selectedTables = tableNames;
+            TargetNames names = new TargetNames(tableMappings);
+            ExecutorService executor = Executors.newFixedThreadPool(DISCOVERY_PARALLELISM);
+            try {
+                List<Future<List<SchemaObject>>> discoveries = new ArrayList<>();
                 if (request.getIncludeIndexes() != null && request.getIncludeIndexes()) {
-                    List<IndexInfo> indexes = discoverIndexes(conn, sourceSchema, tableNames);
-                    for (IndexInfo index : indexes) {
-                        SchemaObject obj = new SchemaObject();
-                        obj.setName(index.getIndexName());
-                        obj.setSchema(sourceSchema);
-                        obj.setType("index");
-                        obj.setStatus("generated");
-                        obj.setTargetSchema(targetSchema);
-                        obj.setDdl(generateIndexDDL(index, targetSchema));
-                        obj.setIssues(checkIndexIssues(index));
-                        schemaObjects.add(obj);
-                    }
-                    log.info("Discovered indexes for project {} with total {}", project.getName(), indexes.size());
+                    discoveries.add(executor.submit(() ->
+                        indexObjects(sourceConfig, sourceSchema, targetSchema, selectedTables, names, project.getName())));
                 }
-
-                // Discover constraints
                 if (request.getIncludeConstraints() != null && request.getIncludeConstraints()) {
-                    List<ConstraintInfo> constraints = discoverConstraints(conn, sourceSchema, tableNames);
-                    for (ConstraintInfo constraint : constraints) {
-                        SchemaObject obj = new SchemaObject();
-                        obj.setName(constraint.getConstraintName());
-                        obj.setSchema(sourceSchema);
-                        obj.setType("constraint");
-                        obj.setStatus("generated");
-                        obj.setTargetSchema(targetSchema);
-                        obj.setDdl(generateConstraintDDL(constraint, targetSchema));
-                        obj.setIssues(checkConstraintIssues(constraint));
-                        schemaObjects.add(obj);
-                    }
-                    log.info("Discovered constraints for project {} with total {}", project.getName(), constraints.size());
+                    discoveries.add(executor.submit(() ->
+                        constraintObjects(sourceConfig, sourceSchema, targetSchema, selectedTables, names,
+                            project.getName())));
                 }
-                
-                // Discover sequences
                 if (request.getIncludeSequences() != null && request.getIncludeSequences()) {
-                    List<SequenceInfo> sequences = discoverSequences(conn, sourceSchema);
-                    for (SequenceInfo sequence : sequences) {
-                        SchemaObject obj = new SchemaObject();
-                        obj.setName(sequence.getSequenceName());
-                        obj.setSchema(sourceSchema);
-                        obj.setType("sequence");
-                        obj.setStatus("generated");
-                        obj.setTargetSchema(targetSchema);
-                        obj.setDdl(generateSequenceDDL(sequence, targetSchema));
-                        obj.setIssues(new ArrayList<>());
-                        schemaObjects.add(obj);
-                    }
-                    log.info("Discovered sequences for project {} with total {}", project.getName(), sequences.size());
+                    discoveries.add(executor.submit(() ->
+                        sequenceObjects(sourceConfig, sourceSchema, targetSchema, project.getName())));
                 }
-                
-                // Discover views
                 if (request.getIncludeViews() != null && request.getIncludeViews()) {
-                    List<ViewInfo> views = discoverViews(conn, sourceSchema);
-                    for (ViewInfo view : views) {
-                        SchemaObject obj = new SchemaObject();
-                        obj.setName(view.getViewName());
-                        obj.setSchema(sourceSchema);
-                        obj.setType("view");
-                        obj.setStatus("generated");
-                        obj.setTargetSchema(targetSchema);
-                        String convertedSql = convertViewSQL(view.getViewDefinition());
-                        obj.setDdl(generateViewDDL(view, convertedSql, targetSchema));
-                        obj.setIssues(checkViewIssues(view.getViewDefinition()));
-                        obj.setSourceDdl(view.getViewDefinition());
-                        schemaObjects.add(obj);
-                    }
-                    log.info("Discovered views for project {} with total {}", project.getName(), views.size());
+                    discoveries.add(executor.submit(() ->
+                        viewObjects(sourceConfig, sourceSchema, targetSchema, project.getName())));
                 }
+                
+                // Collected in submission order, so the output order is unchanged
+                for (Future<List<SchemaObject>> discovery : discoveries) {
+                    schemaObjects.addAll(discovery.get());
+                }
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            } finally {
+                executor.shutdownNow();
             }
-            
+        
         } catch (Exception e) {
             log.error("Error generating schema DDL: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to generate schema DDL: " + e.getMessage(), e);
@@ -133,6 +167,129 @@ public class SchemaMigrationService {
     
     // Discovery methods
     
+    private List<SchemaObject> indexObjects(ConnectionConfig sourceConfig, String sourceSchema, String targetSchema,
+                                            List<String> tableNames, TargetNames names,
+                                            String projectName) throws SQLException {
+        List<SchemaObject> schemaObjects = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(sourceConfig)) {
+            List<IndexInfo> indexes = filterByTable(metadataCache.get(conn, sourceConfig, sourceSchema, "indexes",
+                new TypeReference<List<IndexInfo>>() {},
+                () -> discoverIndexes(conn, sourceSchema, null)), tableNames, IndexInfo::getTableName);
+            for (IndexInfo index : indexes) {
+                SchemaObject obj = new SchemaObject();
+                obj.setName(index.getIndexName());
+                obj.setSchema(sourceSchema);
+                obj.setType("index");
+                obj.setStatus("generated");
+                obj.setTargetSchema(targetSchema);
+                obj.setTableName(names.table(index.getTableName()));
+                obj.setDdl(generateIndexDDL(index, targetSchema, names));
+                obj.setIssues(checkIndexIssues(index));
+                schemaObjects.add(obj);
+            }
+            log.info("Discovered indexes for project {} with total {}", projectName, indexes.size());
+        }
+        return schemaObjects;
+    }
+    
+    private List<SchemaObject> constraintObjects(ConnectionConfig sourceConfig, String sourceSchema, String targetSchema,
+                                                 List<String> tableNames, TargetNames names,
+                                                 String projectName) throws SQLException {
+        List<SchemaObject> schemaObjects = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(sourceConfig)) {
+            List<ConstraintInfo> constraints = filterByTable(metadataCache.get(conn, sourceConfig, sourceSchema,
+                "constraints", new TypeReference<List<ConstraintInfo>>() {},
+                () -> discoverConstraints(conn, sourceSchema, null)), tableNames, ConstraintInfo::getTableName);
+            for (ConstraintInfo constraint : constraints) {
+                SchemaObject obj = new SchemaObject();
+                obj.setName(constraint.getConstraintName());
+                obj.setSchema(sourceSchema);
+                obj.setType("constraint");
+                obj.setStatus("generated");
+                obj.setTargetSchema(targetSchema);
+                obj.setTableName(names.table(constraint.getTableName()));
+                obj.setConstraintType(constraint.getConstraintType());
+                obj.setDdl(generateConstraintDDL(constraint, targetSchema, names));
+                obj.setIssues(checkConstraintIssues(constraint));
+                schemaObjects.add(obj);
+            }
+            log.info("Discovered constraints for project {} with total {}", projectName, constraints.size());
+        }
+        return schemaObjects;
+    }
+    
+    private List<SchemaObject> sequenceObjects(ConnectionConfig sourceConfig, String sourceSchema, String targetSchema,
+                                               String projectName) throws SQLException {
+        List<SchemaObject> schemaObjects = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(sourceConfig)) {
+            List<SequenceInfo> sequences = metadataCache.get(conn, sourceConfig, sourceSchema, "sequences",
+                new TypeReference<List<SequenceInfo>>() {}, () -> discoverSequences(conn, sourceSchema));
+            for (SequenceInfo sequence : sequences) {
+                SchemaObject obj = new SchemaObject();
+                obj.setName(sequence.getSequenceName());
+                obj.setSchema(sourceSchema);
+                obj.setType("sequence");
+                obj.setStatus("generated");
+                obj.setTargetSchema(targetSchema);
+                obj.setDdl(generateSequenceDDL(sequence, targetSchema));
+                obj.setIssues(new ArrayList<>());
+                schemaObjects.add(obj);
+            }
+            log.info("Discovered sequences for project {} with total {}", projectName, sequences.size());
+        }
+        return schemaObjects;
+    }
+    
+    private List<SchemaObject> viewObjects(ConnectionConfig sourceConfig, String sourceSchema, String targetSchema,
+                                           String projectName) throws SQLException {
+        List<SchemaObject> schemaObjects = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(sourceConfig)) {
+            List<ViewInfo> views = discoverViews(conn, sourceSchema);
+            for (ViewInfo view : views) {
+                SchemaObject obj = new SchemaObject();
+                obj.setName(view.getViewName());
+                obj.setSchema(sourceSchema);
+                obj.setType("view");
+                obj.setStatus("generated");
+                obj.setTargetSchema(targetSchema);
+                String convertedSql = convertViewSQL(view.getViewDefinition());
+                obj.setDdl(generateViewDDL(view, convertedSql, targetSchema));
+                obj.setIssues(checkViewIssues(view.getViewDefinition()));
+                obj.setSourceDdl(view.getViewDefinition());
+                schemaObjects.add(obj);
+            }
+            log.info("Discovered views for project {} with total {}", projectName, views.size());
+        }
+        return schemaObjects;
+    }
+    
+    /**
+     * Find the source columns fed by a sequence: identity columns, and columns assigned
+     * {@code seq.NEXTVAL} by a before-insert trigger.
+     */
+    public List<SequenceColumn> discoverSequenceColumns(ConnectionConfig sourceConfig, String sourceSchema)
+            throws SQLException {
+        try (Connection conn = connectionManager.getConnection(sourceConfig)) {
+            return metadataCache.get(conn, sourceConfig, sourceSchema, "sequence-columns",
+                new TypeReference<List<SequenceColumn>>() {}, () -> loadSequenceColumns(conn, sourceSchema));
+        }
+    }
+    
+    /**
+     * Keep only the objects of the requested tables; the cache holds the whole schema.
+     */
+    private <T> List<T> filterByTable(List<T> objects, List<String> tableNames, Function<T, String> tableOf) {
+        if (tableNames == null || tableNames.isEmpty()) {
+            return objects;
+        }
+        Set<String> wanted = tableNames.stream()
+            .map(String::toUpperCase)
+            .collect(Collectors.toSet());
+        return objects.stream()
+            .filter(o -> tableOf.apply(o) != null && wanted.contains(tableOf.apply(o).toUpperCase()))
+            .collect(Collectors.toList());
+    }
+    
     private List<IndexInfo> discoverIndexes(Connection conn, String schema, List<String> tableNames) throws SQLException {
         List<IndexInfo> indexes = new ArrayList<>();
         
@@ -218,7 +375,9 @@ public class SchemaMigrationService {
                 c.search_condition,
                 cc.column_name,
                 cc.position,
+                c.r_owner,
                 r.table_name as r_table_name,
+                rc.column_name as r_column_name,
                 c.delete_rule,
                 c.deferrable,
                 c.deferred
@@ -227,6 +386,9 @@ public class SchemaMigrationService {
                 AND c.owner = cc.owner
             LEFT JOIN all_constraints r ON c.r_constraint_name = r.constraint_name
                 AND c.r_owner = r.owner
+            LEFT JOIN all_cons_columns rc ON rc.owner = c.r_owner
+                AND rc.constraint_name = c.r_constraint_name
+                AND rc.position = cc.position
             WHERE c.owner = UPPER(?)
                 AND c.constraint_type IN ('P', 'R', 'U', 'C')
         """);
@@ -277,7 +439,7 @@ public class SchemaMigrationService {
                         
                         if ("FOREIGN KEY".equals(constraint.getConstraintType())) {
                             constraint.setReferencedTable(rs.getString("r_table_name"));
-                            constraint.setReferencedSchema(schema); // Assume same schema for now
+                            constraint.setReferencedSchema(rs.getString("r_owner"));
                         }
                         
                         constraintMap.put(constraintName, constraint);
@@ -286,45 +448,17 @@ public class SchemaMigrationService {
                     String columnName = rs.getString("column_name");
                     if (columnName != null && !constraint.getColumns().contains(columnName)) {
                         constraint.getColumns().add(columnName);
+                        
+                        // Referenced key column at the same position (unique keys are referenced too, not only PKs)
+                        String referencedColumn = rs.getString("r_column_name");
+                        if (referencedColumn != null) {
+                            constraint.getReferencedColumns().add(referencedColumn);
+                        }
                     }
                 }
             }
             
             constraints.addAll(constraintMap.values());
-            
-            // For foreign keys, get referenced columns separately
-            for (ConstraintInfo constraint : constraints) {
-                if ("FOREIGN KEY".equals(constraint.getConstraintType()) && 
-                    constraint.getReferencedTable() != null) {
-                    // Get referenced columns from the referenced table's primary key
-                    String refSql = """
-                        SELECT column_name, position
-                        FROM all_cons_columns
-                        WHERE owner = UPPER(?)
-                            AND constraint_name = (
-                                SELECT constraint_name
-                                FROM all_constraints
-                                WHERE owner = UPPER(?)
-                                    AND table_name = UPPER(?)
-                                    AND constraint_type = 'P'
-                            )
-                        ORDER BY position
-                    """;
-                    try (PreparedStatement refStmt = conn.prepareStatement(refSql)) {
-                        refStmt.setString(1, schema);
-                        refStmt.setString(2, schema);
-                        refStmt.setString(3, constraint.getReferencedTable());
-                        try (ResultSet refRs = refStmt.executeQuery()) {
-                            while (refRs.next()) {
-                                constraint.getReferencedColumns().add(refRs.getString("column_name"));
-                            }
-                        }
-                    } catch (SQLException e) {
-                        log.warn("Failed to get referenced columns for FK {}: {}", 
-                            constraint.getConstraintName(), e.getMessage());
-                    }
-                }
-            }
         }
         
         return constraints;
@@ -410,6 +544,67 @@ public class SchemaMigrationService {
         return sequences;
     }
     
+    private List<SequenceColumn> loadSequenceColumns(Connection conn, String schema) throws SQLException {
+        List<SequenceColumn> links = new ArrayList<>();
+        
+        String identitySql = """
+            SELECT table_name, column_name, sequence_name
+            FROM all_tab_identity_cols
+            WHERE owner = UPPER(?)
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(identitySql)) {
+            stmt.setString(1, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    links.add(new SequenceColumn(rs.getString("sequence_name"), rs.getString("table_name"),
+                        rs.getString("column_name"), "identity"));
+                }
+            }
+        } catch (SQLException e) {
+            // Identity columns only exist from Oracle 12c on
+            log.debug("Identity columns not available for schema {}: {}", schema, e.getMessage());
+        }
+        
+        // trigger_body is a LONG, so it is selected last and read after the other columns
+        String triggerSql = """
+            SELECT table_name, trigger_body
+            FROM all_triggers
+            WHERE owner = UPPER(?)
+              AND table_owner = UPPER(?)
+              AND base_object_type = 'TABLE'
+              AND triggering_event LIKE '%INSERT%'
+              AND status = 'ENABLED'
+            """;
+        try (PreparedStatement stmt = conn.prepareStatement(triggerSql)) {
+            stmt.setString(1, schema);
+            stmt.setString(2, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("table_name");
+                    String body = rs.getString("trigger_body");
+                    if (body == null) {
+                        continue;
+                    }
+                    Matcher assignment = NEXTVAL_ASSIGNMENT.matcher(body);
+                    while (assignment.find()) {
+                        links.add(new SequenceColumn(unquote(assignment.group(2)), tableName,
+                            unquote(assignment.group(1)), "trigger"));
+                    }
+                    Matcher selectInto = NEXTVAL_SELECT_INTO.matcher(body);
+                    while (selectInto.find()) {
+                        links.add(new SequenceColumn(unquote(selectInto.group(1)), tableName,
+                            unquote(selectInto.group(2)), "trigger"));
+                    }
+                }
+            }
+        }
+        return links;
+    }
+    
+    private String unquote(String identifier) {
+        return identifier.startsWith("\"") ? identifier.replace("\"", "") : identifier.toUpperCase();
+    }
+    
     private List<ViewInfo> discoverViews(Connection conn, String schema) throws SQLException {
         List<ViewInfo> views = new ArrayList<>();
         
@@ -472,7 +667,7 @@ public class SchemaMigrationService {
     
     // DDL Generation methods
     
-    private String generateIndexDDL(IndexInfo index, String targetSchema) {
+    private String generateIndexDDL(IndexInfo index, String targetSchema, TargetNames names) {
         StringBuilder ddl = new StringBuilder();
         
         // Handle bitmap indexes - PostgreSQL doesn't support them
@@ -491,13 +686,13 @@ public class SchemaMigrationService {
         ddl.append(indexName).append(" ON ");
         
         // Quote table name
-        String tableName = quoteIdentifier("postgresql", index.getTableName());
+        String tableName = quoteIdentifier("postgresql", names.table(index.getTableName()));
         ddl.append(targetSchema).append(".").append(tableName).append(" (");
         
         // Add columns
         for (int i = 0; i < index.getColumns().size(); i++) {
             if (i > 0) ddl.append(", ");
-            String col = quoteIdentifier("postgresql", index.getColumns().get(i));
+            String col = quoteIdentifier("postgresql", names.column(index.getTableName(), index.getColumns().get(i)));
             ddl.append(col);
         }
         
@@ -505,9 +700,9 @@ public class SchemaMigrationService {
         return ddl.toString();
     }
     
-    private String generateConstraintDDL(ConstraintInfo constraint, String targetSchema) {
+    private String generateConstraintDDL(ConstraintInfo constraint, String targetSchema, TargetNames names) {
         StringBuilder ddl = new StringBuilder();
-        String tableName = quoteIdentifier("postgresql", constraint.getTableName());
+        String tableName = quoteIdentifier("postgresql", names.table(constraint.getTableName()));
         String constraintName = quoteIdentifier("postgresql", constraint.getConstraintName());
         
         switch (constraint.getConstraintType()) {
@@ -516,7 +711,7 @@ public class SchemaMigrationService {
                    .append(" ADD CONSTRAINT ").append(constraintName)
                    .append(" PRIMARY KEY (");
                 ddl.append(constraint.getColumns().stream()
-                    .map(col -> quoteIdentifier("postgresql", col))
+                    .map(col -> quoteIdentifier("postgresql", names.column(constraint.getTableName(), col)))
                     .collect(Collectors.joining(", ")));
                 ddl.append(");");
             }
@@ -525,13 +720,13 @@ public class SchemaMigrationService {
                    .append(" ADD CONSTRAINT ").append(constraintName)
                    .append(" FOREIGN KEY (");
                 ddl.append(constraint.getColumns().stream()
-                    .map(col -> quoteIdentifier("postgresql", col))
+                    .map(col -> quoteIdentifier("postgresql", names.column(constraint.getTableName(), col)))
                     .collect(Collectors.joining(", ")));
                 ddl.append(") REFERENCES ").append(targetSchema).append(".")
-                   .append(quoteIdentifier("postgresql", constraint.getReferencedTable()))
+                   .append(quoteIdentifier("postgresql", names.table(constraint.getReferencedTable())))
                    .append(" (");
                 ddl.append(constraint.getReferencedColumns().stream()
-                    .map(col -> quoteIdentifier("postgresql", col))
+                    .map(col -> quoteIdentifier("postgresql", names.column(constraint.getReferencedTable(), col)))
                     .collect(Collectors.joining(", ")));
                 ddl.append(")");
                 
@@ -549,7 +744,7 @@ public class SchemaMigrationService {
                    .append(" ADD CONSTRAINT ").append(constraintName)
                    .append(" UNIQUE (");
                 ddl.append(constraint.getColumns().stream()
-                    .map(col -> quoteIdentifier("postgresql", col))
+                    .map(col -> quoteIdentifier("postgresql", names.column(constraint.getTableName(), col)))
                     .collect(Collectors.joining(", ")));
                 ddl.append(");");
             }
@@ -703,6 +898,12 @@ public class SchemaMigrationService {
             issues.add("Constraint was disabled in Oracle - verify if it should be enabled");
         }
         
+        if (constraint.getReferencedSchema() != null &&
+            !constraint.getReferencedSchema().equalsIgnoreCase(constraint.getTableSchema())) {
+            issues.add("References a table in schema " + constraint.getReferencedSchema() +
+                " - verify the referenced table is migrated to the target schema");
+        }
+        
         if (constraint.getCheckCondition() != null && 
             constraint.getCheckCondition().toUpperCase().contains("DECODE")) {
             issues.add("Check condition contains DECODE - converted to CASE WHEN");
@@ -24,6 +24,14 @@ public class SettingsService {
         settings.setParallelJobs(getIntValue(settingsMap, "parallelJobs", 4));
         settings.setBatchSize(getIntValue(settingsMap, "batchSize", 1000));
         settings.setCommitInterval(getIntValue(settingsMap, "commitInterval", 10000));
+        settings.setCountStrategy(getStringValue(settingsMap, "countStrategy", "statistics"));
+        settings.setCountSamplePercent(getDoubleValue(settingsMap, "countSamplePercent", RowCountService.DEFAULT_SAMPLE_PERCENT));
+        settings.setIndexBuildWorkers(getIntValue(settingsMap, "indexBuildWorkers", 4));
+        settings.setMaintenanceWorkMem(getStringValue(settingsMap, "maintenanceWorkMem", "1GB"));
+        settings.setLobStreamThresholdKb(getIntValue(settingsMap, "lobStreamThresholdKb", 1024));
+        settings.setLobBatchMemoryMb(getIntValue(settingsMap, "lobBatchMemoryMb", 64));
+        settings.setOracleNativeAccessors(getBoolValue(settingsMap, "oracleNativeAccessors", false));
+        settings.setColumnarBatches(getBoolValue(settingsMap, "columnarBatches", false));
         
         // SMTP settings
         settings.setSmtpEnabled(getBoolValue(settingsMap, "smtpEnabled", false));
@@ -49,9 +57,22 @@ public class SettingsService {
         settings.setMaxErrors(getIntValue(settingsMap, "maxErrors", 100));
         settings.setAutoCommit(getBoolValue(settingsMap, "autoCommit", false));
         settings.setColumnNamingStrategy(getStringValue(settingsMap, "columnNamingStrategy", "lowercase"));
+        settings.setInlineFingerprints(getBoolValue(settingsMap, "inlineFingerprints", true));
+        settings.setFastLoad(getBoolValue(settingsMap, "fastLoad", false));
+        settings.setUnloggedLoad(getBoolValue(settingsMap, "unloggedLoad", false));
+        settings.setPartitionedTargets(getBoolValue(settingsMap, "partitionedTargets", false));
+        settings.setStagedChunkLoad(getBoolValue(settingsMap, "stagedChunkLoad", false));
+        settings.setLobSecondPass(getBoolValue(settingsMap, "lobSecondPass", false));
+        settings.setLobPassWorkers(getIntValue(settingsMap, "lobPassWorkers", 4));
+        settings.setLobPrefetchSize(getIntValue(settingsMap, "lobPrefetchSize", 32768));
+        settings.setPostLoadAnalyze(getBoolValue(settingsMap, "postLoadAnalyze", true));
+        settings.setPostLoadVacuumFreeze(getBoolValue(settingsMap, "postLoadVacuumFreeze", false));
+        settings.setSyncSequences(getBoolValue(settingsMap, "syncSequences", true));
         
         // Table Discovery settings
         settings.setTableNameFilter(getStringValue(settingsMap, "tableNameFilter", ""));
+        settings.setNumericTypeInference(getBoolValue(settingsMap, "numericTypeInference", false));
+        settings.setNumericProfileSampleRows(getIntValue(settingsMap, "numericProfileSampleRows", 100000));
         
         return settings;
     }
@@ -61,6 +82,14 @@ public class SettingsService {
         saveSetting("parallelJobs", String.valueOf(settings.getParallelJobs()), "performance", "number", "Number of parallel jobs");
         saveSetting("batchSize", String.valueOf(settings.getBatchSize()), "performance", "number", "Batch size for migration");
         saveSetting("commitInterval", String.valueOf(settings.getCommitInterval()), "performance", "number", "Commit interval");
+        saveSetting("countStrategy", settings.getCountStrategy() != null ? settings.getCountStrategy() : "statistics", "performance", "string", "Row count strategy for discovery and progress: exact, statistics, sampled");
+        saveSetting("countSamplePercent", String.valueOf(settings.getCountSamplePercent() != null ? settings.getCountSamplePercent() : RowCountService.DEFAULT_SAMPLE_PERCENT), "performance", "number", "Percent of blocks read by sampled row counts");
+        saveSetting("indexBuildWorkers", String.valueOf(settings.getIndexBuildWorkers() != null ? settings.getIndexBuildWorkers() : 4), "performance", "number", "Parallel index and constraint builds when applying schema DDL");
+        saveSetting("maintenanceWorkMem", settings.getMaintenanceWorkMem() != null ? settings.getMaintenanceWorkMem() : "1GB", "performance", "string", "maintenance_work_mem for index build sessions");
+        saveSetting("lobStreamThresholdKb", String.valueOf(settings.getLobStreamThresholdKb() != null ? settings.getLobStreamThresholdKb() : 1024), "performance", "number", "LOBs larger than this (KB) are streamed to the target in their own batch");
+        saveSetting("lobBatchMemoryMb", String.valueOf(settings.getLobBatchMemoryMb() != null ? settings.getLobBatchMemoryMb() : 64), "performance", "number", "LOB data (MB) buffered per insert batch before it is flushed");
+        saveSetting("oracleNativeAccessors", String.valueOf(settings.getOracleNativeAccessors() != null ? settings.getOracleNativeAccessors() : false), "performance", "boolean", "Decode NUMBER and DATE values from their Oracle byte form through the ojdbc native accessors");
+        saveSetting("columnarBatches", String.valueOf(settings.getColumnarBatches() != null ? settings.getColumnarBatches() : false), "performance", "boolean", "Read each insert batch into reused column vectors before binding it, for tables of scalar columns");
         
         // SMTP
         saveSetting("smtpEnabled", String.valueOf(settings.getSmtpEnabled()), "smtp", "boolean", "Enable SMTP");
@@ -86,9 +115,22 @@ public class SettingsService {
         saveSetting("maxErrors", String.valueOf(settings.getMaxErrors()), "migration", "number", "Max errors");
         saveSetting("autoCommit", String.valueOf(settings.getAutoCommit()), "migration", "boolean", "Auto commit mode");
         saveSetting("columnNamingStrategy", settings.getColumnNamingStrategy() != null ? settings.getColumnNamingStrategy() : "lowercase", "migration", "string", "Column naming strategy: lowercase, uppercase, original, camelCase, snake_case, pascalCase");
+        saveSetting("inlineFingerprints", String.valueOf(settings.getInlineFingerprints() != null ? settings.getInlineFingerprints() : true), "migration", "boolean", "Record per-chunk fingerprints during copy");
+        saveSetting("fastLoad", String.valueOf(settings.getFastLoad() != null ? settings.getFastLoad() : false), "migration", "boolean", "Drop target indexes and constraints during load and rebuild them afterwards");
+        saveSetting("unloggedLoad", String.valueOf(settings.getUnloggedLoad() != null ? settings.getUnloggedLoad() : false), "migration", "boolean", "Load into UNLOGGED target tables and set them LOGGED afterwards");
+        saveSetting("partitionedTargets", String.valueOf(settings.getPartitionedTargets() != null ? settings.getPartitionedTargets() : false), "migration", "boolean", "Create partitioned target tables from Oracle partitioning and load partitions in parallel");
+        saveSetting("stagedChunkLoad", String.valueOf(settings.getStagedChunkLoad() != null ? settings.getStagedChunkLoad() : false), "migration", "boolean", "Load each chunk into an unlogged staging table, index it, and attach it as a range partition of the target");
+        saveSetting("lobSecondPass", String.valueOf(settings.getLobSecondPass() != null ? settings.getLobSecondPass() : false), "migration", "boolean", "Load non-LOB columns first and fill LOB columns in a second pass keyed by primary key");
+        saveSetting("lobPassWorkers", String.valueOf(settings.getLobPassWorkers() != null ? settings.getLobPassWorkers() : 4), "migration", "number", "Parallel workers per table in the LOB pass");
+        saveSetting("lobPrefetchSize", String.valueOf(settings.getLobPrefetchSize() != null ? settings.getLobPrefetchSize() : 32768), "migration", "number", "Oracle LOB prefetch size in bytes for the LOB pass");
+        saveSetting("postLoadAnalyze", String.valueOf(settings.getPostLoadAnalyze() != null ? settings.getPostLoadAnalyze() : true), "migration", "boolean", "ANALYZE loaded tables after the migration");
+        saveSetting("postLoadVacuumFreeze", String.valueOf(settings.getPostLoadVacuumFreeze() != null ? settings.getPostLoadVacuumFreeze() : false), "migration", "boolean", "VACUUM (FREEZE) loaded tables after the migration");
+        saveSetting("syncSequences", String.valueOf(settings.getSyncSequences() != null ? settings.getSyncSequences() : true), "migration", "boolean", "Reset sequences to the max value of the columns they feed");
         
         // Table Discovery
         saveSetting("tableNameFilter", settings.getTableNameFilter() != null ? settings.getTableNameFilter() : "", "discovery", "string", "Table name filter pattern (SQL LIKE, e.g., TRADE_%)");
+        saveSetting("numericTypeInference", String.valueOf(settings.getNumericTypeInference() != null ? settings.getNumericTypeInference() : false), "discovery", "boolean", "Infer integer/double types for unconstrained NUMBER columns from sampled data");
+        saveSetting("numericProfileSampleRows", String.valueOf(settings.getNumericProfileSampleRows() != null ? settings.getNumericProfileSampleRows() : 100000), "discovery", "number", "Rows sampled per table for numeric type inference");
         
         return settings;
     }
@@ -132,6 +174,15 @@ public class SettingsService {
         }
     }
     
+    private Double getDoubleValue(Map<String, SettingEntity> map, String key, Double defaultValue) {
+        String value = getStringValue(map, key, String.valueOf(defaultValue));
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
     private Boolean getBoolValue(Map<String, SettingEntity> map, String key, Boolean defaultValue) {
         String value = getStringValue(map, key, String.valueOf(defaultValue));
         return Boolean.parseBoolean(value);
@@ -0,0 +1,239 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ConnectionConfig;
+import com.ora2pg.migration.model.TableMapping;
+import com.ora2pg.migration.util.DatabaseConnectionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Staging-then-attach load for chunked tables. The target is range partitioned on the chunk
+ * column; every chunk is copied into its own UNLOGGED staging table without indexes, gets the
+ * parent's indexes built on it, and is then attached as a partition. A CHECK constraint matching
+ * the partition bounds is added beforehand, so the attach does not scan the rows while holding
+ * its lock on the parent.
+ */
+@Slf4j
+@Service
+public class StagedLoadService {
+    
+    /** Beyond this many chunks the partitions would slow down planning more than staging helps. */
+    static final int MAX_STAGED_PARTITIONS = 1024;
+    
+    @Autowired
+    private DatabaseConnectionManager connectionManager;
+    
+    /** One lock per parent table: SET LOGGED and ATTACH run one chunk at a time, so WAL bursts do not overlap. */
+    private final Map<String, Object> attachLocks = new ConcurrentHashMap<>();
+    
+    /**
+     * Whether chunks can be attached to the target: it is range partitioned and has no partitions yet.
+     */
+    boolean canStage(ConnectionConfig target, TableMapping mapping) throws SQLException {
+        String sql = """
+            SELECT p.partstrat,
+                   (SELECT COUNT(*) FROM pg_inherits i WHERE i.inhparent = p.partrelid) AS partitions
+            FROM pg_partitioned_table p
+            WHERE p.partrelid = to_regclass(?)
+            """;
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, FastLoadService.qualifiedName(mapping));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && "r".equals(rs.getString("partstrat")) && rs.getLong("partitions") == 0;
+            }
+        }
+    }
+    
+    /**
+     * First primary key, unique constraint or unique index of the source table that does not
+     * include the chunk column, or {@code null} when every key does. PostgreSQL rejects such a key
+     * on a table partitioned on the chunk column, so the table cannot be staged.
+     *
+     * @param chunkColumn source column the chunks are cut on
+     */
+    String keyWithoutChunkColumn(ConnectionConfig source, TableMapping mapping, String chunkColumn)
+            throws SQLException {
+        String sql = """
+            SELECT c.constraint_name AS key_name, cc.column_name
+            FROM all_constraints c
+            JOIN all_cons_columns cc ON cc.owner = c.owner AND cc.constraint_name = c.constraint_name
+            WHERE c.owner = UPPER(?) AND c.table_name = UPPER(?) AND c.constraint_type IN ('P', 'U')
+            UNION ALL
+            SELECT i.index_name, ic.column_name
+            FROM all_indexes i
+            JOIN all_ind_columns ic ON ic.index_owner = i.owner AND ic.index_name = i.index_name
+            WHERE i.table_owner = UPPER(?) AND i.table_name = UPPER(?) AND i.uniqueness = 'UNIQUE'
+            """;
+        Map<String, Boolean> keys = new LinkedHashMap<>(); // key name -> includes the chunk column
+        try (Connection conn = connectionManager.getConnection(source);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, mapping.getSourceSchema());
+            stmt.setString(2, mapping.getSourceTable());
+            stmt.setString(3, mapping.getSourceSchema());
+            stmt.setString(4, mapping.getSourceTable());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.merge(rs.getString("key_name"), chunkColumn.equalsIgnoreCase(rs.getString("column_name")),
+                        Boolean::logicalOr);
+                }
+            }
+        }
+        return keys.entrySet().stream()
+            .filter(key -> !key.getValue())
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElse(null);
+    }
+    
+    /**
+     * Create an empty UNLOGGED copy of the target table, with its columns, defaults and check
+     * constraints but no indexes. The table is named like the partition it becomes; an existing
+     * table of that name is never dropped, since it may be unrelated to the load.
+     *
+     * @return qualified, quoted name of the staging table
+     */
+    String createStagingTable(ConnectionConfig target, TableMapping mapping, int chunkIndex) throws SQLException {
+        String stage = FastLoadService.quote(mapping.getTargetSchema()) + "."
+            + FastLoadService.quote(PartitioningService.childName(mapping.getTargetTable(), "c" + (chunkIndex + 1)));
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement check = conn.prepareStatement("SELECT to_regclass(?) IS NOT NULL");
+             Statement stmt = conn.createStatement()) {
+            check.setString(1, stage);
+            try (ResultSet rs = check.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    throw new RuntimeException("Staging table " + stage + " already exists; drop or rename it "
+                        + "before loading " + mapping.getTargetTable());
+                }
+            }
+            stmt.execute("CREATE UNLOGGED TABLE " + stage + " (LIKE " + FastLoadService.qualifiedName(mapping)
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        }
+        return stage;
+    }
+    
+    /**
+     * Build the parent's indexes and keys on a loaded staging table, so attaching it adopts them
+     * instead of building them under the attach lock.
+     */
+    void indexStagingTable(ConnectionConfig target, TableMapping mapping, String stage,
+                           String maintenanceWorkMem) throws SQLException {
+        String sql = """
+            SELECT pg_get_indexdef(i.indexrelid) AS definition, i.indisunique,
+                   con.contype, pg_get_constraintdef(con.oid) AS constraint_definition
+            FROM pg_index i
+            LEFT JOIN pg_constraint con ON con.conindid = i.indexrelid AND con.conrelid = i.indrelid
+            WHERE i.indrelid = to_regclass(?)
+            """;
+        List<String> builds = new ArrayList<>();
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            try (PreparedStatement query = conn.prepareStatement(sql)) {
+                query.setString(1, FastLoadService.qualifiedName(mapping));
+                try (ResultSet rs = query.executeQuery()) {
+                    int keyCount = 0;
+                    while (rs.next()) {
+                        String constraintType = rs.getString("contype");
+                        if ("p".equals(constraintType) || "u".equals(constraintType)) {
+                            // A key on the parent is only matched by a key, not by a bare unique index
+                            String keyName = stage.substring(stage.lastIndexOf('.') + 1).replace("\"", "")
+                                + "_key" + (++keyCount);
+                            builds.add("ALTER TABLE " + stage + " ADD CONSTRAINT " + FastLoadService.quote(keyName)
+                                + " " + rs.getString("constraint_definition"));
+                        } else {
+                            String definition = rs.getString("definition");
+                            int using = definition.indexOf(" USING ");
+                            if (using < 0) {
+                                continue;
+                            }
+                            builds.add("CREATE " + (rs.getBoolean("indisunique") ? "UNIQUE " : "") + "INDEX ON "
+                                + stage + definition.substring(using));
+                        }
+                    }
+                }
+            }
+            if (builds.isEmpty()) {
+                return;
+            }
+            if (maintenanceWorkMem != null && !maintenanceWorkMem.isBlank()) {
+                stmt.execute("SET maintenance_work_mem = '" + maintenanceWorkMem.replace("'", "") + "'");
+            }
+            for (String build : builds) {
+                stmt.execute(build);
+            }
+        }
+    }
+    
+    /**
+     * Attach a loaded staging table as the partition {@code [start, endInclusive]} of the target.
+     *
+     * @param column quoted target column the table is partitioned on
+     */
+    void attach(ConnectionConfig target, TableMapping mapping, String stage, String column,
+                long start, long endInclusive) throws SQLException {
+        String parent = FastLoadService.qualifiedName(mapping);
+        boolean unbounded = endInclusive == Long.MAX_VALUE;
+        String upper = unbounded ? "MAXVALUE" : String.valueOf(endInclusive + 1);
+        String boundsName = FastLoadService.quote(
+            stage.substring(stage.lastIndexOf('.') + 1).replace("\"", "") + "_bounds");
+        
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            // Same form as the partition constraint, so ATTACH can prove it without a scan
+            stmt.execute("ALTER TABLE " + stage + " ADD CONSTRAINT " + boundsName + " CHECK (" + column
+                + " IS NOT NULL AND " + column + " >= " + start + (unbounded ? "" : " AND " + column + " < " + upper) + ")");
+            synchronized (attachLocks.computeIfAbsent(parent, p -> new Object())) {
+                stmt.execute("ALTER TABLE " + stage + " SET LOGGED");
+                stmt.execute("ALTER TABLE " + parent + " ATTACH PARTITION " + stage
+                    + " FOR VALUES FROM (" + start + ") TO (" + upper + ")");
+            }
+            stmt.execute("ALTER TABLE " + stage + " DROP CONSTRAINT " + boundsName);
+        }
+    }
+    
+    /**
+     * Add a default partition to the target, unless it has one, so rows outside the attached
+     * ranges (including rows written after the migration) have a place to go.
+     */
+    void ensureDefaultPartition(ConnectionConfig target, TableMapping mapping) throws SQLException {
+        String parent = FastLoadService.qualifiedName(mapping);
+        try (Connection conn = connectionManager.getConnection(target);
+             PreparedStatement check = conn.prepareStatement(
+                 "SELECT partdefid <> 0 FROM pg_partitioned_table WHERE partrelid = to_regclass(?)");
+             Statement stmt = conn.createStatement()) {
+            check.setString(1, parent);
+            try (ResultSet rs = check.executeQuery()) {
+                if (!rs.next() || rs.getBoolean(1)) {
+                    return;
+                }
+            }
+            String defaultPartition = FastLoadService.quote(mapping.getTargetSchema()) + "."
+                + FastLoadService.quote(PartitioningService.childName(mapping.getTargetTable(), "default"));
+            stmt.execute("CREATE TABLE " + defaultPartition + " PARTITION OF " + parent + " DEFAULT");
+        }
+    }
+    
+    /**
+     * Drop a staging table that will not be attached.
+     */
+    void dropStagingTable(ConnectionConfig target, String stage) {
+        try (Connection conn = connectionManager.getConnection(target);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + stage);
+        } catch (SQLException e) {
+            log.warn("Failed to drop staging table {}: {}", stage, e.getMessage());
+        }
+    }
+}
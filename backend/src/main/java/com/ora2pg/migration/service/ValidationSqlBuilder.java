@@ -0,0 +1,394 @@
+package com.ora2pg.migration.service;
+
+import com.ora2pg.migration.model.ColumnMapping;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds dialect-specific SQL used by in-database validation.
+ * <p>
+ * Every column is normalized to the same textual form on Oracle and PostgreSQL and
+ * hashed on its own; the 64-bit column hashes are concatenated into the row string, which
+ * is hashed with MD5 inside the database. Hashing each column first keeps the row string
+ * within Oracle's 4000-byte VARCHAR2 limit however wide the row is. The first 64 bits of
+ * each row hash are summed modulo 2^64, which makes the table fingerprint independent of
+ * row order and lets only one number cross the wire.
+ */
+@Service
+public class ValidationSqlBuilder {
+    
+    public static final String NULL_MARKER = "\\N";
+    
+    public static final int PROFILE_METRICS = 6;
+    public static final String DISTINCT_HLL = "hll";
+    
+    private static final String MODULUS_2_64 = "18446744073709551616";
+    private static final int LOB_PREFIX_LENGTH = 1000;
+    
+    /** Hex digits kept of each column hash. */
+    static final int PART_HASH_LENGTH = 16;
+    /** Column hashes concatenated before they are hashed again, 3200 characters at most. */
+    static final int HASH_GROUP_SIZE = 200;
+    
+    /**
+     * Normalization applied to a column, decided from the source type so both sides agree.
+     */
+    public enum ValueKind {
+        NUMBER, DATETIME, DATETIME_TZ, TEXT, CHAR, CLOB, RAW, BLOB, UNSUPPORTED
+    }
+    
+    public ValueKind resolveKind(ColumnMapping mapping) {
+        String type = mapping.getSourceDataType() != null ? mapping.getSourceDataType() : mapping.getTargetDataType();
+        return resolveKind(type);
+    }
+    
+    public ValueKind resolveKind(String dataType) {
+        if (dataType == null) {
+            return ValueKind.TEXT;
+        }
+        String upper = dataType.toUpperCase().trim();
+        if (upper.startsWith("LONG")) {
+            // LONG and LONG RAW cannot be referenced in SQL expressions on Oracle
+            return ValueKind.UNSUPPORTED;
+        }
+        if (upper.contains("BLOB") || upper.equals("BYTEA") || upper.equals("BFILE")) {
+            return ValueKind.BLOB;
+        }
+        if (upper.contains("RAW") || (upper.contains("BINARY") && !upper.startsWith("BINARY_"))) {
+            return ValueKind.RAW;
+        }
+        if (upper.contains("CLOB")) {
+            return ValueKind.CLOB;
+        }
+        if (upper.startsWith("INTERVAL")) {
+            return ValueKind.TEXT;
+        }
+        if (upper.contains("TIME ZONE") || upper.startsWith("TIMESTAMPTZ")) {
+            return ValueKind.DATETIME_TZ;
+        }
+        if (upper.contains("DATE") || upper.contains("TIMESTAMP")) {
+            return ValueKind.DATETIME;
+        }
+        if (upper.contains("NUMBER") || upper.contains("NUMERIC") || upper.contains("DECIMAL") ||
+            upper.contains("INT") || upper.contains("FLOAT") || upper.contains("DOUBLE") ||
+            upper.startsWith("BINARY_") || upper.equals("REAL")) {
+            return ValueKind.NUMBER;
+        }
+        if (upper.startsWith("CHAR") || upper.startsWith("NCHAR") || upper.startsWith("CHARACTER(") ||
+            upper.equals("BPCHAR")) {
+            return ValueKind.CHAR;
+        }
+        return ValueKind.TEXT;
+    }
+    
+    /**
+     * Normalized, NULL-safe text expression for one column.
+     */
+    public String normalizedColumnExpression(String dbType, String column, ValueKind kind) {
+        return normalizedExpression(dbType, quoteIdentifier(dbType, column), kind);
+    }
+    
+    /**
+     * Same normalization as {@link #normalizedColumnExpression} for an arbitrary SQL expression,
+     * e.g. an aggregate over the column.
+     */
+    public String normalizedExpression(String dbType, String col, ValueKind kind) {
+        if (isOracle(dbType)) {
+            String expr = switch (kind) {
+                case NUMBER -> "TO_CHAR(" + col + ", 'TM9', 'NLS_NUMERIC_CHARACTERS=''.,''')";
+                // Through TIMESTAMP so DATE columns take the FF format too; microseconds, like PostgreSQL
+                case DATETIME -> "TO_CHAR(CAST(" + col + " AS TIMESTAMP), 'YYYY-MM-DD HH24:MI:SS.FF6')";
+                // In UTC, whatever the session or the value's own time zone
+                case DATETIME_TZ -> "TO_CHAR(SYS_EXTRACT_UTC(" + col + "), 'YYYY-MM-DD HH24:MI:SS.FF6')";
+                case CHAR -> "RTRIM(" + col + ")";
+                // Guarded: concatenation skips NULLs, so a NULL LOB would give ':' rather than NULL
+                case CLOB -> "CASE WHEN " + col + " IS NULL THEN NULL ELSE DBMS_LOB.GETLENGTH(" + col + ") || ':' || "
+                    + "DBMS_LOB.SUBSTR(" + col + ", " + LOB_PREFIX_LENGTH + ", 1) END";
+                case RAW -> "LOWER(RAWTOHEX(" + col + "))";
+                case BLOB -> "CASE WHEN " + col + " IS NULL THEN NULL ELSE DBMS_LOB.GETLENGTH(" + col + ") || ':' || "
+                    + "LOWER(RAWTOHEX(DBMS_LOB.SUBSTR(" + col + ", " + LOB_PREFIX_LENGTH + ", 1))) END";
+                default -> col;
+            };
+            // Oracle treats '' as NULL, so the marker covers both
+            return "NVL(" + expr + ", '" + NULL_MARKER + "')";
+        }
+        String expr = switch (kind) {
+            // trim_scale drops trailing zeros, the regexp mimics Oracle's TM9 ".5" rendering
+            case NUMBER -> "regexp_replace(trim_scale(" + col + "::numeric)::text, '^(-?)0\\.', '\\1.')";
+            case DATETIME -> "to_char(" + col + ", 'YYYY-MM-DD HH24:MI:SS.US')";
+            case DATETIME_TZ -> "to_char(" + col + "::timestamptz AT TIME ZONE 'UTC', 'YYYY-MM-DD HH24:MI:SS.US')";
+            case CHAR -> "rtrim(" + col + "::text)";
+            case CLOB -> "length(" + col + "::text) || ':' || substr(" + col + "::text, 1, " + LOB_PREFIX_LENGTH + ")";
+            case RAW -> "encode(" + col + ", 'hex')";
+            case BLOB -> "octet_length(" + col + ") || ':' || encode(substring(" + col + " from 1 for "
+                + LOB_PREFIX_LENGTH + "), 'hex')";
+            default -> col + "::text";
+        };
+        return "COALESCE(NULLIF(" + expr + ", ''), '" + NULL_MARKER + "')";
+    }
+    
+    /**
+     * Row string expression: the concatenated hashes of the normalized columns. A CLOB column
+     * contributes its length and its prefix as two parts, which together could exceed 4000
+     * bytes. Rows of more than {@link #HASH_GROUP_SIZE} parts are hashed in groups, and the
+     * group hashes are concatenated instead.
+     */
+    public String rowStringExpression(String dbType, List<String> columns, List<ValueKind> kinds) {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            for (String part : hashedParts(dbType, quoteIdentifier(dbType, columns.get(i)), kinds.get(i))) {
+                parts.add(partHashExpression(dbType, part));
+            }
+        }
+        if (parts.size() <= HASH_GROUP_SIZE) {
+            return String.join(" || ", parts);
+        }
+        List<String> groups = new ArrayList<>();
+        for (int start = 0; start < parts.size(); start += HASH_GROUP_SIZE) {
+            List<String> group = parts.subList(start, Math.min(start + HASH_GROUP_SIZE, parts.size()));
+            groups.add(partHashExpression(dbType, String.join(" || ", group)));
+        }
+        return String.join(" || ", groups);
+    }
+    
+    /**
+     * Normalized text expressions hashed for one column: the column's normalized value, or for a
+     * CLOB its length and its prefix separately.
+     */
+    private List<String> hashedParts(String dbType, String col, ValueKind kind) {
+        if (kind != ValueKind.CLOB) {
+            return List.of(normalizedExpression(dbType, col, kind));
+        }
+        if (isOracle(dbType)) {
+            return List.of(
+                "NVL(TO_CHAR(DBMS_LOB.GETLENGTH(" + col + ")), '" + NULL_MARKER + "')",
+                "NVL(DBMS_LOB.SUBSTR(" + col + ", " + LOB_PREFIX_LENGTH + ", 1), '" + NULL_MARKER + "')");
+        }
+        return List.of(
+            "COALESCE(length(" + col + "::text)::text, '" + NULL_MARKER + "')",
+            "COALESCE(NULLIF(substr(" + col + "::text, 1, " + LOB_PREFIX_LENGTH + "), ''), '" + NULL_MARKER + "')");
+    }
+    
+    /**
+     * First {@link #PART_HASH_LENGTH} lowercase hex digits of the MD5 of a text expression.
+     */
+    private String partHashExpression(String dbType, String text) {
+        if (isOracle(dbType)) {
+            return "LOWER(SUBSTR(RAWTOHEX(STANDARD_HASH(" + text + ", 'MD5')), 1, " + PART_HASH_LENGTH + "))";
+        }
+        return "substr(md5(" + text + "), 1, " + PART_HASH_LENGTH + ")";
+    }
+    
+    /**
+     * Hex MD5 of the row string, computed in the database.
+     */
+    public String rowHashExpression(String dbType, String rowString) {
+        if (isOracle(dbType)) {
+            return "RAWTOHEX(STANDARD_HASH(" + rowString + ", 'MD5'))";
+        }
+        return "md5(" + rowString + ")";
+    }
+    
+    /**
+     * Unsigned 64-bit value of the first 16 hex digits of a row hash column.
+     */
+    public String rowHash64Expression(String dbType, String hashColumn) {
+        if (isOracle(dbType)) {
+            return "TO_NUMBER(SUBSTR(" + hashColumn + ", 1, 16), 'XXXXXXXXXXXXXXXX')";
+        }
+        // bit(32) -> bigint stays unsigned, so combine two halves to avoid the bigint sign bit
+        return "(('x' || substr(" + hashColumn + ", 1, 8))::bit(32)::bigint::numeric * 4294967296"
+            + " + ('x' || substr(" + hashColumn + ", 9, 8))::bit(32)::bigint)";
+    }
+    
+    /**
+     * Single-row query returning (row_count, row_hash_sum) for the table or a filtered subset.
+     */
+    public String aggregateChecksumSql(String dbType, String schema, String table, String rowString,
+                                       String whereClause) {
+        String inner = "SELECT " + rowHashExpression(dbType, rowString) + " AS row_hash FROM "
+            + qualifiedName(dbType, schema, table) + whereSql(whereClause);
+        String sum = "MOD(SUM(" + rowHash64Expression(dbType, "row_hash") + "), " + MODULUS_2_64 + ")";
+        return "SELECT COUNT(*) AS row_count, " + sum + " AS row_hash_sum FROM (" + inner + ") h";
+    }
+    
+    /**
+     * Grouped query returning (bucket, row_count, row_hash_sum) for equal-width key buckets
+     * in [lowKey, highKey]. Bucket i covers keys [lowKey + i * width, lowKey + (i + 1) * width - 1].
+     */
+    public String bucketChecksumSql(String dbType, String schema, String table, String keyColumn, String rowString,
+                                    long lowKey, long highKey, long width, String whereClause) {
+        String key = quoteIdentifier(dbType, keyColumn);
+        String bucket = isOracle(dbType)
+            ? "FLOOR((" + key + " - " + lowKey + ") / " + width + ")"
+            : "floor((" + key + " - " + lowKey + ")::numeric / " + width + ")";
+        String range = key + " >= " + lowKey + " AND " + key + " <= " + highKey;
+        String predicate = whereClause == null || whereClause.trim().isEmpty()
+            ? range
+            : "(" + whereClause + ") AND " + range;
+        String inner = "SELECT " + bucket + " AS bucket, " + rowHashExpression(dbType, rowString) + " AS row_hash FROM "
+            + qualifiedName(dbType, schema, table) + whereSql(predicate);
+        String sum = "MOD(SUM(" + rowHash64Expression(dbType, "row_hash") + "), " + MODULUS_2_64 + ")";
+        return "SELECT bucket, COUNT(*) AS row_count, " + sum + " AS row_hash_sum FROM (" + inner + ") h GROUP BY bucket";
+    }
+    
+    /**
+     * Single-row query profiling every column in one pass. Column 1 is the row count, then
+     * each column contributes {@link #PROFILE_METRICS} values in this order: non-null count,
+     * min, max, sum, total length, distinct estimate. Metrics that do not apply to a column's
+     * kind are NULL. Min, max and sum use the checksum normalization so both sides compare as text.
+     *
+     * @param distinctFunction PostgreSQL only: {@code DISTINCT_HLL} when the hll extension is installed;
+     *                         without it the distinct estimate is NULL, as an exact COUNT(DISTINCT)
+     *                         would sort every column
+     */
+    public String columnProfileSql(String dbType, String schema, String table, List<String> columns,
+                                   List<ValueKind> kinds, boolean includeDistinct, String distinctFunction) {
+        List<String> select = new ArrayList<>();
+        select.add("COUNT(*)");
+        for (int i = 0; i < columns.size(); i++) {
+            String col = quoteIdentifier(dbType, columns.get(i));
+            ValueKind kind = kinds.get(i);
+            // Oracle stores '' as NULL, so PostgreSQL empty strings count as NULL as well
+            String value = switch (kind) {
+                case TEXT -> isOracle(dbType) ? col : "NULLIF(" + col + "::text, '')";
+                case CHAR -> isOracle(dbType) ? "RTRIM(" + col + ")" : "NULLIF(rtrim(" + col + "::text), '')";
+                default -> col;
+            };
+            String ordered = !isOracle(dbType) && (kind == ValueKind.TEXT || kind == ValueKind.CHAR)
+                ? value + " COLLATE \"C\"" : value;
+            
+            boolean ordinal = kind == ValueKind.NUMBER || kind == ValueKind.DATETIME ||
+                kind == ValueKind.DATETIME_TZ || kind == ValueKind.TEXT || kind == ValueKind.CHAR;
+            select.add("COUNT(" + value + ")");
+            select.add(ordinal ? normalizedExpression(dbType, "MIN(" + ordered + ")", kind) : "NULL");
+            select.add(ordinal ? normalizedExpression(dbType, "MAX(" + ordered + ")", kind) : "NULL");
+            select.add(kind == ValueKind.NUMBER ? normalizedExpression(dbType, "SUM(" + col + ")", kind) : "NULL");
+            select.add(lengthExpression(dbType, value, kind));
+            if (!includeDistinct || kind == ValueKind.CLOB || kind == ValueKind.BLOB) {
+                select.add("NULL");
+            } else if (isOracle(dbType)) {
+                select.add("APPROX_COUNT_DISTINCT(" + value + ")");
+            } else if (DISTINCT_HLL.equals(distinctFunction)) {
+                select.add("round(hll_cardinality(hll_add_agg(hll_hash_any(" + value + "))))::bigint");
+            } else {
+                select.add("NULL");
+            }
+        }
+        return "SELECT " + String.join(", ", select) + " FROM " + qualifiedName(dbType, schema, table);
+    }
+    
+    private String lengthExpression(String dbType, String value, ValueKind kind) {
+        if (isOracle(dbType)) {
+            return switch (kind) {
+                case TEXT, CHAR -> "SUM(LENGTH(" + value + "))";
+                case CLOB, BLOB -> "SUM(DBMS_LOB.GETLENGTH(" + value + "))";
+                case RAW -> "SUM(UTL_RAW.LENGTH(" + value + "))";
+                default -> "NULL";
+            };
+        }
+        return switch (kind) {
+            case TEXT, CHAR -> "SUM(length(" + value + "))";
+            case CLOB -> "SUM(length(" + value + "::text))";
+            case RAW, BLOB -> "SUM(octet_length(" + value + "))";
+            default -> "NULL";
+        };
+    }
+    
+    /**
+     * Single-row query returning MIN and MAX of a key column.
+     */
+    public String keyBoundsSql(String dbType, String schema, String table, String keyColumn) {
+        String key = quoteIdentifier(dbType, keyColumn);
+        return "SELECT MIN(" + key + "), MAX(" + key + ") FROM " + qualifiedName(dbType, schema, table);
+    }
+    
+    /**
+     * ORDER BY expression that sorts the same way on both databases: numbers, dates and raw
+     * values in their natural order, character data by binary (byte) order.
+     */
+    public String binaryOrderExpression(String dbType, String column, ValueKind kind) {
+        String col = quoteIdentifier(dbType, column);
+        if (kind != ValueKind.TEXT && kind != ValueKind.CHAR) {
+            return col;
+        }
+        if (isOracle(dbType)) {
+            return "NLSSORT(" + col + ", 'NLS_SORT=BINARY')";
+        }
+        return col + "::text COLLATE \"C\"";
+    }
+    
+    /**
+     * Typed literal for a normalized key value, so lookups by key can use the key index.
+     */
+    public String keyLiteral(String dbType, String value, ValueKind kind) {
+        if (value == null || NULL_MARKER.equals(value)) {
+            return "NULL";
+        }
+        String quoted = "'" + value.replace("'", "''") + "'";
+        if (kind == ValueKind.DATETIME && isOracle(dbType) && value.endsWith(".000000")) {
+            // A DATE literal, which a TIMESTAMP column also matches, keeps DATE key indexes usable
+            return "TO_DATE('" + value.substring(0, value.length() - 7) + "', 'YYYY-MM-DD HH24:MI:SS')";
+        }
+        return switch (kind) {
+            case NUMBER -> new BigDecimal(value).toPlainString();
+            case DATETIME -> isOracle(dbType)
+                ? "TO_TIMESTAMP(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS.FF6')"
+                : "to_timestamp(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS.US')";
+            // Normalized values of zoned timestamps are in UTC
+            case DATETIME_TZ -> isOracle(dbType)
+                ? "FROM_TZ(TO_TIMESTAMP(" + quoted + ", 'YYYY-MM-DD HH24:MI:SS.FF6'), 'UTC')"
+                : "(" + quoted + "::timestamp AT TIME ZONE 'UTC')";
+            case RAW -> isOracle(dbType) ? "HEXTORAW(" + quoted + ")" : "decode(" + quoted + ", 'hex')";
+            default -> quoted;
+        };
+    }
+    
+    /**
+     * Single-row query returning the optimizer's row estimate for a table (NULL when never analyzed).
+     */
+    public String estimatedRowCountSql(String dbType, String schema, String table) {
+        String unquotedSchema = schema != null ? schema.replace("\"", "").replace("'", "''") : "";
+        String unquotedTable = table != null ? table.replace("\"", "").replace("'", "''") : "";
+        if (isOracle(dbType)) {
+            return "SELECT NUM_ROWS FROM ALL_TABLES WHERE OWNER = '" + unquotedSchema.toUpperCase()
+                + "' AND TABLE_NAME = '" + unquotedTable.toUpperCase() + "'";
+        }
+        return "SELECT CASE WHEN c.reltuples < 0 THEN NULL ELSE c.reltuples::bigint END FROM pg_class c"
+            + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE n.nspname = '" + unquotedSchema + "' AND c.relname = '" + unquotedTable + "'";
+    }
+    
+    public String qualifiedName(String dbType, String schema, String table) {
+        return quoteIdentifier(dbType, schema) + "." + quoteIdentifier(dbType, table);
+    }
+    
+    /**
+     * Quotes an identifier based on database type, matching the rest of the validation code:
+     * PostgreSQL identifiers are always quoted, Oracle identifiers are upper-cased.
+     */
+    public String quoteIdentifier(String dbType, String identifier) {
+        if (identifier == null || identifier.isEmpty()) {
+            return "\"\"";
+        }
+        identifier = identifier.replace("\"", "");
+        if ("postgresql".equalsIgnoreCase(dbType)) {
+            return "\"" + identifier + "\"";
+        }
+        return identifier.toUpperCase();
+    }
+    
+    private String whereSql(String whereClause) {
+        if (whereClause == null || whereClause.trim().isEmpty()) {
+            return "";
+        }
+        return " WHERE " + whereClause;
+    }
+    
+    private boolean isOracle(String dbType) {
+        return "oracle".equalsIgnoreCase(dbType);
+    }
+}
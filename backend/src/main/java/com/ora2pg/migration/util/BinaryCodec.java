@@ -0,0 +1,160 @@
+package com.ora2pg.migration.util;
+
+import oracle.sql.Datum;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Conversions between binary column values and their hex text form, used on the per-row path of
+ * RAW and BLOB columns. Hex is decoded through a lookup table in a single pass, without regular
+ * expressions or intermediate strings, and {@code getBytes()} of driver-specific types is looked
+ * up once per class.
+ */
+public final class BinaryCodec {
+    
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    
+    /** Nibble value of each ASCII character, -1 for non-hex characters. */
+    private static final byte[] NIBBLES = new byte[128];
+    
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            NIBBLES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            NIBBLES['a' + i] = (byte) (10 + i);
+            NIBBLES['A' + i] = (byte) (10 + i);
+        }
+    }
+    
+    /** {@code byte[] getBytes()} of a value class, or {@code null} when it has none. */
+    private static final ClassValue<MethodHandle> GET_BYTES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                    .findVirtual(type, "getBytes", MethodType.methodType(byte[].class))
+                    .asType(MethodType.methodType(byte[].class, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+    
+    private BinaryCodec() {
+    }
+    
+    /**
+     * Decode hex text, ignoring whitespace. An odd number of digits is read as if padded with a
+     * leading zero.
+     *
+     * @throws IllegalArgumentException if the text contains a character that is not a hex digit
+     */
+    public static byte[] decodeHex(CharSequence hex) {
+        int length = hex.length();
+        if ((length & 1) == 0) {
+            byte[] data = decodeEven(hex, length);
+            if (data != null) {
+                return data;
+            }
+        }
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            if (!isWhitespace(hex.charAt(i))) {
+                digits++;
+            }
+        }
+        byte[] data = new byte[(digits + 1) / 2];
+        // With an odd count, the first digit fills the low nibble of the first byte
+        int position = (digits & 1) == 0 ? 0 : 1;
+        for (int i = 0; i < length; i++) {
+            char c = hex.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            int nibble = c < 128 ? NIBBLES[c] : -1;
+            if (nibble < 0) {
+                throw new IllegalArgumentException("Invalid hex character '" + c + "' at index " + i);
+            }
+            if ((position & 1) == 0) {
+                data[position >> 1] = (byte) (nibble << 4);
+            } else {
+                data[position >> 1] |= (byte) nibble;
+            }
+            position++;
+        }
+        return data;
+    }
+    
+    /**
+     * Decode text made only of pairs of hex digits, the usual case, or return {@code null} when it
+     * contains anything else.
+     */
+    private static byte[] decodeEven(CharSequence hex, int length) {
+        byte[] data = new byte[length >> 1];
+        for (int i = 0, j = 0; i < length; i += 2, j++) {
+            char high = hex.charAt(i);
+            char low = hex.charAt(i + 1);
+            if ((high | low) >= 128) {
+                return null;
+            }
+            int value = (NIBBLES[high] << 4) | NIBBLES[low];
+            if (value < 0) {
+                return null; // a nibble was -1
+            }
+            data[j] = (byte) value;
+        }
+        return data;
+    }
+    
+    /**
+     * Encode bytes as lowercase hex.
+     */
+    public static String encodeHex(byte[] bytes) {
+        byte[] hex = new byte[bytes.length * 2];
+        int j = 0;
+        for (byte b : bytes) {
+            int v = b & 0xFF;
+            hex[j++] = HEX_DIGITS[v >>> 4];
+            hex[j++] = HEX_DIGITS[v & 0x0F];
+        }
+        return new String(hex, StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * Bytes of a binary column value: a byte array as is, an Oracle datum by its raw bytes, any
+     * other type with a public {@code getBytes()} through that method, and text as hex.
+     */
+    public static byte[] toBytes(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (value instanceof Datum datum) {
+            return datum.getBytes();
+        }
+        if (value instanceof CharSequence text) {
+            return decodeHex(text);
+        }
+        MethodHandle getBytes = GET_BYTES.get(value.getClass());
+        if (getBytes != null) {
+            try {
+                return (byte[]) getBytes.invokeExact(value);
+            } catch (Throwable e) {
+                // fall back to the text form
+            }
+        }
+        return decodeHex(value.toString());
+    }
+    
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ora2pg.migration.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decoders for the internal byte formats of Oracle {@code NUMBER}, {@code DATE} and
+ * {@code TIMESTAMP}, as returned by the ojdbc {@code oracle.sql} datums. They produce primitive
+ * values directly, without going through {@code BigDecimal} or {@code Timestamp}; when a value
+ * cannot be represented exactly they return a sentinel and the caller falls back to the generic
+ * conversion.
+ */
+public final class OracleWireFormat {
+    
+    /** Returned by {@link #toLong(byte[])} when the number is fractional or out of range. */
+    public static final long NOT_EXACT = Long.MIN_VALUE;
+    
+    private static final long MAX_BEFORE_DIGIT = (Long.MAX_VALUE - 99) / 100;
+    
+    /** Powers of ten a double holds exactly, for correctly rounded conversion. */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private OracleWireFormat() {
+    }
+    
+    /**
+     * Integer value of a {@code NUMBER}, or {@link #NOT_EXACT} when it has a fractional part or
+     * does not fit in a {@code long}.
+     */
+    public static long toLong(byte[] number) {
+        if (isZero(number)) {
+            return 0L;
+        }
+        boolean negative = isNegative(number);
+        int exponent = exponent(number, negative);
+        int end = mantissaEnd(number, negative);
+        if (exponent == Integer.MIN_VALUE || end < 2) {
+            return NOT_EXACT;
+        }
+        // The last base-100 digit is never zero, so a digit after the units position means a fraction
+        int digits = end - 1;
+        if (exponent < digits - 1) {
+            return NOT_EXACT;
+        }
+        long value = 0L;
+        for (int i = 1; i <= exponent + 1; i++) {
+            if (value > MAX_BEFORE_DIGIT) {
+                return NOT_EXACT;
+            }
+            value = value * 100 + (i < end ? digit(number[i], negative) : 0);
+        }
+        return negative ? -value : value;
+    }
+    
+    /**
+     * Value of a {@code NUMBER} as the nearest {@code double}, or {@code NaN} when it cannot be
+     * converted with correct rounding without {@code BigDecimal}: more than 53 bits of mantissa,
+     * or a decimal exponent beyond the exactly representable powers of ten.
+     */
+    public static double toDouble(byte[] number) {
+        if (isZero(number)) {
+            return 0d;
+        }
+        boolean negative = isNegative(number);
+        int exponent = exponent(number, negative);
+        int end = mantissaEnd(number, negative);
+        if (exponent == Integer.MIN_VALUE || end < 2) {
+            return Double.NaN;
+        }
+        long mantissa = 0L;
+        for (int i = 1; i < end; i++) {
+            if (mantissa > MAX_BEFORE_DIGIT) {
+                return Double.NaN;
+            }
+            mantissa = mantissa * 100 + digit(number[i], negative);
+        }
+        if (mantissa >= (1L << 53)) {
+            return Double.NaN;
+        }
+        int power = 2 * (exponent - (end - 2));
+        double value;
+        if (power >= 0 && power < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa * EXACT_POWERS_OF_TEN[power];
+        } else if (power < 0 && -power < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa / EXACT_POWERS_OF_TEN[-power];
+        } else {
+            return Double.NaN;
+        }
+        return negative ? -value : value;
+    }
+    
+    /**
+     * Value of a {@code DATE} (7 bytes) or {@code TIMESTAMP} (7 or 11 bytes), or {@code null} for
+     * dates before the common era, which {@code LocalDateTime} and PostgreSQL number differently.
+     */
+    public static LocalDateTime toLocalDateTime(byte[] date) {
+        if (date.length < 7 || (date[0] & 0xFF) < 100 || (date[1] & 0xFF) < 100) {
+            return null;
+        }
+        int year = ((date[0] & 0xFF) - 100) * 100 + ((date[1] & 0xFF) - 100);
+        int nanos = date.length >= 11
+            ? ((date[7] & 0xFF) << 24) | ((date[8] & 0xFF) << 16) | ((date[9] & 0xFF) << 8) | (date[10] & 0xFF)
+            : 0;
+        return LocalDateTime.of(year, date[2], date[3], date[4] - 1, date[5] - 1, date[6] - 1, nanos);
+    }
+    
+    private static boolean isZero(byte[] number) {
+        return number.length == 1 && (number[0] & 0xFF) == 0x80;
+    }
+    
+    private static boolean isNegative(byte[] number) {
+        return (number[0] & 0x80) == 0;
+    }
+    
+    /**
+     * Base-100 exponent of the first mantissa digit, or {@code Integer.MIN_VALUE} for the
+     * infinities.
+     */
+    private static int exponent(byte[] number, boolean negative) {
+        int head = number[0] & 0xFF;
+        if (head == 0 || head == 0xFF) {
+            return Integer.MIN_VALUE;
+        }
+        return ((negative ? ~head : head) & 0x7F) - 65;
+    }
+    
+    /** End of the mantissa, leaving out the terminator byte of negative numbers. */
+    private static int mantissaEnd(byte[] number, boolean negative) {
+        int end = number.length;
+        if (negative && end > 1 && (number[end - 1] & 0xFF) == 102) {
+            end--;
+        }
+        return end;
+    }
+    
+    private static int digit(byte b, boolean negative) {
+        return negative ? 101 - (b & 0xFF) : (b & 0xFF) - 1;
+    }
+}
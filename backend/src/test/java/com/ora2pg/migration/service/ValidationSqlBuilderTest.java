@@ -0,0 +1,52 @@
+package com.ora2pg.migration.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationSqlBuilderTest {
+    
+    private final ValidationSqlBuilder builder = new ValidationSqlBuilder();
+    
+    @Test
+    void oracleLobNormalizationIsNullForNullLob() {
+        // Without the guard, GETLENGTH(NULL) || ':' || NULL is ':' on Oracle and NVL never applies
+        assertThat(builder.normalizedColumnExpression("oracle", "PAYLOAD", ValidationSqlBuilder.ValueKind.BLOB))
+            .startsWith("NVL(CASE WHEN PAYLOAD IS NULL THEN NULL ELSE ")
+            .endsWith(" END, '" + ValidationSqlBuilder.NULL_MARKER + "')");
+        assertThat(builder.normalizedColumnExpression("oracle", "NOTES", ValidationSqlBuilder.ValueKind.CLOB))
+            .startsWith("NVL(CASE WHEN NOTES IS NULL THEN NULL ELSE ")
+            .endsWith(" END, '" + ValidationSqlBuilder.NULL_MARKER + "')");
+    }
+    
+    @Test
+    void postgresLobNormalizationIsNullForNullLob() {
+        // Concatenation with NULL is NULL on PostgreSQL, so COALESCE maps it to the marker
+        assertThat(builder.normalizedColumnExpression("postgresql", "payload", ValidationSqlBuilder.ValueKind.BLOB))
+            .startsWith("COALESCE(NULLIF(octet_length(\"payload\") || ':' || ")
+            .endsWith(", '" + ValidationSqlBuilder.NULL_MARKER + "')");
+    }
+    
+    @Test
+    void rowStringHashesNullBlobAsMarkerOnBothSides() {
+        List<String> columns = List.of("ID", "PAYLOAD");
+        List<ValidationSqlBuilder.ValueKind> kinds =
+            List.of(ValidationSqlBuilder.ValueKind.NUMBER, ValidationSqlBuilder.ValueKind.BLOB);
+        String oracle = builder.rowStringExpression("oracle", columns, kinds);
+        String postgres = builder.rowStringExpression("postgresql", columns, kinds);
+        
+        assertThat(oracle).contains("STANDARD_HASH(NVL(CASE WHEN PAYLOAD IS NULL THEN NULL ELSE ");
+        assertThat(postgres).contains("md5(COALESCE(NULLIF(octet_length(\"PAYLOAD\")");
+    }
+    
+    @Test
+    void oracleClobPartsAreNullSafe() {
+        String oracle = builder.rowStringExpression("oracle", List.of("NOTES"),
+            List.of(ValidationSqlBuilder.ValueKind.CLOB));
+        assertThat(oracle)
+            .contains("NVL(TO_CHAR(DBMS_LOB.GETLENGTH(NOTES)), '" + ValidationSqlBuilder.NULL_MARKER + "')")
+            .contains("NVL(DBMS_LOB.SUBSTR(NOTES, 1000, 1), '" + ValidationSqlBuilder.NULL_MARKER + "')");
+    }
+}
@@ -0,0 +1,73 @@
+package com.ora2pg.migration.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Microbenchmark of hex decoding against the regex-based conversion it replaced. Opt-in, as its
+ * timings are only meaningful on an otherwise idle machine:
+ * {@code mvn test -Dtest=BinaryCodecBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BinaryCodecBenchmark {
+    
+    private static final int VALUES = 1000;
+    private static final int VALUE_BYTES = 16; // a RAW(16) GUID column
+    private static final int ITERATIONS = 2000;
+    private static final int ROUNDS = 5;
+    
+    @Test
+    void decodeHex() {
+        String[] values = new String[VALUES];
+        Random random = new Random(1);
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = new byte[VALUE_BYTES];
+            random.nextBytes(bytes);
+            values[i] = BinaryCodec.encodeHex(bytes).toUpperCase();
+            assertThat(BinaryCodec.decodeHex(values[i])).isEqualTo(regexDecode(values[i]));
+        }
+        
+        long sink = 0;
+        double legacyNs = 0;
+        double codecNs = 0;
+        // The first round warms up both paths and is not reported
+        for (int round = 0; round <= ROUNDS; round++) {
+            long started = System.nanoTime();
+            for (int k = 0; k < ITERATIONS; k++) {
+                for (String value : values) {
+                    sink += regexDecode(value)[0];
+                }
+            }
+            long legacyDone = System.nanoTime();
+            for (int k = 0; k < ITERATIONS; k++) {
+                for (String value : values) {
+                    sink += BinaryCodec.decodeHex(value)[0];
+                }
+            }
+            long codecDone = System.nanoTime();
+            if (round > 0) {
+                legacyNs += (double) (legacyDone - started) / (ITERATIONS * VALUES);
+                codecNs += (double) (codecDone - legacyDone) / (ITERATIONS * VALUES);
+            }
+        }
+        System.out.printf("decodeHex of %d-byte values: regex %.1f ns/op, BinaryCodec %.1f ns/op (%d)%n",
+            VALUE_BYTES, legacyNs / ROUNDS, codecNs / ROUNDS, sink);
+    }
+    
+    /** The conversion BinaryCodec replaced: strip whitespace with a regex, pad, then Character.digit. */
+    private static byte[] regexDecode(String hex) {
+        hex = hex.replaceAll("\\s", "").toUpperCase();
+        if (hex.length() % 2 != 0) {
+            hex = "0" + hex;
+        }
+        byte[] data = new byte[hex.length() / 2];
+        for (int i = 0; i < hex.length(); i += 2) {
+            data[i / 2] = (byte) ((Character.digit(hex.charAt(i), 16) << 4) + Character.digit(hex.charAt(i + 1), 16));
+        }
+        return data;
+    }
+}
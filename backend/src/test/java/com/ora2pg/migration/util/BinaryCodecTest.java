@@ -0,0 +1,70 @@
+package com.ora2pg.migration.util;
+
+import oracle.sql.RAW;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryCodecTest {
+    
+    @Test
+    void encodesLowercaseHex() {
+        assertThat(BinaryCodec.encodeHex(new byte[] {0x00, 0x0f, (byte) 0xab, (byte) 0xff})).isEqualTo("000fabff");
+        assertThat(BinaryCodec.encodeHex(new byte[0])).isEmpty();
+    }
+    
+    @Test
+    void decodesEitherCase() {
+        assertThat(BinaryCodec.decodeHex("2B2d0aFF")).containsExactly(0x2b, 0x2d, 0x0a, 0xff);
+        assertThat(BinaryCodec.decodeHex("")).isEmpty();
+    }
+    
+    @Test
+    void roundTripsRandomBytes() {
+        Random random = new Random(42);
+        for (int length = 0; length < 300; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String hex = BinaryCodec.encodeHex(bytes);
+            assertThat(BinaryCodec.decodeHex(hex)).isEqualTo(bytes);
+            assertThat(BinaryCodec.decodeHex(hex.toUpperCase())).isEqualTo(bytes);
+        }
+    }
+    
+    @Test
+    void readsOddLengthAsIfPaddedWithLeadingZero() {
+        assertThat(BinaryCodec.decodeHex("abc")).containsExactly(0x0a, 0xbc);
+        assertThat(BinaryCodec.decodeHex("f")).containsExactly(0x0f);
+    }
+    
+    @Test
+    void ignoresWhitespace() {
+        assertThat(BinaryCodec.decodeHex("0a bc\n\t12\r")).containsExactly(0x0a, 0xbc, 0x12);
+        assertThat(BinaryCodec.decodeHex("a b\nc")).containsExactly(0x0a, 0xbc);
+        assertThat(BinaryCodec.decodeHex("  ")).isEmpty();
+    }
+    
+    @Test
+    void rejectsInvalidCharacters() {
+        assertThatThrownBy(() -> BinaryCodec.decodeHex("0g"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'g'");
+        assertThatThrownBy(() -> BinaryCodec.decodeHex("abc-"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BinaryCodec.decodeHex("éa"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void convertsColumnValuesToBytes() {
+        byte[] bytes = {1, 2, 3};
+        assertThat(BinaryCodec.toBytes(null)).isNull();
+        assertThat(BinaryCodec.toBytes(bytes)).isSameAs(bytes);
+        assertThat(BinaryCodec.toBytes(new RAW(bytes))).containsExactly(1, 2, 3);
+        assertThat(BinaryCodec.toBytes("010203")).containsExactly(1, 2, 3);
+        assertThat(BinaryCodec.toBytes(new StringBuilder("0102"))).containsExactly(1, 2);
+    }
+}
@@ -22,6 +22,14 @@ const defaultSettings: AppSettings = {
   parallelJobs: 4,
   batchSize: 10000,
   commitInterval: 5000,
+  countStrategy: "statistics",
+  countSamplePercent: 1,
+  indexBuildWorkers: 4,
+  maintenanceWorkMem: "1GB",
+  lobStreamThresholdKb: 1024,
+  lobBatchMemoryMb: 64,
+  oracleNativeAccessors: false,
+  columnarBatches: false,
   smtpEnabled: false,
   smtpHost: "",
   smtpPort: 587,
@@ -41,7 +49,20 @@ const defaultSettings: AppSettings = {
   maxErrors: 100,
   autoCommit: false,
   columnNamingStrategy: "lowercase",
+  inlineFingerprints: true,
+  fastLoad: false,
+  unloggedLoad: false,
+  partitionedTargets: false,
+  stagedChunkLoad: false,
+  lobSecondPass: false,
+  lobPassWorkers: 4,
+  lobPrefetchSize: 32768,
+  postLoadAnalyze: true,
+  postLoadVacuumFreeze: false,
+  syncSequences: true,
   tableNameFilter: "",
+  numericTypeInference: false,
+  numericProfileSampleRows: 100000,
 }
 
 export function SettingsDialog({
@@ -140,6 +161,122 @@ export function SettingsDialog({
                 />
                 <p className="text-xs text-muted-foreground">Number of rows before committing transaction</p>
               </div>
+
+              <div className="space-y-2">
+                <Label htmlFor="lobStreamThresholdKb">LOB Stream Threshold (KB)</Label>
+                <Input
+                  id="lobStreamThresholdKb"
+                  type="number"
+                  min={1}
+                  value={localSettings.lobStreamThresholdKb ?? 1024}
+                  onChange={(e) => updateSetting("lobStreamThresholdKb", Number.parseInt(e.target.value) || 1024)}
+                  className="bg-input border-border"
+                />
+                <p className="text-xs text-muted-foreground">Larger LOBs are streamed to the target and flushed in their own batch</p>
+              </div>
+
+              <div className="space-y-2">
+                <Label htmlFor="lobBatchMemoryMb">LOB Batch Memory (MB)</Label>
+                <Input
+                  id="lobBatchMemoryMb"
+                  type="number"
+                  min={1}
+                  value={localSettings.lobBatchMemoryMb ?? 64}
+                  onChange={(e) => updateSetting("lobBatchMemoryMb", Number.parseInt(e.target.value) || 64)}
+                  className="bg-input border-border"
+                />
+                <p className="text-xs text-muted-foreground">A batch is flushed early once its LOB data reaches this size</p>
+              </div>
+
+              <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+                <div>
+                  <Label>Native Oracle Accessors</Label>
+                  <p className="text-xs text-muted-foreground">
+                    Decode NUMBER and DATE values from their Oracle byte form straight to integers, doubles and timestamps; other values use the regular conversion.
+                  </p>
+                </div>
+                <Switch
+                  checked={localSettings.oracleNativeAccessors === true}
+                  onCheckedChange={(checked) => updateSetting("oracleNativeAccessors", checked)}
+                />
+              </div>
+
+              <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+                <div>
+                  <Label>Columnar Batches</Label>
+                  <p className="text-xs text-muted-foreground">
+                    Read each insert batch into reused column vectors before binding it. Applies to tables of number, date, character and RAW columns; tables with LOB or LONG columns are copied row by row.
+                  </p>
+                </div>
+                <Switch
+                  checked={localSettings.columnarBatches === true}
+                  onCheckedChange={(checked) => updateSetting("columnarBatches", checked)}
+                />
+              </div>
+
+              <div className="space-y-2">
+                <Label>Row Count Strategy</Label>
+                <Select
+                  value={localSettings.countStrategy || "statistics"}
+                  onValueChange={(value: AppSettings["countStrategy"]) =>
+                    updateSetting("countStrategy", value || "statistics")
+                  }
+                >
+                  <SelectTrigger className="bg-input border-border">
+                    <SelectValue />
+                  </SelectTrigger>
+                  <SelectContent>
+                    <SelectItem value="statistics">Statistics (optimizer estimate, instant)</SelectItem>
+                    <SelectItem value="sampled">Sampled (scan a fraction of blocks)</SelectItem>
+                    <SelectItem value="exact">Exact (COUNT(*), full scan)</SelectItem>
+                  </SelectContent>
+                </Select>
+                <p className="text-xs text-muted-foreground">
+                  Used for discovery and progress totals. Validation always uses exact counts.
+                </p>
+              </div>
+
+              {localSettings.countStrategy === "sampled" && (
+                <div className="space-y-2">
+                  <Label htmlFor="countSamplePercent">Sample Percent</Label>
+                  <Input
+                    id="countSamplePercent"
+                    type="number"
+                    min={0.001}
+                    max={100}
+                    step={0.1}
+                    value={localSettings.countSamplePercent ?? 1}
+                    onChange={(e) => updateSetting("countSamplePercent", Number.parseFloat(e.target.value) || 1)}
+                    className="bg-input border-border"
+                  />
+                  <p className="text-xs text-muted-foreground">Percentage of table blocks read by sampled counts</p>
+                </div>
+              )}
+
+              <div className="space-y-2">
+                <Label htmlFor="indexBuildWorkers">Index Build Workers</Label>
+                <Input
+                  id="indexBuildWorkers"
+                  type="number"
+                  min={1}
+                  max={32}
+                  value={localSettings.indexBuildWorkers ?? 4}
+                  onChange={(e) => updateSetting("indexBuildWorkers", Number.parseInt(e.target.value) || 1)}
+                  className="bg-input border-border"
+                />
+                <p className="text-xs text-muted-foreground">Tables whose indexes and constraints are built in parallel when applying DDL</p>
+              </div>
+
+              <div className="space-y-2">
+                <Label htmlFor="maintenanceWorkMem">Index Build Memory</Label>
+                <Input
+                  id="maintenanceWorkMem"
+                  value={localSettings.maintenanceWorkMem ?? "1GB"}
+                  onChange={(e) => updateSetting("maintenanceWorkMem", e.target.value)}
+                  className="bg-input border-border"
+                />
+                <p className="text-xs text-muted-foreground">maintenance_work_mem of each index build session (e.g. 512MB, 1GB)</p>
+              </div>
             </div>
           </TabsContent>
 
@@ -309,6 +446,32 @@ export function SettingsDialog({
                 SQL LIKE pattern for filtering tables during discovery. Use % as wildcard. Example: TRADE_% to discover only tables starting with TRADE_
               </p>
             </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Infer Numeric Types</Label>
+                <p className="text-xs text-muted-foreground">
+                  During auto-map, sample NUMBER columns without precision and propose SMALLINT, INTEGER, BIGINT or DOUBLE PRECISION instead of NUMERIC. Key and identity columns are never narrowed below BIGINT.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.numericTypeInference === true}
+                onCheckedChange={(checked) => updateSetting("numericTypeInference", checked)}
+              />
+            </div>
+
+            <div className="space-y-2">
+              <Label htmlFor="numericProfileSampleRows">Numeric Profile Sample Rows</Label>
+              <Input
+                id="numericProfileSampleRows"
+                type="number"
+                min={1000}
+                value={localSettings.numericProfileSampleRows ?? 100000}
+                onChange={(e) => updateSetting("numericProfileSampleRows", Number.parseInt(e.target.value) || 100000)}
+                className="bg-input border-border"
+              />
+              <p className="text-xs text-muted-foreground">Approximate rows sampled per table when inferring numeric types</p>
+            </div>
           </TabsContent>
 
           {/* Migration Tab */}
@@ -386,6 +549,154 @@ export function SettingsDialog({
               />
             </div>
 
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Inline Fingerprints</Label>
+                <p className="text-xs text-muted-foreground">
+                  Fingerprint source rows per chunk while copying, so validation only has to read the target.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.inlineFingerprints !== false}
+                onCheckedChange={(checked) => updateSetting("inlineFingerprints", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Fast Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Drop existing target indexes and keys before loading and rebuild them in parallel afterwards.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.fastLoad === true}
+                onCheckedChange={(checked) => updateSetting("fastLoad", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Unlogged Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Load into UNLOGGED target tables and switch them back to LOGGED one at a time once indexes are built.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.unloggedLoad === true}
+                onCheckedChange={(checked) => updateSetting("unloggedLoad", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Partitioned Targets</Label>
+                <p className="text-xs text-muted-foreground">
+                  Recreate Oracle range, list and hash partitioning on the target and load each partition in parallel into its own child table.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.partitionedTargets === true}
+                onCheckedChange={(checked) => updateSetting("partitionedTargets", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Staged Chunk Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Range partition chunked tables on the chunk column; each chunk loads into an unlogged staging table, is indexed, and is attached as a partition.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.stagedChunkLoad === true}
+                onCheckedChange={(checked) => updateSetting("stagedChunkLoad", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Two-Pass LOB Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Load all non-LOB columns first, then fill nullable CLOB and BLOB columns in a separate parallel pass matched on the primary key.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.lobSecondPass === true}
+                onCheckedChange={(checked) => updateSetting("lobSecondPass", checked)}
+              />
+            </div>
+
+            {localSettings.lobSecondPass && (
+              <div className="grid grid-cols-2 gap-4">
+                <div className="space-y-2">
+                  <Label htmlFor="lobPassWorkers">LOB Pass Workers</Label>
+                  <Input
+                    id="lobPassWorkers"
+                    type="number"
+                    min={1}
+                    max={32}
+                    value={localSettings.lobPassWorkers ?? 4}
+                    onChange={(e) => updateSetting("lobPassWorkers", Number.parseInt(e.target.value) || 4)}
+                    className="bg-input border-border"
+                  />
+                  <p className="text-xs text-muted-foreground">Parallel slices per table in the LOB pass</p>
+                </div>
+
+                <div className="space-y-2">
+                  <Label htmlFor="lobPrefetchSize">LOB Prefetch Size (bytes)</Label>
+                  <Input
+                    id="lobPrefetchSize"
+                    type="number"
+                    min={0}
+                    value={localSettings.lobPrefetchSize ?? 32768}
+                    onChange={(e) => updateSetting("lobPrefetchSize", Number.parseInt(e.target.value) || 0)}
+                    className="bg-input border-border"
+                  />
+                  <p className="text-xs text-muted-foreground">LOB data Oracle returns with each row instead of a separate round trip</p>
+                </div>
+              </div>
+            )}
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Analyze After Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Collect planner statistics for the loaded tables once the migration completes.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.postLoadAnalyze !== false}
+                onCheckedChange={(checked) => updateSetting("postLoadAnalyze", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Vacuum Freeze After Load</Label>
+                <p className="text-xs text-muted-foreground">
+                  Freeze the loaded rows so they do not trigger anti-wraparound vacuums later.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.postLoadVacuumFreeze === true}
+                onCheckedChange={(checked) => updateSetting("postLoadVacuumFreeze", checked)}
+              />
+            </div>
+
+            <div className="flex items-center justify-between p-3 bg-muted/30 rounded-lg">
+              <div>
+                <Label>Sync Sequences</Label>
+                <p className="text-xs text-muted-foreground">
+                  Reset sequences to the highest value of the columns they feed after the load.
+                </p>
+              </div>
+              <Switch
+                checked={localSettings.syncSequences !== false}
+                onCheckedChange={(checked) => updateSetting("syncSequences", checked)}
+              />
+            </div>
+
             <div className="space-y-2">
               <Label>Column Naming Strategy</Label>
               <Select
@@ -256,6 +256,9 @@ export function TableMappingView({ projectId, appSettings }: TableMappingProps)
             columns: t.columnMappings.map(c => ({
               columnName: c.sourceColumn,
               dataType: c.sourceDataType,
+              dataLength: c.sourceDataLength,
+              dataPrecision: c.sourceDataPrecision,
+              dataScale: c.sourceDataScale,
               nullable: c.nullable,
               isPrimaryKey: c.isPrimaryKey,
               isForeignKey: c.isForeignKey,
@@ -270,7 +273,8 @@ export function TableMappingView({ projectId, appSettings }: TableMappingProps)
 
       const result = await apiService.autoMapTables(
         sourceTables,
-        project.targetConnection.schema || "public"
+        project.targetConnection.schema || "public",
+        project.sourceConnection
       )
       if (result.data) {
         const mappings = result.data as TableMapping[]
@@ -968,7 +972,10 @@ export function TableMappingView({ projectId, appSettings }: TableMappingProps)
                             ) : (
                               <>
                                 <div className="col-span-3 font-mono text-foreground">{col.targetColumn}</div>
-                                <div className="col-span-2 font-mono text-xs text-postgres">{col.targetDataType}</div>
+                                <div className="col-span-2 font-mono text-xs text-postgres" title={col.typeEvidence}>
+                                  {col.targetDataType}
+                                  {col.typeEvidence && <span className="ml-1 text-muted-foreground">*</span>}
+                                </div>
                                 <div className="col-span-1 flex items-center gap-1">
                                   {!col.nullable && (
                                     <span className="px-1 py-0.5 text-[10px] bg-destructive/20 text-destructive rounded">
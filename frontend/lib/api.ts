@@ -125,17 +125,43 @@ class ApiService {
   }
 
   // Database
-  async discoverTables(connection: any, schema: string, tableNameFilter?: string) {
+  async discoverTables(connection: any, schema: string, tableNameFilter?: string, includeRowCounts = true) {
     return this.request('/database/discover-tables', {
       method: 'POST',
-      body: JSON.stringify({ connection, schema, tableNameFilter }),
+      body: JSON.stringify({ connection, schema, tableNameFilter, includeRowCounts }),
     });
   }
 
-  async autoMapTables(sourceTables: any[], targetSchema: string) {
+  async discoverTablesPage(
+    connection: any,
+    schema: string,
+    options?: { tableNameFilter?: string; namePrefix?: string; offset?: number; limit?: number; includeRowCounts?: boolean }
+  ) {
+    return this.request('/database/discover-tables/page', {
+      method: 'POST',
+      body: JSON.stringify({
+        connection,
+        schema,
+        tableNameFilter: options?.tableNameFilter,
+        namePrefix: options?.namePrefix,
+        offset: options?.offset ?? 0,
+        limit: options?.limit ?? 100,
+        includeRowCounts: options?.includeRowCounts ?? true,
+      }),
+    });
+  }
+
+  async refreshMetadataCache(connection: any, schema: string) {
+    return this.request('/database/metadata-cache/refresh', {
+      method: 'POST',
+      body: JSON.stringify({ connection, schema }),
+    });
+  }
+
+  async autoMapTables(sourceTables: any[], targetSchema: string, connection?: any) {
     return this.request('/database/auto-map', {
       method: 'POST',
-      body: JSON.stringify({ sourceTables, targetSchema }),
+      body: JSON.stringify({ sourceTables, targetSchema, connection }),
     });
   }
 
@@ -378,6 +404,7 @@ class ApiService {
     tableNames?: string[];
     algorithm?: string;
     columnsToInclude?: string[];
+    mode?: 'stream' | 'aggregate';
   }) {
     return this.request('/validation/checksum/' + projectId, {
       method: 'POST',
@@ -385,10 +412,97 @@ class ApiService {
         tableNames: options?.tableNames || null,
         algorithm: options?.algorithm || 'MD5',
         columnsToInclude: options?.columnsToInclude || null,
+        mode: options?.mode || 'stream',
+      }),
+    });
+  }
+
+  async compareColumnProfiles(projectId: string, tableNames?: string[], columnsToInclude?: string[]) {
+    return this.request('/validation/profile/' + projectId, {
+      method: 'POST',
+      body: JSON.stringify({
+        tableNames: tableNames || null,
+        columnsToInclude: columnsToInclude || null,
+      }),
+    });
+  }
+
+  async validateFingerprints(projectId: string, tableNames?: string[]) {
+    return this.request('/validation/fingerprints/' + projectId, {
+      method: 'POST',
+      body: JSON.stringify({ tableNames: tableNames || null }),
+    });
+  }
+
+  async validateBuckets(projectId: string, options?: {
+    tableNames?: string[];
+    columnsToInclude?: string[];
+    bucketCount?: number;
+    leafSize?: number;
+    maxDepth?: number;
+    parallelism?: number;
+    ranges?: { table?: string; startKey: number; endKey: number }[];
+  }) {
+    return this.request('/validation/buckets/' + projectId, {
+      method: 'POST',
+      body: JSON.stringify({
+        tableNames: options?.tableNames || null,
+        columnsToInclude: options?.columnsToInclude || null,
+        bucketCount: options?.bucketCount,
+        leafSize: options?.leafSize,
+        maxDepth: options?.maxDepth,
+        parallelism: options?.parallelism,
+        ranges: options?.ranges || null,
+      }),
+    });
+  }
+
+  async validateSample(projectId: string, options?: {
+    tableNames?: string[];
+    columnsToInclude?: string[];
+    sampleSize?: number;
+    batchSize?: number;
+    method?: 'block' | 'keyrange';
+    confidenceLevel?: number;
+    seed?: number;
+  }) {
+    return this.request('/validation/sample/' + projectId, {
+      method: 'POST',
+      body: JSON.stringify({
+        tableNames: options?.tableNames || null,
+        columnsToInclude: options?.columnsToInclude || null,
+        sampleSize: options?.sampleSize,
+        batchSize: options?.batchSize,
+        method: options?.method || 'block',
+        confidenceLevel: options?.confidenceLevel,
+        seed: options?.seed,
+      }),
+    });
+  }
+
+  async startRowDiff(projectId: string, options?: {
+    tableNames?: string[];
+    columnsToInclude?: string[];
+    fetchSize?: number;
+    sampleSize?: number;
+    ranges?: { table?: string; startKey: number; endKey: number }[];
+  }) {
+    return this.request('/validation/diff/' + projectId, {
+      method: 'POST',
+      body: JSON.stringify({
+        tableNames: options?.tableNames || null,
+        columnsToInclude: options?.columnsToInclude || null,
+        fetchSize: options?.fetchSize,
+        sampleSize: options?.sampleSize,
+        ranges: options?.ranges || null,
       }),
     });
   }
 
+  async getRowDiffJob(jobId: string) {
+    return this.request('/validation/diff/jobs/' + jobId);
+  }
+
   async performDryRun(projectId: string, tableNames?: string[]) {
     return this.request('/validation/dry-run/' + projectId, {
       method: 'POST',
@@ -401,14 +515,22 @@ class ApiService {
     algorithm?: string;
     columnsToInclude?: string[];
     includeDryRun?: boolean;
+    includeColumnProfile?: boolean;
+    checksumMode?: 'stream' | 'aggregate';
+    sourceConcurrency?: number;
+    targetConcurrency?: number;
   }) {
     return this.request('/validation/all/' + projectId, {
       method: 'POST',
       body: JSON.stringify({
         tableNames: options?.tableNames || null,
         checksumAlgorithm: options?.algorithm || 'MD5',
+        checksumMode: options?.checksumMode || 'stream',
         columnsToInclude: options?.columnsToInclude || null,
         includeDryRun: options?.includeDryRun !== false,
+        includeColumnProfile: options?.includeColumnProfile === true,
+        sourceConcurrency: options?.sourceConcurrency || null,
+        targetConcurrency: options?.targetConcurrency || null,
       }),
     });
   }
@@ -469,6 +591,42 @@ class ApiService {
       }),
     });
   }
+
+  async startSchemaApply(projectId: string, options?: {
+    targetSchema?: string;
+    tableNames?: string[];
+    includeSequences?: boolean;
+    createTables?: boolean;
+    loadData?: boolean;
+    includeIndexes?: boolean;
+    includeConstraints?: boolean;
+    includeViews?: boolean;
+    indexWorkers?: number;
+    maintenanceWorkMem?: string;
+    stopOnError?: boolean;
+  }) {
+    return this.request('/schema/apply', {
+      method: 'POST',
+      body: JSON.stringify({
+        projectId,
+        targetSchema: options?.targetSchema || 'public',
+        tableNames: options?.tableNames || null,
+        includeSequences: options?.includeSequences !== false,
+        createTables: options?.createTables !== false,
+        loadData: options?.loadData || false,
+        includeIndexes: options?.includeIndexes !== false,
+        includeConstraints: options?.includeConstraints !== false,
+        includeViews: options?.includeViews !== false,
+        indexWorkers: options?.indexWorkers,
+        maintenanceWorkMem: options?.maintenanceWorkMem,
+        stopOnError: options?.stopOnError || false,
+      }),
+    });
+  }
+
+  async getSchemaApplyJob(jobId: string) {
+    return this.request('/schema/apply/jobs/' + jobId);
+  }
 }
 
 export const apiService = new ApiService();
@@ -57,6 +57,7 @@ export interface ColumnMapping {
   nullable: boolean
   isPrimaryKey: boolean
   isForeignKey: boolean
+  typeEvidence?: string // sampled data behind an inferred target type
 }
 
 export interface DataTypeMapping {
@@ -102,6 +103,14 @@ export interface AppSettings {
   parallelJobs: number
   batchSize: number
   commitInterval: number
+  countStrategy?: "exact" | "statistics" | "sampled" // how progress totals and discovery count rows
+  countSamplePercent?: number
+  indexBuildWorkers?: number // parallel index/constraint builds when applying schema DDL
+  maintenanceWorkMem?: string // e.g. "1GB"
+  lobStreamThresholdKb?: number // LOBs above this size are streamed in their own batch
+  lobBatchMemoryMb?: number // LOB data buffered per insert batch
+  oracleNativeAccessors?: boolean // decode NUMBER and DATE from their Oracle byte form
+  columnarBatches?: boolean // read insert batches into reused column vectors
 
   // SMTP Configuration
   smtpEnabled: boolean
@@ -127,7 +136,20 @@ export interface AppSettings {
   maxErrors: number
   autoCommit: boolean
   columnNamingStrategy?: "lowercase" | "uppercase" | "original" | "camelCase" | "snake_case" | "pascalCase"
+  inlineFingerprints?: boolean // record per-chunk source fingerprints while copying
+  fastLoad?: boolean // drop target indexes/keys during load, rebuild afterwards
+  unloggedLoad?: boolean // load into UNLOGGED tables, SET LOGGED afterwards
+  partitionedTargets?: boolean // recreate Oracle partitioning on the target
+  stagedChunkLoad?: boolean // load chunks into staging tables attached as partitions
+  lobSecondPass?: boolean // load LOB columns in a second pass keyed by primary key
+  lobPassWorkers?: number // parallel workers per table in the LOB pass
+  lobPrefetchSize?: number // Oracle LOB prefetch size in bytes
+  postLoadAnalyze?: boolean // ANALYZE loaded tables after the migration
+  postLoadVacuumFreeze?: boolean // VACUUM (FREEZE) loaded tables after the migration
+  syncSequences?: boolean // reset sequences to max(column) + 1
   
   // Table Discovery
   tableNameFilter?: string // SQL LIKE pattern for filtering tables (e.g., "TBL_%")
+  numericTypeInference?: boolean // infer integer/double types for unconstrained NUMBER during auto-map
+  numericProfileSampleRows?: number // rows sampled per table for numeric type inference
 }